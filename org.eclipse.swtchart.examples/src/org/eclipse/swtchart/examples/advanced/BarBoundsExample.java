@@ -15,7 +15,6 @@ package org.eclipse.swtchart.examples.advanced;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.MouseEvent;
 import org.eclipse.swt.events.MouseMoveListener;
-import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.layout.FillLayout;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Display;
@@ -83,14 +82,10 @@ public class BarBoundsExample {
 			public void mouseMove(MouseEvent e) {
 
 				for(ISeries<?> series : chart.getSeriesSet().getSeries()) {
-					Rectangle[] rs = ((IBarSeries<?>)series).getBounds();
-					for(int i = 0; i < rs.length; i++) {
-						if(rs[i] != null) {
-							if(rs[i].x < e.x && e.x < rs[i].x + rs[i].width && rs[i].y < e.y && e.y < rs[i].y + rs[i].height) {
-								setToolTipText(series, i);
-								return;
-							}
-						}
+					int index = ((IBarSeries<?>)series).getBarIndex(e.x, e.y);
+					if(index != -1) {
+						setToolTipText(series, index);
+						return;
 					}
 				}
 				chart.getPlotArea().setToolTipText(null);
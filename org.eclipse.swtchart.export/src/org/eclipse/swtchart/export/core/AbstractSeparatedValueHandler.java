@@ -21,7 +21,6 @@ import java.text.DecimalFormat;
 import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.jface.window.Window;
 import org.eclipse.swt.SWT;
-import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.widgets.FileDialog;
 import org.eclipse.swt.widgets.Shell;
 import org.eclipse.swtchart.ISeries;
@@ -150,13 +149,14 @@ public abstract class AbstractSeparatedValueHandler extends AbstractSeriesExport
 		double[] xSeries = dataSeries.getXSeries();
 		double[] ySeries = dataSeries.getYSeries();
 		int size = dataSeries.getXSeries().length;
+		int[] pixelCoordinates = dataSeries.getPixelCoordinates();
 		//
 		for(int i = 0; i < size; i++) {
 			/*
 			 * Only export if the data point is visible.
 			 */
-			Point point = dataSeries.getPixelCoordinates(i);
-			if(point.x >= 0 && point.x <= widthPlotArea) {
+			int pointX = pixelCoordinates[i * 2];
+			if(pointX >= 0 && pointX <= widthPlotArea) {
 				printValue(printWriter, xSeries[i], indexAxisX, BaseChart.ID_PRIMARY_X_AXIS, decimalFormatX, axisScaleConverterX);
 				printWriter.print(delimiter);
 				printValue(printWriter, ySeries[i], indexAxisY, BaseChart.ID_PRIMARY_Y_AXIS, decimalFormatY, axisScaleConverterY);
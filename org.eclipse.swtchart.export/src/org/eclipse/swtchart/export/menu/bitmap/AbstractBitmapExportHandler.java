@@ -17,12 +17,7 @@ import org.eclipse.jface.window.Window;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
-import org.eclipse.swt.graphics.Rectangle;
-import org.eclipse.swt.widgets.Composite;
-import org.eclipse.swt.widgets.Display;
-import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.FileDialog;
-import org.eclipse.swt.widgets.Listener;
 import org.eclipse.swt.widgets.Shell;
 import org.eclipse.swtchart.export.core.AbstractSeriesExportHandler;
 import org.eclipse.swtchart.export.core.BitmapExportSettingsDialog;
@@ -100,40 +95,11 @@ public abstract class AbstractBitmapExportHandler extends AbstractSeriesExportHa
 
 	private void exportCustomSize(BaseChart baseChart, String fileName, int width, int height) {
 
-		Composite parent = baseChart.getParent();
-		Rectangle bounds = baseChart.getBounds();
 		/*
-		 * Size Image / Save
+		 * Render off-screen, the chart on screen is not touched.
 		 */
-		Display display = Display.getDefault();
-		Shell imageShell = new Shell(display);
-		Rectangle imageBounds = imageShell.computeTrim(0, 0, width, height);
-		imageShell.setSize(imageBounds.width, imageBounds.height);
-		imageShell.setLocation(0, 0);
-		imageShell.setBackground(Display.getDefault().getSystemColor(SWT.COLOR_WHITE));
-		imageShell.addListener(SWT.Paint, new Listener() {
-
-			@Override
-			public void handleEvent(Event event) {
-
-				baseChart.setParent(imageShell);
-				baseChart.setBounds(0, 0, width, height);
-				baseChart.updateLayout();
-			}
-		});
-		//
-		imageShell.open();
-		while(!imageShell.isDisposed()) {
-			if(!display.readAndDispatch()) {
-				display.sleep();
-				ImageSupplier imageSupplier = new ImageSupplier();
-				ImageData imageData = imageSupplier.getImageData(baseChart);
-				imageSupplier.saveImage(imageData, fileName, format);
-				baseChart.setParent(parent);
-				baseChart.setBounds(bounds);
-				baseChart.updateLayout();
-				imageShell.close();
-			}
-		}
+		ImageSupplier imageSupplier = new ImageSupplier();
+		ImageData imageData = imageSupplier.getImageData(baseChart, width, height, 100);
+		imageSupplier.saveImage(imageData, fileName, format);
 	}
 }
\ No newline at end of file
@@ -26,7 +26,6 @@ import org.eclipse.jface.window.Window;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Image;
-import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.widgets.FileDialog;
 import org.eclipse.swt.widgets.Shell;
 import org.eclipse.swtchart.ILineSeries;
@@ -402,13 +401,14 @@ public class RScriptExportHandler extends AbstractSeriesExportHandler implements
 		double[] xSeries = dataSeries.getXSeries();
 		double[] ySeries = dataSeries.getYSeries();
 		int size = dataSeries.getXSeries().length;
+		int[] pixelCoordinates = dataSeries.getPixelCoordinates();
 		//
 		for(int i = 0; i < size; i++) {
 			/*
 			 * Only export if the data point is visible.
 			 */
-			Point point = dataSeries.getPixelCoordinates(i);
-			if(point.x >= 0 && point.x <= widthPlotArea) {
+			int pointX = pixelCoordinates[i * 2];
+			if(pointX >= 0 && pointX <= widthPlotArea) {
 				printValueLinePlot(AXIS_X, index, printWriter, xSeries[i], indexAxisX, BaseChart.ID_PRIMARY_X_AXIS, axisScaleConverterX);
 				printValueLinePlot(AXIS_Y, index, printWriter, ySeries[i], indexAxisY, BaseChart.ID_PRIMARY_Y_AXIS, axisScaleConverterY);
 			}
@@ -491,13 +491,14 @@ public class RScriptExportHandler extends AbstractSeriesExportHandler implements
 		double[] xSeries = dataSeries.getXSeries();
 		double[] ySeries = dataSeries.getYSeries();
 		int size = dataSeries.getXSeries().length;
+		int[] pixelCoordinates = dataSeries.getPixelCoordinates();
 		//
 		for(int i = 0; i < size; i++) {
 			/*
 			 * Only export if the data point is visible.
 			 */
-			Point point = dataSeries.getPixelCoordinates(i);
-			if(point.x >= 0 && point.x <= widthPlotArea) {
+			int pointX = pixelCoordinates[i * 2];
+			if(pointX >= 0 && pointX <= widthPlotArea) {
 				boolean isPrimaryAxis = (indexAxisX == BaseChart.ID_PRIMARY_X_AXIS);
 				printValueBarPlot(printWriter, xSeries[i], ySeries[i], isPrimaryAxis, axisScaleConverterX, axisScaleConverterY);
 			}
@@ -17,7 +17,6 @@ package org.eclipse.swtchart.export.menu.vector;
 import java.util.regex.Pattern;
 
 import org.eclipse.swt.graphics.Color;
-import org.eclipse.swt.graphics.Point;
 import org.eclipse.swtchart.IAxis;
 import org.eclipse.swtchart.IAxisSet;
 import org.eclipse.swtchart.ILineSeries;
@@ -44,6 +43,7 @@ public abstract class AbstractInkscapeLineChart extends AbstractInkscapeTemplate
 		double[] ySeries = dataSeries.getYSeries();
 		String split[] = data.toString().split(SPLIT_LINE_DELIMITER);
 		int size = dataSeries.getXSeries().length;
+		int[] pixelCoordinates = dataSeries.getPixelCoordinates();
 		//
 		String match1 = ".*%COLOR%.*";
 		String match2 = ".*%x-coordinate%.*";
@@ -52,8 +52,9 @@ public abstract class AbstractInkscapeLineChart extends AbstractInkscapeTemplate
 			/*
 			 * Only export if the data point is visible.
 			 */
-			Point point = dataSeries.getPixelCoordinates(i);
-			if((point.x >= 0 && point.x <= widthPlotArea) && (point.y >= 0 && point.y <= heightPlotArea)) {
+			int pointX = pixelCoordinates[i * 2];
+			int pointY = pixelCoordinates[i * 2 + 1];
+			if((pointX >= 0 && pointX <= widthPlotArea) && (pointY >= 0 && pointY <= heightPlotArea)) {
 				double x = Double.parseDouble(printValueScatterPlot(AXIS_X, index, xSeries[i], indexAxisX, axisSet, BaseChart.ID_PRIMARY_X_AXIS, axisScaleConverterX, isReversedX, isReversedY));
 				double y = Double.parseDouble(printValueScatterPlot(AXIS_Y, index, ySeries[i], indexAxisY, axisSet, BaseChart.ID_PRIMARY_Y_AXIS, axisScaleConverterY, isReversedX, isReversedY));
 				for(String string : split) {
@@ -20,7 +20,6 @@ import java.text.DecimalFormat;
 import java.util.regex.Pattern;
 
 import org.eclipse.swt.graphics.Color;
-import org.eclipse.swt.graphics.Point;
 import org.eclipse.swtchart.IAxis;
 import org.eclipse.swtchart.IAxisSet;
 import org.eclipse.swtchart.IBarSeries;
@@ -279,6 +278,7 @@ public class InkscapeBarChart extends AbstractInkscapeTemplate {
 		double[] ySeries = dataSeries.getYSeries();
 		String split[] = data.toString().split("\\n");
 		int size = dataSeries.getXSeries().length;
+		int[] pixelCoordinates = dataSeries.getPixelCoordinates();
 		//
 		String match1 = ".*%COLOR%.*";
 		String match2 = ".*%x-coordinate%.*";
@@ -288,8 +288,8 @@ public class InkscapeBarChart extends AbstractInkscapeTemplate {
 			/*
 			 * Only export if the data point is visible.
 			 */
-			Point point = dataSeries.getPixelCoordinates(i);
-			if((point.x >= 0 && point.x <= widthPlotArea)) {
+			int pointX = pixelCoordinates[i * 2];
+			if((pointX >= 0 && pointX <= widthPlotArea)) {
 				double offset = 0.25;
 				double x = Double.parseDouble(printValueBarPlot(AXIS_X, index, xSeries[i], indexAxisX, axisSet, BaseChart.ID_PRIMARY_X_AXIS, axisScaleConverterX, isReversedX, isReversedY));
 				double y = Double.parseDouble(printValueBarPlot(AXIS_Y, index, ySeries[i], indexAxisY, axisSet, BaseChart.ID_PRIMARY_Y_AXIS, axisScaleConverterY, isReversedX, isReversedY));
@@ -20,7 +20,6 @@ import java.text.DecimalFormat;
 import java.util.regex.Pattern;
 
 import org.eclipse.swt.graphics.Color;
-import org.eclipse.swt.graphics.Point;
 import org.eclipse.swtchart.IAxis;
 import org.eclipse.swtchart.IAxisSet;
 import org.eclipse.swtchart.ILineSeries;
@@ -415,6 +414,7 @@ public class InkscapeLineChart extends AbstractInkscapeLineChart {
 		double[] ySeries = dataSeries.getYSeries();
 		String split[] = data.toString().split(SPLIT_LINE_DELIMITER);
 		int size = dataSeries.getXSeries().length;
+		int[] pixelCoordinates = dataSeries.getPixelCoordinates();
 		//
 		String match1 = getRegularExpression(COLOR);
 		String match2 = getRegularExpression(DATA_POINTS);
@@ -427,8 +427,9 @@ public class InkscapeLineChart extends AbstractInkscapeLineChart {
 					/*
 					 * Only export if the data point is visible.
 					 */
-					Point point = dataSeries.getPixelCoordinates(i);
-					if((point.x >= 0 && point.x <= widthPlotArea) && (point.y >= 0 && point.y <= heightPlotArea)) {
+					int pointX = pixelCoordinates[i * 2];
+					int pointY = pixelCoordinates[i * 2 + 1];
+					if((pointX >= 0 && pointX <= widthPlotArea) && (pointY >= 0 && pointY <= heightPlotArea)) {
 						rep.append(printValueLinePlot(AXIS_X, index, xSeries[i], indexAxisX, axisSet, BaseChart.ID_PRIMARY_X_AXIS, axisScaleConverterX, isReversedX, isReversedY));
 						rep.append(",");
 						rep.append(printValueLinePlot(AXIS_Y, index, ySeries[i], indexAxisY, axisSet, BaseChart.ID_PRIMARY_Y_AXIS, axisScaleConverterY, isReversedX, isReversedY));
@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.extensions.core;
+
+import java.util.BitSet;
+import java.util.Map;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Event;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swtchart.IAxis;
+import org.eclipse.swtchart.ISeries;
+import org.eclipse.swtchart.ISeries.SeriesType;
+import org.eclipse.swtchart.Range;
+import org.eclipse.swtchart.internal.series.Series;
+
+import junit.framework.TestCase;
+
+public class BaseChart_1_UITest extends TestCase {
+
+	private Shell shell;
+	private BaseChart baseChart;
+	private ISeries<?> series;
+
+	@Override
+	protected void setUp() throws Exception {
+
+		super.setUp();
+		shell = new Shell(Display.getDefault());
+		shell.setSize(500, 400);
+		shell.setLayout(new FillLayout());
+		baseChart = new ScrollableChart(shell, SWT.NONE).getBaseChart();
+		series = baseChart.getSeriesSet().createSeries(SeriesType.LINE, "series");
+		series.setXSeries(new double[]{1, 2, 3, 4, 5});
+		series.setYSeries(new double[]{1, 2, 3, 4, 5});
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+
+		shell.dispose();
+		super.tearDown();
+	}
+
+	public void test1() {
+
+		/*
+		 * The factor is applied as a transform.
+		 */
+		baseChart.multiplySeries("series", IExtendedChart.Y_AXIS, 2);
+		assertTrue(((Series<?>)series).isDataTransformed());
+		assertEquals(10.0d, series.getYSeries()[4]);
+		assertEquals(5.0d, series.getXSeries()[4]);
+	}
+
+	public void test2() {
+
+		/*
+		 * A factor of 0 can't be applied as a transform.
+		 */
+		baseChart.multiplySeries("series", IExtendedChart.Y_AXIS, 0);
+		assertFalse(((Series<?>)series).isDataTransformed());
+		assertEquals(0.0d, series.getYSeries()[4]);
+		assertEquals(5.0d, series.getXSeries()[4]);
+	}
+
+	public void test3() {
+
+		baseChart.multiplySeries("series", IExtendedChart.Y_AXIS, 2);
+		baseChart.multiplySeries("series", IExtendedChart.X_AXIS, 0);
+		assertFalse(((Series<?>)series).isDataTransformed());
+		assertEquals(0.0d, series.getXSeries()[4]);
+		assertEquals(10.0d, series.getYSeries()[4]);
+	}
+
+	public void test4() {
+
+		/*
+		 * The limits of the selection history are applied with the settings.
+		 */
+		IChartSettings chartSettings = baseChart.getChartSettings();
+		chartSettings.setSelectionHistoryMaxEntries(5);
+		assertEquals(SelectionHistory.DEFAULT_MAX_ENTRIES, baseChart.getSelectionHistory().getMaxEntries());
+		baseChart.setChartSettings(chartSettings);
+		assertEquals(5, baseChart.getSelectionHistory().getMaxEntries());
+	}
+
+	public void test5() {
+
+		/*
+		 * Merging the steps of a shift doesn't modify a returned record.
+		 */
+		baseChart.shiftSeries("series", 1, 0);
+		double[] shift = baseChart.getDataShiftHistory("series").get(0);
+		baseChart.shiftSeries("series", 2, 0);
+		assertEquals(1.0d, shift[2]);
+		double shiftX = 0;
+		for(double[] record : baseChart.getDataShiftHistory("series")) {
+			shiftX += record[2];
+		}
+		assertEquals(3.0d, shiftX);
+	}
+
+	public void test6() {
+
+		/*
+		 * The index follows the stacked values and a reused series id.
+		 */
+		ISeries<?> stacked = createStackedSeries();
+		Map<String, BitSet> dataPoints = baseChart.getDataPointsInRange(new Range(0, 4), new Range(5.5, 6.5));
+		assertEquals(1, dataPoints.size());
+		assertEquals(4, dataPoints.get(stacked.getId()).nextSetBit(0));
+		/*
+		 * Changing the data of the series below changes the stacked values.
+		 */
+		series.setYSeries(new double[]{1, 1, 1, 1, 1});
+		dataPoints = baseChart.getDataPointsInRange(new Range(0, 4), new Range(1.5, 2.5));
+		assertEquals(1, dataPoints.size());
+		assertEquals(5, dataPoints.get(stacked.getId()).cardinality());
+		//
+		baseChart.deleteSeries(stacked.getId());
+		ISeries<?> other = baseChart.getSeriesSet().createSeries(SeriesType.LINE, stacked.getId());
+		other.setYSeries(new double[]{7, 7, 7, 7, 7});
+		dataPoints = baseChart.getDataPointsInRange(new Range(0, 4), new Range(6.5, 7.5));
+		assertEquals(1, dataPoints.size());
+		assertEquals(5, dataPoints.get(stacked.getId()).cardinality());
+	}
+
+	public void test7() {
+
+		/*
+		 * The range is queried with the stacked values.
+		 */
+		ISeries<?> stacked = createStackedSeries();
+		Map<String, BitSet> dataPoints = baseChart.getDataPointsInRange(new Range(0, 4), new Range(0.5, 1.5));
+		assertEquals(1, dataPoints.size());
+		assertEquals(0, dataPoints.get(series.getId()).nextSetBit(0));
+		dataPoints = baseChart.getDataPointsInRange(new Range(0, 4), new Range(2.5, 3.5));
+		assertEquals(2, dataPoints.size());
+		assertEquals(2, dataPoints.get(series.getId()).nextSetBit(0));
+		assertEquals(1, dataPoints.get(stacked.getId()).nextSetBit(0));
+		assertEquals(1, dataPoints.get(stacked.getId()).cardinality());
+	}
+
+	public void test8() {
+
+		/*
+		 * The notches are zoomed at once with a single undo entry.
+		 */
+		RangeRestriction rangeRestriction = baseChart.getChartSettings().getRangeRestriction();
+		rangeRestriction.setReferenceZoomZeroX(true);
+		rangeRestriction.setReferenceZoomZeroY(true);
+		IAxis xAxis = baseChart.getAxisSet().getXAxis(BaseChart.ID_PRIMARY_X_AXIS);
+		IAxis yAxis = baseChart.getAxisSet().getYAxis(BaseChart.ID_PRIMARY_Y_AXIS);
+		xAxis.setRange(new Range(-10, 10));
+		yAxis.setRange(new Range(-10, 10));
+		int undoSize = baseChart.getSelectionHistory().getUndoSize();
+		Event event = new Event();
+		event.count = 2;
+		baseChart.zoom(xAxis, yAxis, event);
+		assertEquals(undoSize + 1, baseChart.getSelectionHistory().getUndoSize());
+		assertEquals(-3.6d, xAxis.getRange().lower, 1.0E-9);
+		assertEquals(3.6d, xAxis.getRange().upper, 1.0E-9);
+		assertEquals(-3.6d, yAxis.getRange().lower, 1.0E-9);
+		assertEquals(3.6d, yAxis.getRange().upper, 1.0E-9);
+	}
+
+	private ISeries<?> createStackedSeries() {
+
+		IAxis xAxis = baseChart.getAxisSet().getXAxis(series.getXAxisId());
+		xAxis.setCategorySeries(new String[]{"A", "B", "C", "D", "E"});
+		xAxis.enableCategory(true);
+		ISeries<?> stacked = baseChart.getSeriesSet().createSeries(SeriesType.LINE, "stacked");
+		stacked.setYSeries(new double[]{1, 1, 1, 1, 1});
+		series.enableStack(true);
+		stacked.enableStack(true);
+		return stacked;
+	}
+}
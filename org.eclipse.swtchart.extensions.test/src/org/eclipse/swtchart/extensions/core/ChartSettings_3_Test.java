@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.extensions.core;
+
+import junit.framework.TestCase;
+
+public class ChartSettings_3_Test extends TestCase {
+
+	private ChartSettings chartSettings = new ChartSettings();
+
+	public void test1() {
+
+		assertEquals(60, chartSettings.getTargetFramesPerSecond());
+	}
+
+	public void test2() {
+
+		chartSettings.setTargetFramesPerSecond(30);
+		assertEquals(30, chartSettings.getTargetFramesPerSecond());
+	}
+
+	public void test3() {
+
+		chartSettings.setTargetFramesPerSecond(-1);
+		assertEquals(0, chartSettings.getTargetFramesPerSecond());
+	}
+
+	public void test4() {
+
+		RedrawScheduler redrawScheduler = new RedrawScheduler(null, null, () -> chartSettings.getTargetFramesPerSecond());
+		chartSettings.setTargetFramesPerSecond(50);
+		assertEquals(20, redrawScheduler.getFrameInterval());
+		chartSettings.setTargetFramesPerSecond(0);
+		assertEquals(0, redrawScheduler.getFrameInterval());
+	}
+}
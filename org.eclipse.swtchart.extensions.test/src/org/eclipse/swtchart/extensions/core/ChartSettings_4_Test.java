@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.extensions.core;
+
+import junit.framework.TestCase;
+
+public class ChartSettings_4_Test extends TestCase {
+
+	private ChartSettings chartSettings = new ChartSettings();
+
+	public void test1() {
+
+		assertTrue(chartSettings.isAdaptiveQuality());
+		assertEquals(250, chartSettings.getAdaptiveQualityIdleTime());
+	}
+
+	public void test2() {
+
+		chartSettings.setAdaptiveQuality(false);
+		assertFalse(chartSettings.isAdaptiveQuality());
+	}
+
+	public void test3() {
+
+		chartSettings.setAdaptiveQualityIdleTime(500);
+		assertEquals(500, chartSettings.getAdaptiveQualityIdleTime());
+	}
+
+	public void test4() {
+
+		chartSettings.setAdaptiveQualityIdleTime(-1);
+		assertEquals(0, chartSettings.getAdaptiveQualityIdleTime());
+	}
+
+	public void test5() {
+
+		assertTrue(chartSettings.isAnimatedWheelZoom());
+	}
+
+	public void test6() {
+
+		chartSettings.setAnimatedWheelZoom(false);
+		assertFalse(chartSettings.isAnimatedWheelZoom());
+	}
+
+	public void test7() {
+
+		assertEquals(SelectionHistory.DEFAULT_MAX_ENTRIES, chartSettings.getSelectionHistoryMaxEntries());
+		assertEquals(SelectionHistory.DEFAULT_MAX_BYTES, chartSettings.getSelectionHistoryMaxBytes());
+		assertEquals(0, chartSettings.getSelectionHistoryCacheSize());
+	}
+
+	public void test8() {
+
+		chartSettings.setSelectionHistoryMaxEntries(-1);
+		chartSettings.setSelectionHistoryMaxBytes(-1);
+		chartSettings.setSelectionHistoryCacheSize(-1);
+		assertEquals(0, chartSettings.getSelectionHistoryMaxEntries());
+		assertEquals(0, chartSettings.getSelectionHistoryMaxBytes());
+		assertEquals(0, chartSettings.getSelectionHistoryCacheSize());
+	}
+}
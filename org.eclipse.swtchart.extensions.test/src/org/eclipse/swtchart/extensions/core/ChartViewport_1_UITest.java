@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.extensions.core;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.swtchart.Range;
+
+import junit.framework.TestCase;
+
+public class ChartViewport_1_UITest extends TestCase {
+
+	private Shell shell;
+	private ScrollableChart chart1;
+	private ScrollableChart chart2;
+	private ScrollableChart chart3;
+	private ChartViewport viewport;
+
+	@Override
+	protected void setUp() throws Exception {
+
+		super.setUp();
+		shell = new Shell(Display.getDefault());
+		shell.setSize(500, 400);
+		shell.setLayout(new FillLayout());
+		chart1 = new ScrollableChart(shell, SWT.NONE);
+		chart2 = new ScrollableChart(shell, SWT.NONE);
+		chart3 = new ScrollableChart(shell, SWT.NONE);
+		viewport = new ChartViewport();
+		chart1.setViewport(viewport, ChartViewport.LINK_XY);
+		chart2.setViewport(viewport, ChartViewport.LINK_XY);
+		chart3.setViewport(viewport, ChartViewport.LINK_X);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+
+		shell.dispose();
+		super.tearDown();
+	}
+
+	public void test1() {
+
+		assertEquals(3, viewport.getSubscribers().size());
+		assertEquals(ChartViewport.LINK_XY, viewport.getLink(chart1));
+		assertEquals(ChartViewport.LINK_X, viewport.getLink(chart3));
+		assertSame(viewport, chart3.getViewport());
+	}
+
+	public void test2() {
+
+		viewport.update(chart1, new Range(10, 20), new Range(30, 40));
+		viewport.flush();
+		assertFalse(viewport.isPending());
+		assertRange(10, 20, chart2.getBaseChart().getAxisSet().getXAxis(BaseChart.ID_PRIMARY_X_AXIS).getRange());
+		assertRange(30, 40, chart2.getBaseChart().getAxisSet().getYAxis(BaseChart.ID_PRIMARY_Y_AXIS).getRange());
+		assertRange(10, 20, chart3.getBaseChart().getAxisSet().getXAxis(BaseChart.ID_PRIMARY_X_AXIS).getRange());
+		Range rangeY = chart3.getBaseChart().getAxisSet().getYAxis(BaseChart.ID_PRIMARY_Y_AXIS).getRange();
+		assertFalse(rangeY.lower == 30 && rangeY.upper == 40);
+	}
+
+	public void test3() {
+
+		/*
+		 * The Y range of an x-only subscriber isn't published.
+		 */
+		viewport.update(chart3, new Range(10, 20), new Range(30, 40));
+		viewport.flush();
+		assertRange(10, 20, viewport.getRangeX());
+		assertNull(viewport.getRangeY());
+		assertRange(10, 20, chart1.getBaseChart().getAxisSet().getXAxis(BaseChart.ID_PRIMARY_X_AXIS).getRange());
+	}
+
+	public void test4() {
+
+		chart1.getChartSettings().setTargetFramesPerSecond(60);
+		viewport.update(chart1, new Range(10, 20), new Range(30, 40));
+		viewport.update(chart1, new Range(15, 25), new Range(35, 45));
+		assertTrue(viewport.isPending());
+		viewport.flush();
+		assertFalse(viewport.isPending());
+		assertRange(15, 25, chart2.getBaseChart().getAxisSet().getXAxis(BaseChart.ID_PRIMARY_X_AXIS).getRange());
+	}
+
+	public void test5() {
+
+		chart2.setViewport(null, 0);
+		assertNull(chart2.getViewport());
+		assertEquals(0, viewport.getLink(chart2));
+		assertEquals(2, viewport.getSubscribers().size());
+	}
+
+	public void test6() {
+
+		try {
+			chart2.setViewport(viewport, 0);
+			fail();
+		} catch(IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	public void test7() {
+
+		/*
+		 * The source of a coalesced update is skipped only for the axis it published.
+		 */
+		chart3.getChartSettings().setTargetFramesPerSecond(60);
+		viewport.update(chart3, new Range(10, 20), null);
+		viewport.update(chart1, null, new Range(30, 40));
+		assertTrue(viewport.isPending());
+		viewport.flush();
+		assertRange(10, 20, chart1.getBaseChart().getAxisSet().getXAxis(BaseChart.ID_PRIMARY_X_AXIS).getRange());
+		assertRange(10, 20, chart2.getBaseChart().getAxisSet().getXAxis(BaseChart.ID_PRIMARY_X_AXIS).getRange());
+		assertRange(30, 40, chart2.getBaseChart().getAxisSet().getYAxis(BaseChart.ID_PRIMARY_Y_AXIS).getRange());
+	}
+
+	private static void assertRange(double lower, double upper, Range range) {
+
+		assertEquals(lower, range.lower);
+		assertEquals(upper, range.upper);
+	}
+}
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.extensions.core;
+
+import junit.framework.TestCase;
+
+public class SelectionHistory_1_Test extends TestCase {
+
+	private SelectionHistory selectionHistory = new SelectionHistory();
+
+	public void test1() {
+
+		assertFalse(selectionHistory.canUndo());
+		assertFalse(selectionHistory.canRedo());
+		assertNull(selectionHistory.undo(selection(0)));
+		assertNull(selectionHistory.redo(selection(0)));
+		assertEquals(SelectionHistory.DEFAULT_MAX_ENTRIES, selectionHistory.getCapacity());
+	}
+
+	public void test2() {
+
+		selectionHistory.record(selection(1));
+		selectionHistory.record(selection(2));
+		assertSelection(2, selectionHistory.undo(selection(3)));
+		assertSelection(1, selectionHistory.undo(selection(2)));
+		assertFalse(selectionHistory.canUndo());
+		assertSelection(2, selectionHistory.redo(selection(1)));
+		assertSelection(3, selectionHistory.redo(selection(2)));
+		assertFalse(selectionHistory.canRedo());
+		assertEquals(2, selectionHistory.getUndoSize());
+	}
+
+	public void test3() {
+
+		/*
+		 * A new selection discards the redo entries.
+		 */
+		selectionHistory.record(selection(1));
+		selectionHistory.undo(selection(2));
+		assertTrue(selectionHistory.canRedo());
+		selectionHistory.record(selection(3));
+		assertFalse(selectionHistory.canRedo());
+	}
+
+	public void test4() {
+
+		/*
+		 * The oldest entries are dropped.
+		 */
+		selectionHistory.setLimits(3, Long.MAX_VALUE);
+		for(int i = 0; i < 20; i++) {
+			selectionHistory.record(selection(i));
+		}
+		assertEquals(3, selectionHistory.getUndoSize());
+		assertSelection(19, selectionHistory.undo(selection(20)));
+		assertSelection(18, selectionHistory.undo(selection(19)));
+		assertSelection(17, selectionHistory.undo(selection(18)));
+		assertNull(selectionHistory.undo(selection(17)));
+	}
+
+	public void test5() {
+
+		selectionHistory.setLimits(100, 2 * SelectionHistory.BYTES_PER_ENTRY);
+		assertEquals(2, selectionHistory.getCapacity());
+		for(int i = 0; i < 5; i++) {
+			selectionHistory.record(selection(i));
+		}
+		assertEquals(2, selectionHistory.getUndoSize());
+		assertEquals(2 * SelectionHistory.BYTES_PER_ENTRY, selectionHistory.getBytes());
+		/*
+		 * Shrinking the limits keeps the most recent entries.
+		 */
+		selectionHistory.setLimits(1, Long.MAX_VALUE);
+		assertEquals(1, selectionHistory.getUndoSize());
+		assertSelection(4, selectionHistory.undo(selection(5)));
+	}
+
+	public void test6() {
+
+		selectionHistory.setLimits(0, Long.MAX_VALUE);
+		selectionHistory.record(selection(1));
+		assertFalse(selectionHistory.canUndo());
+	}
+
+	public void test7() {
+
+		/*
+		 * The undo and redo entries share the limits.
+		 */
+		selectionHistory.setLimits(3, Long.MAX_VALUE);
+		for(int i = 0; i < 3; i++) {
+			selectionHistory.record(selection(i));
+		}
+		assertSelection(2, selectionHistory.undo(selection(3)));
+		assertSelection(1, selectionHistory.undo(selection(2)));
+		assertEquals(1, selectionHistory.getUndoSize());
+		assertEquals(2, selectionHistory.getRedoSize());
+		assertEquals(3 * SelectionHistory.BYTES_PER_ENTRY, selectionHistory.getBytes());
+		assertSelection(2, selectionHistory.redo(selection(1)));
+		assertEquals(3 * SelectionHistory.BYTES_PER_ENTRY, selectionHistory.getBytes());
+		/*
+		 * Shrinking the limits drops the oldest undo entries first.
+		 */
+		selectionHistory.setLimits(2, Long.MAX_VALUE);
+		assertEquals(1, selectionHistory.getUndoSize());
+		assertEquals(1, selectionHistory.getRedoSize());
+		assertSelection(1, selectionHistory.undo(selection(2)));
+		assertFalse(selectionHistory.canUndo());
+		selectionHistory.setLimits(1, Long.MAX_VALUE);
+		assertEquals(0, selectionHistory.getUndoSize());
+		assertEquals(1, selectionHistory.getRedoSize());
+		assertSelection(2, selectionHistory.redo(selection(1)));
+	}
+
+	private static double[] selection(double value) {
+
+		return new double[]{value, value + 1, value + 2, value + 3};
+	}
+
+	private static void assertSelection(double value, double[] selection) {
+
+		assertNotNull(selection);
+		assertEquals(value, selection[0]);
+		assertEquals(value + 3, selection[3]);
+	}
+}
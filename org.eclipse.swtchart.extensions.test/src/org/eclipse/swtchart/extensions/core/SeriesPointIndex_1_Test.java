@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.extensions.core;
+
+import java.util.Random;
+
+import org.eclipse.swtchart.model.DoubleArraySeriesModel;
+
+import junit.framework.TestCase;
+
+public class SeriesPointIndex_1_Test extends TestCase {
+
+	public void test1() {
+
+		SeriesPointIndex seriesPointIndex = new SeriesPointIndex(false, false, false);
+		seriesPointIndex.update(new DoubleArraySeriesModel(new double[]{1, 2, 3, 4, 5}, new double[]{5, 4, 3, 2, 1}));
+		assertEquals(5, seriesPointIndex.size());
+		assertTrue(seriesPointIndex.isAscending());
+		assertEquals(0, seriesPointIndex.getNearest(-10, 0, 1, 1));
+		assertEquals(2, seriesPointIndex.getNearest(3.2, 3, 1, 1));
+		assertEquals(4, seriesPointIndex.getNearest(10, 0, 1, 1));
+		assertEquals(0.0d, seriesPointIndex.getDistance(2, 3, 3, 1, 1));
+	}
+
+	public void test2() {
+
+		/*
+		 * The weights scale the differences, e.g. to pixels.
+		 */
+		SeriesPointIndex seriesPointIndex = new SeriesPointIndex(false, false, false);
+		seriesPointIndex.update(new DoubleArraySeriesModel(new double[]{0, 1, 2}, new double[]{0, 10, 0}));
+		assertEquals(1, seriesPointIndex.getNearest(0.1, 9, 1, 1));
+		assertEquals(0, seriesPointIndex.getNearest(0.1, 9, 1, 0.01));
+	}
+
+	public void test3() {
+
+		/*
+		 * The k-d tree must find the same points as a linear search.
+		 */
+		Random random = new Random(42);
+		int size = 5000;
+		double[] xSeries = new double[size];
+		double[] ySeries = new double[size];
+		for(int i = 0; i < size; i++) {
+			xSeries[i] = random.nextDouble() * 100;
+			ySeries[i] = random.nextDouble() * 10;
+		}
+		SeriesPointIndex seriesPointIndex = new SeriesPointIndex(false, false, false);
+		seriesPointIndex.update(new DoubleArraySeriesModel(xSeries, ySeries));
+		assertFalse(seriesPointIndex.isAscending());
+		for(int i = 0; i < 200; i++) {
+			double x = random.nextDouble() * 120 - 10;
+			double y = random.nextDouble() * 12 - 1;
+			int position = seriesPointIndex.getNearest(x, y, 1, 10);
+			double expected = Double.POSITIVE_INFINITY;
+			for(int j = 0; j < size; j++) {
+				double dx = xSeries[j] - x;
+				double dy = (ySeries[j] - y) * 10;
+				expected = Math.min(expected, Math.sqrt(dx * dx + dy * dy));
+			}
+			assertEquals(expected, seriesPointIndex.getDistance(position, x, y, 1, 10), 1.0E-9);
+		}
+	}
+
+	public void test4() {
+
+		/*
+		 * Appended data points are added incrementally.
+		 */
+		double[] xSeries = {1, 2, 3, 4, 5, 6};
+		double[] ySeries = {1, 1, 1, 1, 1, 1};
+		GrowingSeriesModel model = new GrowingSeriesModel(xSeries, ySeries);
+		SeriesPointIndex seriesPointIndex = new SeriesPointIndex(false, false, false);
+		model.size = 3;
+		seriesPointIndex.update(model);
+		assertEquals(3, seriesPointIndex.size());
+		assertEquals(2, seriesPointIndex.getIndex(seriesPointIndex.getNearest(6, 1, 1, 1)));
+		model.size = 6;
+		seriesPointIndex.update(model);
+		assertEquals(6, seriesPointIndex.size());
+		assertEquals(5, seriesPointIndex.getIndex(seriesPointIndex.getNearest(6, 1, 1, 1)));
+		assertTrue(seriesPointIndex.isAscending());
+	}
+
+	public void test5() {
+
+		/*
+		 * Non-positive values are skipped on log scale.
+		 */
+		SeriesPointIndex seriesPointIndex = new SeriesPointIndex(true, false, false);
+		seriesPointIndex.update(new DoubleArraySeriesModel(new double[]{-1, 0, 10, 100}, new double[]{1, 1, 1, 1}));
+		assertEquals(2, seriesPointIndex.size());
+		assertEquals(3, seriesPointIndex.getIndex(seriesPointIndex.getNearest(SeriesPointIndex.transform(80, true), 1, 1, 1)));
+		assertTrue(Double.isNaN(SeriesPointIndex.transform(0, true)));
+		assertTrue(seriesPointIndex.isCompatible(true, false, false));
+		assertFalse(seriesPointIndex.isCompatible(false, false, false));
+	}
+
+	private static class GrowingSeriesModel extends DoubleArraySeriesModel {
+
+		private int size;
+
+		public GrowingSeriesModel(double[] xSeries, double[] ySeries) {
+
+			super(xSeries, ySeries);
+			size = xSeries.length;
+		}
+
+		@Override
+		public int size() {
+
+			return size;
+		}
+	}
+}
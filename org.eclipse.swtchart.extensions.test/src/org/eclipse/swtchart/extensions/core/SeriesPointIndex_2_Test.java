@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.extensions.core;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.eclipse.swtchart.model.DoubleArraySeriesModel;
+
+import junit.framework.TestCase;
+
+public class SeriesPointIndex_2_Test extends TestCase {
+
+	public void test1() {
+
+		SeriesPointIndex seriesPointIndex = new SeriesPointIndex(false, false, false);
+		seriesPointIndex.update(new DoubleArraySeriesModel(new double[]{1, 2, 3, 4, 5}, new double[]{5, 4, 3, 2, 1}));
+		BitSet indexes = new BitSet();
+		seriesPointIndex.getPointsInRange(2, 4, 0, 3.5, indexes);
+		assertEquals("{2, 3}", indexes.toString());
+	}
+
+	public void test2() {
+
+		SeriesPointIndex seriesPointIndex = new SeriesPointIndex(false, false, false);
+		seriesPointIndex.update(new DoubleArraySeriesModel(new double[]{1, 2, 3}, new double[]{1, 2, 3}));
+		BitSet indexes = new BitSet();
+		seriesPointIndex.getPointsInRange(4, 2, 0, 10, indexes);
+		assertTrue(indexes.isEmpty());
+	}
+
+	public void test3() {
+
+		/*
+		 * The k-d tree must find the same points as a linear search.
+		 */
+		Random random = new Random(42);
+		int size = 5000;
+		double[] xSeries = new double[size];
+		double[] ySeries = new double[size];
+		for(int i = 0; i < size; i++) {
+			xSeries[i] = random.nextInt(1000) / 10.0d;
+			ySeries[i] = random.nextInt(20) / 2.0d;
+		}
+		SeriesPointIndex seriesPointIndex = new SeriesPointIndex(false, false, false);
+		seriesPointIndex.update(new DoubleArraySeriesModel(xSeries, ySeries));
+		assertFalse(seriesPointIndex.isAscending());
+		for(int i = 0; i < 100; i++) {
+			double xLower = random.nextDouble() * 110 - 5;
+			double xUpper = xLower + random.nextDouble() * 30;
+			double yLower = ySeries[random.nextInt(size)];
+			double yUpper = yLower + random.nextDouble() * 4;
+			BitSet indexes = new BitSet();
+			seriesPointIndex.getPointsInRange(xLower, xUpper, yLower, yUpper, indexes);
+			BitSet expected = new BitSet();
+			for(int j = 0; j < size; j++) {
+				if(xSeries[j] >= xLower && xSeries[j] <= xUpper && ySeries[j] >= yLower && ySeries[j] <= yUpper) {
+					expected.set(j);
+				}
+			}
+			assertEquals(expected, indexes);
+		}
+	}
+}
@@ -12,41 +12,14 @@
  *******************************************************************************/
 package org.eclipse.swtchart.extensions.clipboard;
 
-import org.eclipse.swt.graphics.GC;
-import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.graphics.ImageData;
-import org.eclipse.swt.graphics.ImageDataProvider;
 import org.eclipse.swt.graphics.ImageLoader;
-import org.eclipse.swt.graphics.PaletteData;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swtchart.Chart;
 import org.eclipse.swtchart.extensions.core.BaseChart;
 
 public class ImageSupplier {
 
-	/*
-	 * Image data provider used locally to represent chart image
-	 */
-	private class ChartImageDataProvider implements ImageDataProvider {
-
-		private ImageData imageData;
-
-		public ChartImageDataProvider(int width, int height) {
-
-			PaletteData palette = new PaletteData(0xFF, 0xFF00, 0xFF0000);
-			imageData = new ImageData(width, height, 32, palette);
-		}
-
-		@Override
-		public ImageData getImageData(int zoom) {
-
-			if(zoom != 100) {
-				return null;
-			}
-			return imageData;
-		}
-	}
-
 	/**
 	 * Save image data representation to a file with specific format (BMP, PNG or JPG)
 	 * 
@@ -85,42 +58,33 @@ public class ImageSupplier {
 	 */
 	public ImageData getImageData(Chart chart) {
 
-		/*
-		 * Force to redraw chart immediately to be sure that any
-		 * previous Shell dialog won't be a part of the copied image
-		 */
-		chart.redraw();
-		chart.update();
 		/*
 		 * Chart size
 		 */
 		Point baseChartSize = chart.getSize();
+		return getImageData(chart, baseChartSize.x, baseChartSize.y, 100);
+	}
+
+	/**
+	 * Return image data representation of provided chart rendered off-screen
+	 * with the given size, independent of the size on screen.
+	 * 
+	 * @param chart
+	 *            the chart from which is create image data representation
+	 * @param width
+	 *            the image width
+	 * @param height
+	 *            the image height
+	 * @param zoom
+	 *            the zoom in percent, 100 for no scaling
+	 * @return image data representation
+	 */
+	public ImageData getImageData(Chart chart, int width, int height, int zoom) {
+
 		/*
-		 * Create the image provider
-		 */
-		ChartImageDataProvider chartImageDataProvider = new ChartImageDataProvider(baseChartSize.x, baseChartSize.y);
-		/*
-		 * Surround main stuff with try/finally to prevent memory leakage
+		 * The chart is painted directly into an image, hence
+		 * overlapping shells won't be a part of the image.
 		 */
-		Image image = null;
-		GC gc = null;
-		try {
-			/*
-			 * Copy chart into the image
-			 */
-			image = new Image(chart.getDisplay(), chartImageDataProvider);
-			gc = new GC(chart);
-			gc.copyArea(image, 0, 0);
-			/*
-			 * Retrieve image data
-			 */
-			ImageData imageData = image.getImageData();
-			return imageData;
-		} finally {
-			if(gc != null && !gc.isDisposed())
-				gc.dispose();
-			if(image != null && !image.isDisposed())
-				image.dispose();
-		}
+		return chart.renderImageData(width, height, zoom);
 	}
 }
\ No newline at end of file
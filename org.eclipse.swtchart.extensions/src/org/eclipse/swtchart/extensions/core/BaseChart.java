@@ -17,15 +17,16 @@ package org.eclipse.swtchart.extensions.core;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.EmptyStackException;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.Stack;
+import java.util.function.Consumer;
 
 import org.eclipse.jface.preference.IPreferenceStore;
 import org.eclipse.swt.SWT;
@@ -49,13 +50,14 @@ import org.eclipse.swtchart.extensions.dialogs.ClickBindingHelpDialog;
 import org.eclipse.swtchart.extensions.events.CircularMouseDownEvent;
 import org.eclipse.swtchart.extensions.events.IEventProcessor;
 import org.eclipse.swtchart.extensions.events.IHandledEventProcessor;
-import org.eclipse.swtchart.extensions.exceptions.SeriesException;
 import org.eclipse.swtchart.extensions.linecharts.ILineSeriesSettings;
 import org.eclipse.swtchart.extensions.model.CustomSeries;
 import org.eclipse.swtchart.extensions.model.ICustomSeries;
 import org.eclipse.swtchart.extensions.piecharts.ICircularSeriesSettings;
 import org.eclipse.swtchart.extensions.preferences.PreferenceConstants;
 import org.eclipse.swtchart.extensions.scattercharts.IScatterSeriesSettings;
+import org.eclipse.swtchart.internal.series.Series;
+import org.eclipse.swtchart.internal.series.SeriesSet;
 import org.eclipse.swtchart.model.Node;
 import org.eclipse.swtchart.model.NodeDataModel;
 
@@ -89,11 +91,28 @@ public class BaseChart extends AbstractExtendedChart implements IChartDataCoordi
 	public static final long DELTA_CLICK_TIME = 100;
 	/*
 	 * To prevent that the data is redrawn on mouse events too
-	 * often, a trigger determines e.g. that the redraw event
-	 * is called only at every xth event.
+	 * often, the redraw requests are coalesced to at most one
+	 * paint per frame.
 	 */
-	private int redrawFrequency = 1;
-	private int redrawCounter = 0;
+	private RedrawScheduler redrawScheduler;
+	/*
+	 * Repaints the chart in full quality once the
+	 * user interaction has been idle for a while.
+	 */
+	private final Runnable interactionTimeout = this::endInteraction;
+	/*
+	 * The mouse wheel notches are coalesced to one zoom per frame.
+	 */
+	private int wheelZoomNotches = 0;
+	private Event wheelZoomEvent = null;
+	private Consumer<Event> wheelZoom = null;
+	private final Runnable wheelZoomFrame = this::applyWheelZoom;
+	private final Runnable wheelZoomTimeout = this::endWheelZoom;
+	/*
+	 * The data point indexes of the series, to look
+	 * up data points without scanning all series.
+	 */
+	private final Map<String, SeriesPointIndex> seriesPointIndexes = new HashMap<>();
 	//
 	private List<ICustomSelectionHandler> customRangeSelectionHandlers;
 	private List<ICustomSelectionHandler> customPointSelectionHandlers;
@@ -106,8 +125,7 @@ public class BaseChart extends AbstractExtendedChart implements IChartDataCoordi
 	/*
 	 * Do/Undo -1
 	 */
-	private Stack<double[]> handledSelectionEvents;
-	private double[] redoSelection;
+	private SelectionHistory selectionHistory;
 	/*
 	 * Shift series
 	 */
@@ -145,6 +163,7 @@ public class BaseChart extends AbstractExtendedChart implements IChartDataCoordi
 		super(parent, style);
 		//
 		chartSettings = new ChartSettings();
+		redrawScheduler = new RedrawScheduler(this, this::redraw, () -> chartSettings.getTargetFramesPerSecond());
 		/*
 		 * Rectangle range selection.
 		 */
@@ -185,8 +204,8 @@ public class BaseChart extends AbstractExtendedChart implements IChartDataCoordi
 		yAxisPrimary.setDrawAxisLine(true);
 		yAxisPrimary.setIntegerDataPointAxis(false);
 		//
-		handledSelectionEvents = new Stack<>();
-		redoSelection = null;
+		selectionHistory = new SelectionHistory();
+		applySelectionHistorySettings();
 		//
 		dataShiftHistory = new HashMap<>();
 		//
@@ -310,6 +329,7 @@ public class BaseChart extends AbstractExtendedChart implements IChartDataCoordi
 	public void setChartSettings(IChartSettings chartSettings) {
 
 		this.chartSettings = chartSettings;
+		applySelectionHistorySettings();
 	}
 
 	public IChartSettings getChartSettings() {
@@ -352,14 +372,156 @@ public class BaseChart extends AbstractExtendedChart implements IChartDataCoordi
 		return userSelection;
 	}
 
+	/**
+	 * Redraws are coalesced by the redraw scheduler, hence this method does
+	 * nothing.
+	 * 
+	 * @deprecated use {@link #requestRedraw()} instead
+	 */
+	@Deprecated
 	public void increaseRedrawCounter() {
 
-		redrawCounter++;
 	}
 
+	/**
+	 * Redraws are coalesced by the redraw scheduler, hence this method does
+	 * nothing.
+	 * 
+	 * @deprecated use {@link #requestRedraw()} instead
+	 */
+	@Deprecated
 	public void resetRedrawCounter() {
 
-		redrawCounter = 0;
+	}
+
+	/**
+	 * Requests a redraw with the next frame. Frequent requests, e.g. on
+	 * mouse drags, linked chart updates or data appends, are coalesced
+	 * to at most one paint per frame. See
+	 * IChartSettings.setTargetFramesPerSecond(int).
+	 */
+	public void requestRedraw() {
+
+		redrawScheduler.requestRedraw();
+	}
+
+	public RedrawScheduler getRedrawScheduler() {
+
+		return redrawScheduler;
+	}
+
+	/**
+	 * Marks that the user interacts with the chart, e.g. by dragging or
+	 * zooming. If the adaptive quality is enabled, the plot area is painted
+	 * in draft mode until no interaction happened for the idle time. See
+	 * IChartSettings.setAdaptiveQuality(boolean).
+	 */
+	public void beginInteraction() {
+
+		if(!chartSettings.isAdaptiveQuality()) {
+			return;
+		}
+		//
+		getPlotArea().setDraftMode(true);
+		/*
+		 * Scheduling the same runnable again postpones it.
+		 */
+		getDisplay().timerExec(chartSettings.getAdaptiveQualityIdleTime(), interactionTimeout);
+	}
+
+	/**
+	 * Returns if the chart is painted in draft mode due to an ongoing
+	 * interaction.
+	 * 
+	 * @return boolean
+	 */
+	public boolean isInteractionInProgress() {
+
+		return getPlotArea().isDraftMode();
+	}
+
+	/**
+	 * Ends the interaction immediately and repaints the chart in full
+	 * quality.
+	 */
+	public void endInteraction() {
+
+		if(isDisposed()) {
+			return;
+		}
+		//
+		getDisplay().timerExec(-1, interactionTimeout);
+		if(getPlotArea().isDraftMode()) {
+			getPlotArea().setDraftMode(false);
+			redraw();
+		}
+	}
+
+	/**
+	 * Queues a zoom via mouse wheel. The notches until the next frame are
+	 * summed up and the zoom operation is called once with the last event,
+	 * whose count is set to the net number of notches. If the animated
+	 * wheel zoom is enabled, the last image of the series is scaled while
+	 * zooming and the series are compressed again when the wheel has been
+	 * idle for the adaptive quality idle time. See
+	 * IChartSettings.setAnimatedWheelZoom(boolean).
+	 * 
+	 * @param event
+	 *            the mouse wheel event
+	 * @param zoom
+	 *            the zoom operation, zooming in or out by the number of
+	 *            notches of the given event
+	 */
+	public void queueWheelZoom(Event event, Consumer<Event> zoom) {
+
+		boolean scheduled = wheelZoomEvent != null;
+		wheelZoomNotches += Integer.signum(event.count);
+		wheelZoomEvent = event;
+		wheelZoom = zoom;
+		if(!scheduled) {
+			long frameInterval = redrawScheduler.getFrameInterval();
+			if(frameInterval <= 0) {
+				applyWheelZoom();
+			} else {
+				getDisplay().timerExec((int)frameInterval, wheelZoomFrame);
+			}
+		}
+	}
+
+	private void applyWheelZoom() {
+
+		Event event = wheelZoomEvent;
+		Consumer<Event> zoom = wheelZoom;
+		int notches = wheelZoomNotches;
+		wheelZoomEvent = null;
+		wheelZoom = null;
+		wheelZoomNotches = 0;
+		if(isDisposed() || notches == 0) {
+			return;
+		}
+		//
+		if(chartSettings.isAnimatedWheelZoom()) {
+			getPlotArea().beginViewportTransition();
+			getDisplay().timerExec(chartSettings.getAdaptiveQualityIdleTime(), wheelZoomTimeout);
+		} else {
+			beginInteraction();
+		}
+		event.count = notches;
+		zoom.accept(event);
+	}
+
+	private void endWheelZoom() {
+
+		if(isDisposed()) {
+			return;
+		}
+		/*
+		 * Leave the draft mode first, so that the series
+		 * are compressed only once in full quality.
+		 */
+		getDisplay().timerExec(-1, interactionTimeout);
+		getPlotArea().setDraftMode(false);
+		getPlotArea().endViewportTransition();
 	}
 
 	public long getClickStartTime() {
@@ -372,9 +534,17 @@ public class BaseChart extends AbstractExtendedChart implements IChartDataCoordi
 		this.clickStartTime = clickStartTime;
 	}
 
+	/**
+	 * Redraws are coalesced by the redraw scheduler, hence this method
+	 * always returns true.
+	 * 
+	 * @return boolean
+	 * @deprecated use {@link #requestRedraw()} instead
+	 */
+	@Deprecated
 	public boolean isRedraw() {
 
-		return (redrawCounter >= redrawFrequency);
+		return true;
 	}
 
 	public double getShiftValue(int positionStart, int positionStop, String orientation) {
@@ -417,45 +587,27 @@ public class BaseChart extends AbstractExtendedChart implements IChartDataCoordi
 		return shiftValue;
 	}
 
-	@Override
-	public ISeries<?> createSeries(ISeriesData seriesData, ISeriesSettings seriesSettings) throws SeriesException {
-
-		ISeries<?> series = super.createSeries(seriesData, seriesSettings);
-		calculateRedrawFrequency();
-		return series;
-	}
-
 	@Override
 	public void deleteSeries(String id) {
 
 		super.deleteSeries(id);
-		calculateRedrawFrequency();
 		dataShiftHistory.remove(id);
+		seriesPointIndexes.remove(id);
 	}
 
 	@Override
 	public void deleteSeries() {
 
 		super.deleteSeries();
-		calculateRedrawFrequency();
 		dataShiftHistory.clear();
+		seriesPointIndexes.clear();
 	}
 
 	@Override
 	public void appendSeries(ISeriesData seriesData) {
 
 		super.appendSeries(seriesData);
-		calculateRedrawFrequency();
-	}
-
-	private void calculateRedrawFrequency() {
-
-		/*
-		 * The frequency might be calculated here to increase the performance.
-		 * I've not found a smart solution yet to improve the speed when
-		 * displaying large data sets.
-		 */
-		redrawFrequency = 2;
+		requestRedraw();
 	}
 
 	public double getSelectedPrimaryAxisValue(int position, String orientation) {
@@ -1013,32 +1165,49 @@ public class BaseChart extends AbstractExtendedChart implements IChartDataCoordi
 				double seriesMinY = Double.MAX_VALUE;
 				double seriesMaxY = Double.MIN_VALUE;
 				//
-				if(shiftX != 0.0d) {
-					/*
-					 * Shift X
-					 */
-					double[] xSeriesShifted = adjustArray(dataSeries.getXSeries(), shiftX, IExtendedChart.X_AXIS);
-					dataSeries.setXSeries(xSeriesShifted);
-					seriesMinX = xSeriesShifted[0];
-					seriesMaxX = xSeriesShifted[xSeriesShifted.length - 1];
-				}
-				//
-				if(shiftY != 0.0d) {
+				if(dataSeries instanceof Series<?> && !isDeleteShiftedData(IExtendedChart.X_AXIS) && !isDeleteShiftedData(IExtendedChart.Y_AXIS)) {
 					/*
-					 * Shift Y
+					 * Shift lazily, the data is transformed when compressed.
 					 */
-					double[] ySeriesShifted = adjustArray(dataSeries.getYSeries(), shiftY, IExtendedChart.Y_AXIS);
-					dataSeries.setYSeries(ySeriesShifted);
-					seriesMinY = ySeriesShifted[0];
-					seriesMaxY = ySeriesShifted[ySeriesShifted.length - 1];
+					Series<?> series = (Series<?>)dataSeries;
+					series.transformData(1, shiftX, 1, shiftY);
+					if(shiftX != 0.0d) {
+						Range rangeX = series.getXRange();
+						seriesMinX = rangeX.lower;
+						seriesMaxX = rangeX.upper;
+					}
+					if(shiftY != 0.0d) {
+						Range rangeY = series.getYRange();
+						seriesMinY = rangeY.lower;
+						seriesMaxY = rangeY.upper;
+					}
+				} else {
+					if(shiftX != 0.0d) {
+						/*
+						 * Shift X
+						 */
+						double[] xSeriesShifted = adjustArray(dataSeries.getXSeries(), shiftX, IExtendedChart.X_AXIS);
+						dataSeries.setXSeries(xSeriesShifted);
+						seriesMinX = xSeriesShifted[0];
+						seriesMaxX = xSeriesShifted[xSeriesShifted.length - 1];
+					}
+					//
+					if(shiftY != 0.0d) {
+						/*
+						 * Shift Y
+						 */
+						double[] ySeriesShifted = adjustArray(dataSeries.getYSeries(), shiftY, IExtendedChart.Y_AXIS);
+						dataSeries.setYSeries(ySeriesShifted);
+						seriesMinY = ySeriesShifted[0];
+						seriesMaxY = ySeriesShifted[ySeriesShifted.length - 1];
+					}
 				}
 				/*
 				 * Track the shifts.
 				 */
 				Range rangeX = getAxisSet().getXAxis(ID_PRIMARY_X_AXIS).getRange();
 				Range rangeY = getAxisSet().getYAxis(ID_PRIMARY_Y_AXIS).getRange();
-				List<double[]> shiftRecord = getShiftRecord(selectedSeriesId);
-				shiftRecord.add(new double[]{rangeX.lower, rangeX.upper, shiftX, rangeY.lower, rangeY.upper, shiftY, shiftConstraints});
+				addShiftRecord(selectedSeriesId, new double[]{rangeX.lower, rangeX.upper, shiftX, rangeY.lower, rangeY.upper, shiftY, shiftConstraints});
 				//
 				updateCoordinates(seriesMinX, seriesMaxX, seriesMinY, seriesMaxY);
 				fireSeriesModificationEvent();
@@ -1046,14 +1215,31 @@ public class BaseChart extends AbstractExtendedChart implements IChartDataCoordi
 		}
 	}
 
-	private List<double[]> getShiftRecord(String selectedSeriesId) {
+	private void addShiftRecord(String selectedSeriesId, double[] shift) {
 
 		List<double[]> shiftRecord = dataShiftHistory.get(selectedSeriesId);
 		if(shiftRecord == null) {
 			shiftRecord = new ArrayList<>();
 			dataShiftHistory.put(selectedSeriesId, shiftRecord);
 		}
-		return shiftRecord;
+		/*
+		 * Merge the steps of a shift within the same ranges, e.g.
+		 * while dragging, and drop the oldest records if needed.
+		 */
+		int size = shiftRecord.size();
+		double[] last = size > 0 ? shiftRecord.get(size - 1) : null;
+		if(last != null && last[0] == shift[0] && last[1] == shift[1] && last[3] == shift[3] && last[4] == shift[4] && last[6] == shift[6]) {
+			double[] merged = last.clone();
+			merged[2] += shift[2];
+			merged[5] += shift[5];
+			shiftRecord.set(size - 1, merged);
+		} else {
+			shiftRecord.add(shift);
+		}
+		int maxEntries = Math.max(1, chartSettings.getSelectionHistoryMaxEntries());
+		if(shiftRecord.size() > maxEntries) {
+			shiftRecord.subList(0, shiftRecord.size() - maxEntries).clear();
+		}
 	}
 
 	private double[] adjustArray(double[] series, double shift, String axisOrientation) {
@@ -1117,6 +1303,9 @@ public class BaseChart extends AbstractExtendedChart implements IChartDataCoordi
 
 	/**
 	 * axisId = IExtendedChart.X_AXIS or IExtendedChart.Y_AXIS.
+	 * The data is scaled lazily by a transform of the series. A factor of 0
+	 * or a non-finite factor can't be expressed as an invertible transform,
+	 * hence the data is multiplied eagerly in that case.
 	 * 
 	 * @param selectedSeriesId
 	 * @param axisId
@@ -1125,7 +1314,22 @@ public class BaseChart extends AbstractExtendedChart implements IChartDataCoordi
 	public void multiplySeries(String selectedSeriesId, String axisId, double factor) {
 
 		ISeries<?> dataSeries = getSeriesSet().getSeries(selectedSeriesId);
-		if(dataSeries != null) {
+		if(dataSeries instanceof Series<?> && factor != 0 && Double.isFinite(factor)) {
+			/*
+			 * Scale lazily, the data is transformed when compressed.
+			 */
+			Series<?> series = (Series<?>)dataSeries;
+			if(IExtendedChart.X_AXIS.equals(axisId)) {
+				series.transformData(factor, 0, 1, 0);
+			} else if(IExtendedChart.Y_AXIS.equals(axisId)) {
+				series.transformData(1, 0, factor, 0);
+			}
+			//
+			Range rangeX = series.getXRange();
+			Range rangeY = series.getYRange();
+			updateCoordinates(rangeX.lower, rangeX.upper, rangeY.lower, rangeY.upper);
+			fireSeriesModificationEvent();
+		} else if(dataSeries != null) {
 			//
 			double[] xSeries = dataSeries.getXSeries();
 			double[] ySeries = dataSeries.getYSeries();
@@ -1318,41 +1522,59 @@ public class BaseChart extends AbstractExtendedChart implements IChartDataCoordi
 	public void zoomX(IAxis xAxis, Event event) {
 
 		trackUndoSelection();
-		//
-		boolean isZoomReferenceX0 = getChartSettings().getRangeRestriction().isReferenceZoomZeroX();
-		double coordinateX = isZoomReferenceX0 ? 0.0d : xAxis.getDataCoordinate(event.x);
-		//
-		if(event.count > 0) {
-			xAxis.zoomIn(coordinateX);
-		} else {
-			if(isZoomReferenceX0) {
-				xAxis.zoomOut();
-			} else {
-				xAxis.zoomOut(coordinateX);
-			}
-		}
-		//
-		trackRedoSelection();
+		zoomAxis(xAxis, event.x, getChartSettings().getRangeRestriction().isReferenceZoomZeroX(), event.count > 0 ? 1 : -1);
 	}
 
 	public void zoomY(IAxis yAxis, Event event) {
 
 		trackUndoSelection();
+		zoomAxis(yAxis, event.y, getChartSettings().getRangeRestriction().isReferenceZoomZeroY(), event.count > 0 ? 1 : -1);
+	}
+
+	/**
+	 * Zooms the given axes by the number of notches of the given event, i.e.
+	 * in for a positive and out for a negative count. The zoom steps are
+	 * combined, so that each axis is zoomed once and a single undo entry is
+	 * recorded.
+	 * 
+	 * @param xAxis
+	 *            the X axis or null
+	 * @param yAxis
+	 *            the Y axis or null
+	 * @param event
+	 *            the mouse wheel event
+	 */
+	public void zoom(IAxis xAxis, IAxis yAxis, Event event) {
+
+		if(event.count == 0) {
+			return;
+		}
 		//
-		boolean isZoomReferenceY0 = getChartSettings().getRangeRestriction().isReferenceZoomZeroY();
-		double coordinateY = isZoomReferenceY0 ? 0.0d : yAxis.getDataCoordinate(event.y);
-		//
-		if(event.count > 0) {
-			yAxis.zoomIn(coordinateY);
+		trackUndoSelection();
+		RangeRestriction rangeRestriction = getChartSettings().getRangeRestriction();
+		if(xAxis != null) {
+			zoomAxis(xAxis, event.x, rangeRestriction.isReferenceZoomZeroX(), event.count);
+		}
+		if(yAxis != null) {
+			zoomAxis(yAxis, event.y, rangeRestriction.isReferenceZoomZeroY(), event.count);
+		}
+	}
+
+	private void zoomAxis(IAxis axis, int position, boolean isZoomReference0, int steps) {
+
+		double coordinate;
+		if(!isZoomReference0) {
+			coordinate = axis.getDataCoordinate(position);
+		} else if(steps > 0) {
+			coordinate = 0.0d;
 		} else {
-			if(isZoomReferenceY0) {
-				yAxis.zoomOut();
-			} else {
-				yAxis.zoomOut(coordinateY);
-			}
+			/*
+			 * Zoom out at the center, see IAxis#zoomOut().
+			 */
+			Range range = axis.getRange();
+			coordinate = (range.lower + range.upper) / 2d;
 		}
-		//
-		trackRedoSelection();
+		axis.zoom(coordinate, steps);
 	}
 
 	public String getSelectedseriesId(Event event) {
@@ -1361,17 +1583,13 @@ public class BaseChart extends AbstractExtendedChart implements IChartDataCoordi
 		String selectedSeriesId = ""; //$NON-NLS-1$
 		/*
 		 * Get the selected series id.
+		 * The series are hit-tested with a spatial index.
 		 */
-		exitloop:
 		for(ISeries<?> dataSeries : series) {
 			if(dataSeries != null && dataSeries.isVisible()) {
-				int size = dataSeries.getXSeries().length;
-				for(int i = 0; i < size; i++) {
-					Point point = dataSeries.getPixelCoordinates(i);
-					if(isDataSeriesSelected(point, event, 8)) {
-						selectedSeriesId = dataSeries.getId();
-						break exitloop;
-					}
+				if(dataSeries.getIndexAt(event.x, event.y, 8) >= 0) {
+					selectedSeriesId = dataSeries.getId();
+					break;
 				}
 			}
 		}
@@ -1379,14 +1597,175 @@ public class BaseChart extends AbstractExtendedChart implements IChartDataCoordi
 		return selectedSeriesId;
 	}
 
-	private boolean isDataSeriesSelected(Point point, Event event, int delta) {
+	/**
+	 * Returns the data point of the visible series closest to the given pixel
+	 * coordinates in the plot area. The distance is measured in pixels.
+	 * 
+	 * @param x
+	 *            the x pixel coordinate
+	 * @param y
+	 *            the y pixel coordinate
+	 * @return {@link SeriesDataPoint} or null if no data point is available
+	 */
+	public SeriesDataPoint getNearestDataPoint(int x, int y) {
 
-		if(point.x >= event.x - delta && point.x <= event.x + delta) {
-			if(point.y >= event.y - delta && point.y <= event.y + delta) {
-				return true;
+		return getNearestDataPoint(true, x, y);
+	}
+
+	/**
+	 * Returns the data point of the visible series closest to the given data
+	 * coordinates. The coordinates are interpreted with the axes of each
+	 * series. The distance is measured in pixels.
+	 * 
+	 * @param x
+	 *            the x data coordinate
+	 * @param y
+	 *            the y data coordinate
+	 * @return {@link SeriesDataPoint} or null if no data point is available
+	 */
+	public SeriesDataPoint getNearestDataPointByDataCoordinate(double x, double y) {
+
+		return getNearestDataPoint(false, x, y);
+	}
+
+	/**
+	 * Returns the data points of the visible series within the given data
+	 * ranges, bounds included, e.g. to process the points of a range
+	 * selection. The ranges are interpreted with the axes of each series
+	 * and with the values as drawn, i.e. the stacked values of stack series.
+	 * The data points are found by binary search for series with ascending
+	 * x values and by a k-d tree otherwise.
+	 * 
+	 * @param xRange
+	 *            the x data range
+	 * @param yRange
+	 *            the y data range
+	 * @return the indexes of the data points per series id, in the order of
+	 *         the series; series without data points in the ranges are
+	 *         omitted
+	 */
+	public Map<String, BitSet> getDataPointsInRange(Range xRange, Range yRange) {
+
+		if(xRange == null || yRange == null) {
+			throw new IllegalArgumentException("The ranges must not be null."); //$NON-NLS-1$
+		}
+		//
+		Map<String, BitSet> dataPoints = new LinkedHashMap<>();
+		IAxisSet axisSet = getAxisSet();
+		for(ISeries<?> series : getSeriesSet().getSeries()) {
+			if(!series.isVisible() || series instanceof ICircularSeries) {
+				continue;
+			}
+			//
+			IAxis xAxis = axisSet.getXAxis(series.getXAxisId());
+			IAxis yAxis = axisSet.getYAxis(series.getYAxisId());
+			if(xAxis == null || yAxis == null) {
+				continue;
+			}
+			//
+			SeriesPointIndex seriesPointIndex = getSeriesPointIndex(series, xAxis, yAxis);
+			boolean logScaleX = xAxis.isLogScaleEnabled() && !xAxis.isCategoryEnabled();
+			boolean logScaleY = yAxis.isLogScaleEnabled();
+			BitSet indexes = new BitSet();
+			seriesPointIndex.getPointsInRange( //
+					getLowerCoordinate(xRange, logScaleX), //
+					getUpperCoordinate(xRange, logScaleX), //
+					getLowerCoordinate(yRange, logScaleY), //
+					getUpperCoordinate(yRange, logScaleY), //
+					indexes);
+			if(!indexes.isEmpty()) {
+				dataPoints.put(series.getId(), indexes);
 			}
 		}
-		return false;
+		//
+		return dataPoints;
+	}
+
+	private double getLowerCoordinate(Range range, boolean logScale) {
+
+		double lower = SeriesPointIndex.transform(Math.min(range.lower, range.upper), logScale);
+		return Double.isNaN(lower) ? Double.NEGATIVE_INFINITY : lower;
+	}
+
+	private double getUpperCoordinate(Range range, boolean logScale) {
+
+		double upper = SeriesPointIndex.transform(Math.max(range.lower, range.upper), logScale);
+		return Double.isNaN(upper) ? Double.NEGATIVE_INFINITY : upper;
+	}
+
+	private SeriesDataPoint getNearestDataPoint(boolean pixel, double x, double y) {
+
+		SeriesDataPoint nearestDataPoint = null;
+		Point size = getPlotArea().getSize();
+		boolean horizontal = getOrientation() == SWT.HORIZONTAL;
+		IAxisSet axisSet = getAxisSet();
+		//
+		for(ISeries<?> series : getSeriesSet().getSeries()) {
+			if(!series.isVisible() || series instanceof ICircularSeries) {
+				continue;
+			}
+			//
+			IAxis xAxis = axisSet.getXAxis(series.getXAxisId());
+			IAxis yAxis = axisSet.getYAxis(series.getYAxisId());
+			if(xAxis == null || yAxis == null) {
+				continue;
+			}
+			//
+			SeriesPointIndex seriesPointIndex = getSeriesPointIndex(series, xAxis, yAxis);
+			double weightX = getPixelsPerUnit(xAxis, horizontal ? size.x : size.y);
+			double weightY = getPixelsPerUnit(yAxis, horizontal ? size.y : size.x);
+			double valueX = pixel ? xAxis.getDataCoordinate((int)(horizontal ? x : y)) : x;
+			double valueY = pixel ? yAxis.getDataCoordinate((int)(horizontal ? y : x)) : y;
+			double coordinateX = xAxis.isCategoryEnabled() ? valueX : SeriesPointIndex.transform(valueX, xAxis.isLogScaleEnabled());
+			double coordinateY = SeriesPointIndex.transform(valueY, yAxis.isLogScaleEnabled());
+			if(Double.isNaN(coordinateX) || Double.isNaN(coordinateY) || Double.isNaN(weightX) || Double.isNaN(weightY)) {
+				continue;
+			}
+			//
+			int position = seriesPointIndex.getNearest(coordinateX, coordinateY, weightX, weightY);
+			if(position >= 0) {
+				double distance = seriesPointIndex.getDistance(position, coordinateX, coordinateY, weightX, weightY);
+				if(nearestDataPoint == null || distance < nearestDataPoint.getDistance()) {
+					nearestDataPoint = new SeriesDataPoint(series.getId(), seriesPointIndex.getIndex(position), distance);
+				}
+			}
+		}
+		//
+		return nearestDataPoint;
+	}
+
+	/**
+	 * Returns the data point index of the given series. The index is
+	 * updated incrementally if data points have been appended to the
+	 * model and rebuilt if the data, the stacked values or the axis scale
+	 * changed.
+	 */
+	private SeriesPointIndex getSeriesPointIndex(ISeries<?> series, IAxis xAxis, IAxis yAxis) {
+
+		boolean logScaleX = xAxis.isLogScaleEnabled();
+		boolean logScaleY = yAxis.isLogScaleEnabled();
+		boolean category = xAxis.isCategoryEnabled();
+		SeriesPointIndex seriesPointIndex = seriesPointIndexes.get(series.getId());
+		if(seriesPointIndex == null || !seriesPointIndex.isCompatible(logScaleX, logScaleY, category)) {
+			seriesPointIndex = new SeriesPointIndex(logScaleX, logScaleY, category);
+			seriesPointIndexes.put(series.getId(), seriesPointIndex);
+		}
+		seriesPointIndex.update(series);
+		return seriesPointIndex;
+	}
+
+	private double getPixelsPerUnit(IAxis axis, int length) {
+
+		Range range = axis.getRange();
+		double span;
+		if(axis.isCategoryEnabled()) {
+			span = range.upper + 1 - range.lower;
+		} else {
+			boolean logScale = axis.isLogScaleEnabled();
+			span = SeriesPointIndex.transform(range.upper, logScale) - SeriesPointIndex.transform(range.lower, logScale);
+		}
+		//
+		return span != 0 ? Math.abs(length / span) : Double.NaN;
 	}
 
 	public void handleUserSelection(Event event) {
@@ -1455,7 +1834,6 @@ public class BaseChart extends AbstractExtendedChart implements IChartDataCoordi
 		int yStart = userSelection.getStartY();
 		int yStop = userSelection.getStopY();
 		setSelectionXY(xStart, xStop, yStart, yStop);
-		trackRedoSelection();
 		/*
 		 * Inform all registered handlers.
 		 * Reset the current selection and redraw the chart.
@@ -1463,35 +1841,51 @@ public class BaseChart extends AbstractExtendedChart implements IChartDataCoordi
 		fireUpdateCustomRangeSelectionHandlers(event);
 	}
 
+	/**
+	 * Returns the undo/redo history of the selected ranges. The limits
+	 * are applied from the chart settings when the settings are set.
+	 *
+	 * @return {@link SelectionHistory}
+	 */
+	public SelectionHistory getSelectionHistory() {
+
+		return selectionHistory;
+	}
+
+	private void applySelectionHistorySettings() {
+
+		selectionHistory.setLimits(chartSettings.getSelectionHistoryMaxEntries(), chartSettings.getSelectionHistoryMaxBytes());
+		SeriesSet seriesSet = (SeriesSet)getSeriesSet();
+		if(seriesSet.getCompressionCacheSize() != chartSettings.getSelectionHistoryCacheSize()) {
+			seriesSet.setCompressionCacheSize(chartSettings.getSelectionHistoryCacheSize());
+		}
+	}
+
 	private void trackUndoSelection() {
 
-		Range xRange = getAxisSet().getXAxis(ID_PRIMARY_X_AXIS).getRange();
-		Range yRange = getAxisSet().getYAxis(ID_PRIMARY_Y_AXIS).getRange();
-		handledSelectionEvents.push(new double[]{xRange.lower, xRange.upper, yRange.lower, yRange.upper});
+		selectionHistory.record(getSelection());
 	}
 
-	private void trackRedoSelection() {
+	private double[] getSelection() {
 
 		Range xRange = getAxisSet().getXAxis(ID_PRIMARY_X_AXIS).getRange();
 		Range yRange = getAxisSet().getYAxis(ID_PRIMARY_Y_AXIS).getRange();
-		redoSelection = new double[]{xRange.lower, xRange.upper, yRange.lower, yRange.upper};
+		return new double[]{xRange.lower, xRange.upper, yRange.lower, yRange.upper};
 	}
 
 	public void undoSelection() {
 
-		try {
-			double[] undoSelection = handledSelectionEvents.pop();
-			handleSelection(undoSelection);
-		} catch(EmptyStackException e) {
-			e.printStackTrace();
+		double[] selection = selectionHistory.undo(getSelection());
+		if(selection != null) {
+			handleSelection(selection);
 		}
 	}
 
 	public void redoSelection() {
 
-		if(redoSelection != null) {
-			handleSelection(redoSelection);
-			redoSelection = null;
+		double[] selection = selectionHistory.redo(getSelection());
+		if(selection != null) {
+			handleSelection(selection);
 		}
 	}
 
@@ -62,6 +62,13 @@ public class ChartSettings implements IChartSettings {
 	 * environments, e.g. macOS, GTK3, ... .
 	 */
 	private boolean bufferSelection = false;
+	private int targetFramesPerSecond = 60;
+	private boolean adaptiveQuality = true;
+	private int adaptiveQualityIdleTime = 250;
+	private boolean animatedWheelZoom = true;
+	private int selectionHistoryMaxEntries = SelectionHistory.DEFAULT_MAX_ENTRIES;
+	private long selectionHistoryMaxBytes = SelectionHistory.DEFAULT_MAX_BYTES;
+	private int selectionHistoryCacheSize = 0;
 	//
 	private boolean enableRangeSelector = false;
 	private boolean showRangeSelectorInitially = true;
@@ -235,6 +242,90 @@ public class ChartSettings implements IChartSettings {
 		}
 	}
 
+	@Override
+	public int getTargetFramesPerSecond() {
+
+		return targetFramesPerSecond;
+	}
+
+	@Override
+	public void setTargetFramesPerSecond(int targetFramesPerSecond) {
+
+		this.targetFramesPerSecond = Math.max(0, targetFramesPerSecond);
+	}
+
+	@Override
+	public boolean isAdaptiveQuality() {
+
+		return adaptiveQuality;
+	}
+
+	@Override
+	public void setAdaptiveQuality(boolean adaptiveQuality) {
+
+		this.adaptiveQuality = adaptiveQuality;
+	}
+
+	@Override
+	public int getAdaptiveQualityIdleTime() {
+
+		return adaptiveQualityIdleTime;
+	}
+
+	@Override
+	public void setAdaptiveQualityIdleTime(int adaptiveQualityIdleTime) {
+
+		this.adaptiveQualityIdleTime = Math.max(0, adaptiveQualityIdleTime);
+	}
+
+	@Override
+	public boolean isAnimatedWheelZoom() {
+
+		return animatedWheelZoom;
+	}
+
+	@Override
+	public void setAnimatedWheelZoom(boolean animatedWheelZoom) {
+
+		this.animatedWheelZoom = animatedWheelZoom;
+	}
+
+	@Override
+	public int getSelectionHistoryMaxEntries() {
+
+		return selectionHistoryMaxEntries;
+	}
+
+	@Override
+	public void setSelectionHistoryMaxEntries(int selectionHistoryMaxEntries) {
+
+		this.selectionHistoryMaxEntries = Math.max(0, selectionHistoryMaxEntries);
+	}
+
+	@Override
+	public long getSelectionHistoryMaxBytes() {
+
+		return selectionHistoryMaxBytes;
+	}
+
+	@Override
+	public void setSelectionHistoryMaxBytes(long selectionHistoryMaxBytes) {
+
+		this.selectionHistoryMaxBytes = Math.max(0, selectionHistoryMaxBytes);
+	}
+
+	@Override
+	public int getSelectionHistoryCacheSize() {
+
+		return selectionHistoryCacheSize;
+	}
+
+	@Override
+	public void setSelectionHistoryCacheSize(int selectionHistoryCacheSize) {
+
+		this.selectionHistoryCacheSize = Math.max(0, selectionHistoryCacheSize);
+	}
+
 	@Override
 	public boolean isEnableRangeSelector() {
 
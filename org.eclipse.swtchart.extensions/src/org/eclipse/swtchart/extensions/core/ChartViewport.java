@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.extensions.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swtchart.Range;
+
+/**
+ * A viewport shared by linked charts, see
+ * {@link ScrollableChart#setViewport(ChartViewport, int)}.
+ * When the range of a subscribed chart changes, the range is published
+ * to the viewport. All updates until the next frame are coalesced and
+ * applied to the other subscribers once. The source of an update is
+ * tracked per axis, so that a subscriber isn't updated with the range it
+ * published itself, but with the range another subscriber published for
+ * the other axis. A subscriber whose range already matches is neither
+ * relayouted nor redrawn.
+ */
+public class ChartViewport {
+
+	/*
+	 * The primary axes linked by a subscriber.
+	 */
+	public static final int LINK_X = 1 << 0;
+	public static final int LINK_Y = 1 << 1;
+	public static final int LINK_XY = LINK_X | LINK_Y;
+	//
+	private final Map<ScrollableChart, Integer> subscribers = new LinkedHashMap<>();
+	private final Runnable frame = this::flush;
+	//
+	private Range rangeX = null;
+	private Range rangeY = null;
+	private ScrollableChart sourceX = null;
+	private ScrollableChart sourceY = null;
+	private Display display = null;
+
+	/**
+	 * Returns the subscribed charts in the order of subscription.
+	 *
+	 * @return {List<ScrollableChart>}
+	 */
+	public List<ScrollableChart> getSubscribers() {
+
+		return Collections.unmodifiableList(new ArrayList<>(subscribers.keySet()));
+	}
+
+	/**
+	 * Returns the axes linked by the given chart, LINK_X, LINK_Y or
+	 * LINK_XY, or 0 if the chart isn't subscribed.
+	 *
+	 * @param scrollableChart
+	 * @return int
+	 */
+	public int getLink(ScrollableChart scrollableChart) {
+
+		Integer link = subscribers.get(scrollableChart);
+		return link != null ? link : 0;
+	}
+
+	/**
+	 * Returns the last published range of the primary X axis, or null.
+	 *
+	 * @return {@link Range}
+	 */
+	public Range getRangeX() {
+
+		return copy(rangeX);
+	}
+
+	/**
+	 * Returns the last published range of the primary Y axis, or null.
+	 *
+	 * @return {@link Range}
+	 */
+	public Range getRangeY() {
+
+		return copy(rangeY);
+	}
+
+	/**
+	 * Publishes the ranges of the given subscriber. Only the ranges of the
+	 * axes linked by the subscriber are taken. The other subscribers are
+	 * updated with the next frame of the given subscriber.
+	 * Must be called on the UI thread.
+	 *
+	 * @param scrollableChart
+	 *            the subscriber whose range changed
+	 * @param rangeX
+	 *            the range of the primary X axis
+	 * @param rangeY
+	 *            the range of the primary Y axis
+	 */
+	public void update(ScrollableChart scrollableChart, Range rangeX, Range rangeY) {
+
+		int link = getLink(scrollableChart);
+		if(link == 0 || scrollableChart.isDisposed()) {
+			return;
+		}
+		//
+		boolean scheduled = isPending();
+		if((link & LINK_X) != 0 && rangeX != null) {
+			this.rangeX = copy(rangeX);
+			sourceX = scrollableChart;
+		}
+		if((link & LINK_Y) != 0 && rangeY != null) {
+			this.rangeY = copy(rangeY);
+			sourceY = scrollableChart;
+		}
+		//
+		if(!scheduled && isPending()) {
+			long frameInterval = scrollableChart.getBaseChart().getRedrawScheduler().getFrameInterval();
+			if(frameInterval <= 0) {
+				flush();
+			} else {
+				display = scrollableChart.getDisplay();
+				display.timerExec((int)frameInterval, frame);
+			}
+		}
+	}
+
+	/**
+	 * Returns if an update hasn't been applied to the subscribers yet.
+	 *
+	 * @return boolean
+	 */
+	public boolean isPending() {
+
+		return sourceX != null || sourceY != null;
+	}
+
+	/**
+	 * Applies a pending update to the subscribers immediately.
+	 */
+	public void flush() {
+
+		if(!isPending()) {
+			return;
+		}
+		//
+		if(display != null && !display.isDisposed()) {
+			display.timerExec(-1, frame);
+		}
+		ScrollableChart updateSourceX = sourceX;
+		ScrollableChart updateSourceY = sourceY;
+		Range updateX = sourceX != null ? rangeX : null;
+		Range updateY = sourceY != null ? rangeY : null;
+		sourceX = null;
+		sourceY = null;
+		display = null;
+		//
+		Iterator<Map.Entry<ScrollableChart, Integer>> iterator = subscribers.entrySet().iterator();
+		while(iterator.hasNext()) {
+			Map.Entry<ScrollableChart, Integer> entry = iterator.next();
+			ScrollableChart scrollableChart = entry.getKey();
+			if(scrollableChart.isDisposed()) {
+				iterator.remove();
+				continue;
+			}
+			//
+			int link = entry.getValue();
+			Range x = (link & LINK_X) != 0 && scrollableChart != updateSourceX ? copy(updateX) : null;
+			Range y = (link & LINK_Y) != 0 && scrollableChart != updateSourceY ? copy(updateY) : null;
+			if(x != null || y != null) {
+				scrollableChart.applyViewport(x, y);
+			}
+		}
+	}
+
+	void subscribe(ScrollableChart scrollableChart, int link) {
+
+		if((link & LINK_XY) == 0) {
+			throw new IllegalArgumentException("The link must contain LINK_X or LINK_Y."); //$NON-NLS-1$
+		}
+		subscribers.put(scrollableChart, link & LINK_XY);
+	}
+
+	void unsubscribe(ScrollableChart scrollableChart) {
+
+		if(scrollableChart == sourceX || scrollableChart == sourceY) {
+			/*
+			 * Don't lose the pending update of the chart.
+			 */
+			flush();
+		}
+		subscribers.remove(scrollableChart);
+	}
+
+	private static Range copy(Range range) {
+
+		return range != null ? new Range(range.lower, range.upper) : null;
+	}
+}
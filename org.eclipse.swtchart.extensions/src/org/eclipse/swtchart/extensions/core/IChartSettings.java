@@ -216,4 +216,155 @@ public interface IChartSettings {
 	boolean isBufferSelection();
 
 	void setBufferSelection(boolean bufferSelection);
+
+	/**
+	 * Returns the target frames per second. Redraw requests, e.g. on mouse
+	 * drags, linked charts or data appends, are coalesced to at most one
+	 * paint per frame. The frame rate is lowered automatically if painting
+	 * takes longer.
+	 * 
+	 * @return int
+	 */
+	default int getTargetFramesPerSecond() {
+
+		return 0;
+	}
+
+	/**
+	 * Sets the target frames per second. A value of 0 disables the
+	 * coalescing, i.e. each request leads to a redraw.
+	 * 
+	 * @param targetFramesPerSecond
+	 */
+	default void setTargetFramesPerSecond(int targetFramesPerSecond) {
+
+		// not supported
+	}
+
+	/**
+	 * Returns if the adaptive quality is enabled. While the user drags,
+	 * shifts or zooms via mouse wheel, the plot area is painted in draft
+	 * mode, i.e. with coarser compression and without anti-aliasing,
+	 * symbols, labels and error bars. The chart is repainted in full
+	 * quality when the interaction has been idle for the adaptive quality
+	 * idle time.
+	 * 
+	 * @return boolean
+	 */
+	default boolean isAdaptiveQuality() {
+
+		return false;
+	}
+
+	default void setAdaptiveQuality(boolean adaptiveQuality) {
+
+		// not supported
+	}
+
+	/**
+	 * Returns the time in milliseconds without interaction after which
+	 * the chart is repainted in full quality.
+	 * 
+	 * @return int
+	 */
+	default int getAdaptiveQualityIdleTime() {
+
+		return 0;
+	}
+
+	/**
+	 * Sets the idle time in milliseconds. Negative values are set to 0.
+	 * 
+	 * @param adaptiveQualityIdleTime
+	 */
+	default void setAdaptiveQualityIdleTime(int adaptiveQualityIdleTime) {
+
+		// not supported
+	}
+
+	/**
+	 * Returns if zooming via mouse wheel is animated. The wheel notches are
+	 * coalesced to one zoom step per frame. While zooming, the last image
+	 * of the series is scaled to the new axis ranges instead of compressing
+	 * and painting the series again. The series are compressed once when
+	 * the wheel has been idle for the adaptive quality idle time.
+	 * 
+	 * @return boolean
+	 */
+	default boolean isAnimatedWheelZoom() {
+
+		return false;
+	}
+
+	default void setAnimatedWheelZoom(boolean animatedWheelZoom) {
+
+		// not supported
+	}
+
+	/**
+	 * Returns the maximum number of entries of the selection history,
+	 * i.e. of the undo and redo selections together as well as of the data
+	 * shifts per series. The oldest entries are dropped. The limits are
+	 * applied when the settings are applied to the chart.
+	 * 
+	 * @return int
+	 */
+	default int getSelectionHistoryMaxEntries() {
+
+		return SelectionHistory.DEFAULT_MAX_ENTRIES;
+	}
+
+	/**
+	 * Sets the maximum number of entries. Negative values are set to 0.
+	 * 
+	 * @param selectionHistoryMaxEntries
+	 */
+	default void setSelectionHistoryMaxEntries(int selectionHistoryMaxEntries) {
+
+		// not supported
+	}
+
+	/**
+	 * Returns the memory limit of the undo and redo selections together in
+	 * bytes.
+	 * 
+	 * @return long
+	 */
+	default long getSelectionHistoryMaxBytes() {
+
+		return SelectionHistory.DEFAULT_MAX_BYTES;
+	}
+
+	/**
+	 * Sets the memory limit in bytes. Negative values are set to 0.
+	 * 
+	 * @param selectionHistoryMaxBytes
+	 */
+	default void setSelectionHistoryMaxBytes(long selectionHistoryMaxBytes) {
+
+		// not supported
+	}
+
+	/**
+	 * Returns the number of previous compressed outputs kept per series.
+	 * Going back to one of these viewports, e.g. via undo, restores the
+	 * compressed output instead of compressing the series again. The
+	 * outputs are discarded when the data changes. 0 disables the cache.
+	 * 
+	 * @return int
+	 */
+	default int getSelectionHistoryCacheSize() {
+
+		return 0;
+	}
+
+	/**
+	 * Sets the number of compressed outputs. Negative values are set to 0.
+	 * 
+	 * @param selectionHistoryCacheSize
+	 */
+	default void setSelectionHistoryCacheSize(int selectionHistoryCacheSize) {
+
+		// not supported
+	}
 }
\ No newline at end of file
@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.extensions.core;
+
+import java.util.function.IntSupplier;
+
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
+
+/**
+ * Coalesces redraw requests into at most one paint per frame.
+ * Mouse drags, linked charts and data appends may request a redraw
+ * much more often than the display refreshes. All requests between
+ * two frames lead to a single redraw. The frame interval is derived
+ * from the target frames per second and is stretched if painting
+ * takes longer, so that there's always time left to handle events.
+ */
+public class RedrawScheduler {
+
+	/*
+	 * The weight of the latest measured paint time in the moving average.
+	 */
+	private static final double PAINT_TIME_WEIGHT = 0.25d;
+	/*
+	 * Painting may take at most half of a frame.
+	 */
+	private static final int PAINT_TIME_FACTOR = 2;
+	/*
+	 * Give feedback at least 4 times per second, even for slow charts.
+	 */
+	private static final long MAX_FRAME_INTERVAL = 250;
+	//
+	private final Control control;
+	private final Runnable redraw;
+	private final IntSupplier targetFramesPerSecond;
+	//
+	private final Runnable frame = this::paintFrame;
+	private boolean pending = false;
+	private long lastFrameStart = 0;
+	private double averagePaintTime = 0.0d;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param control
+	 *            the control to update after redrawing
+	 * @param redraw
+	 *            the redraw operation
+	 * @param targetFramesPerSecond
+	 *            the target frames per second, a value &lt;= 0
+	 *            disables the coalescing
+	 */
+	public RedrawScheduler(Control control, Runnable redraw, IntSupplier targetFramesPerSecond) {
+
+		this.control = control;
+		this.redraw = redraw;
+		this.targetFramesPerSecond = targetFramesPerSecond;
+	}
+
+	/**
+	 * Requests a redraw. The redraw is executed with the next frame. Several
+	 * requests before the next frame lead to one redraw only.
+	 * Must be called on the UI thread.
+	 */
+	public void requestRedraw() {
+
+		if(control.isDisposed() || pending) {
+			return;
+		}
+		//
+		long frameInterval = getFrameInterval();
+		if(frameInterval <= 0) {
+			redraw.run();
+		} else {
+			pending = true;
+			long delay = Math.max(0, lastFrameStart + frameInterval - System.currentTimeMillis());
+			control.getDisplay().timerExec((int)delay, frame);
+		}
+	}
+
+	/**
+	 * Returns if a redraw has been requested but not executed yet.
+	 *
+	 * @return boolean
+	 */
+	public boolean isPending() {
+
+		return pending;
+	}
+
+	/**
+	 * Executes a pending redraw immediately.
+	 */
+	public void flush() {
+
+		if(pending && !control.isDisposed()) {
+			control.getDisplay().timerExec(-1, frame);
+			paintFrame();
+		}
+	}
+
+	/**
+	 * Returns the current frame interval in milliseconds. It is the
+	 * interval of the target frames per second, stretched by the
+	 * measured paint time.
+	 *
+	 * @return long
+	 */
+	public long getFrameInterval() {
+
+		int framesPerSecond = targetFramesPerSecond.getAsInt();
+		if(framesPerSecond <= 0) {
+			return 0;
+		}
+		//
+		long frameInterval = Math.max(1, 1000 / framesPerSecond);
+		long paintInterval = Math.round(averagePaintTime * PAINT_TIME_FACTOR);
+		return Math.max(frameInterval, Math.min(paintInterval, MAX_FRAME_INTERVAL));
+	}
+
+	/**
+	 * Returns the moving average of the paint time in milliseconds.
+	 *
+	 * @return double
+	 */
+	public double getAveragePaintTime() {
+
+		return averagePaintTime;
+	}
+
+	private void paintFrame() {
+
+		pending = false;
+		if(control.isDisposed()) {
+			return;
+		}
+		/*
+		 * Paint synchronously to measure the paint time.
+		 */
+		lastFrameStart = System.currentTimeMillis();
+		long start = System.nanoTime();
+		redraw.run();
+		control.update();
+		if(control instanceof Composite) {
+			for(Control child : ((Composite)control).getChildren()) {
+				child.update();
+			}
+		}
+		double paintTime = (System.nanoTime() - start) / 1000000.0d;
+		if(averagePaintTime == 0.0d) {
+			averagePaintTime = paintTime;
+		} else {
+			averagePaintTime += (paintTime - averagePaintTime) * PAINT_TIME_WEIGHT;
+		}
+	}
+}
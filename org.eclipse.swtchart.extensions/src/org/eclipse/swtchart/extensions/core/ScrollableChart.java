@@ -123,6 +123,10 @@ public class ScrollableChart extends Composite implements IScrollableChart, IEve
 	 * that are linked with the current editor.
 	 */
 	private List<ScrollableChart> linkedScrollableCharts = new ArrayList<>();
+	/*
+	 * The viewport shared with other charts, updated once per frame.
+	 */
+	private ChartViewport viewport = null;
 	//
 	private PositionMarker positionMarker;
 	private PlotCenterMarker plotCenterMarker;
@@ -286,6 +290,35 @@ public class ScrollableChart extends Composite implements IScrollableChart, IEve
 		return Collections.unmodifiableList(linkedScrollableCharts);
 	}
 
+	/**
+	 * Subscribes this chart to the given viewport, which is shared by the
+	 * linked charts. Range changes of the linked primary axes are published
+	 * to the viewport and applied to the other subscribers once per frame.
+	 * In contrast to addLinkedScrollableChart, each chart subscribes only
+	 * once, regardless of the number of linked charts.
+	 * 
+	 * @param viewport
+	 *            the viewport, null to unsubscribe
+	 * @param link
+	 *            the linked axes, ChartViewport.LINK_X, LINK_Y or LINK_XY
+	 */
+	public void setViewport(ChartViewport viewport, int link) {
+
+		if(viewport != null) {
+			viewport.subscribe(this, link);
+		}
+		//
+		if(this.viewport != null && this.viewport != viewport) {
+			this.viewport.unsubscribe(this);
+		}
+		this.viewport = viewport;
+	}
+
+	public ChartViewport getViewport() {
+
+		return viewport;
+	}
+
 	@Override
 	public void applySettings(IChartSettings chartSettings) {
 
@@ -459,15 +492,13 @@ public class ScrollableChart extends Composite implements IScrollableChart, IEve
 		}
 	}
 
+	/*
+	 * The markers are painted on the overlay, hence only
+	 * the markers are painted again, not the series.
+	 */
 	private void redrawPlotArea() {
 
-		BaseChart chart = getBaseChart();
-		IPlotArea plot = chart.getPlotArea();
-		if(plot instanceof Control) {
-			((Control)plot).redraw();
-		} else {
-			chart.redraw();
-		}
+		getBaseChart().getPlotArea().redrawOverlay();
 	}
 
 	@Override
@@ -533,7 +564,7 @@ public class ScrollableChart extends Composite implements IScrollableChart, IEve
 
 		boolean draw = !plotCenterMarker.isDraw();
 		plotCenterMarker.setDraw(draw);
-		super.redraw();
+		redrawPlotArea();
 		return draw;
 	}
 
@@ -1485,7 +1516,7 @@ public class ScrollableChart extends Composite implements IScrollableChart, IEve
 			//
 			displayRangeInfo();
 			fireUpdateCustomRangeSelectionHandlers(event);
-			baseChart.redraw();
+			baseChart.requestRedraw();
 		}
 	}
 
@@ -1665,7 +1696,7 @@ public class ScrollableChart extends Composite implements IScrollableChart, IEve
 				//
 				displayRangeInfo();
 				fireUpdateCustomRangeSelectionHandlers(event);
-				baseChart.redraw();
+				baseChart.requestRedraw();
 			}
 		}
 	}
@@ -1675,26 +1706,66 @@ public class ScrollableChart extends Composite implements IScrollableChart, IEve
 		IAxisSet axisSet = baseChart.getAxisSet();
 		Range rangeX = axisSet.getXAxis(BaseChart.ID_PRIMARY_X_AXIS).getRange();
 		Range rangeY = axisSet.getYAxis(BaseChart.ID_PRIMARY_Y_AXIS).getRange();
+		/*
+		 * Publish the range to the shared viewport.
+		 */
+		if(viewport != null) {
+			viewport.update(this, rangeX, rangeY);
+		}
 		/*
 		 * Adjust the range of the linked charts.
 		 */
 		for(ScrollableChart linkedScrollableChart : linkedScrollableCharts) {
-			IAxisSet axisSetLinked = linkedScrollableChart.getBaseChart().getAxisSet();
-			axisSetLinked.getXAxis(BaseChart.ID_PRIMARY_X_AXIS).setRange(rangeX);
-			axisSetLinked.getYAxis(BaseChart.ID_PRIMARY_Y_AXIS).setRange(rangeY);
-			linkedScrollableChart.getBaseChart().adjustSecondaryAxes();
-			linkedScrollableChart.getBaseChart().redraw();
-			/*
-			 * The method setSliderSelection(...) is private.
-			 * But as we are in the same class, it works.
-			 * Funny, I assumed that only protected and public
-			 * methods are accessible.
-			 */
-			linkedScrollableChart.setSliderSelection(false);
-			if(linkedScrollableChart.getChartSettings().isEnableRangeSelector()) {
-				linkedScrollableChart.getRangeSelector().adjustRanges(false);
+			linkedScrollableChart.applyViewport(rangeX, rangeY);
+		}
+	}
+
+	/**
+	 * Sets the range of the primary axes and updates the chart. Nothing is
+	 * done if the ranges are unchanged, so that the series aren't compressed
+	 * and painted again needlessly.
+	 * 
+	 * @param rangeX
+	 *            the range of the primary X axis, null to keep it
+	 * @param rangeY
+	 *            the range of the primary Y axis, null to keep it
+	 */
+	void applyViewport(Range rangeX, Range rangeY) {
+
+		IAxisSet axisSet = baseChart.getAxisSet();
+		IAxis xAxis = axisSet.getXAxis(BaseChart.ID_PRIMARY_X_AXIS);
+		IAxis yAxis = axisSet.getYAxis(BaseChart.ID_PRIMARY_Y_AXIS);
+		boolean updateX = rangeX != null && !isRangeEqual(xAxis.getRange(), rangeX);
+		boolean updateY = rangeY != null && !isRangeEqual(yAxis.getRange(), rangeY);
+		if(!updateX && !updateY) {
+			return;
+		}
+		/*
+		 * Layout and compress only once for all axes.
+		 */
+		baseChart.suspendUpdate(true);
+		try {
+			if(updateX) {
+				xAxis.setRange(rangeX);
+				baseChart.adjustSecondaryXAxes();
+			}
+			if(updateY) {
+				yAxis.setRange(rangeY);
+				baseChart.adjustSecondaryYAxes();
 			}
+		} finally {
+			baseChart.suspendUpdate(false);
 		}
+		baseChart.requestRedraw();
+		setSliderSelection(false);
+		if(getChartSettings().isEnableRangeSelector()) {
+			getRangeSelector().adjustRanges(false);
+		}
+	}
+
+	private static boolean isRangeEqual(Range range, Range other) {
+
+		return range.lower == other.lower && range.upper == other.upper;
 	}
 
 	private void createPopupMenu() {
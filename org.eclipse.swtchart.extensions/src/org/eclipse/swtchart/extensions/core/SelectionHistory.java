@@ -0,0 +1,242 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.extensions.core;
+
+/**
+ * A bounded undo/redo history of the selected ranges of the primary axes.
+ * The ranges are stored in ring buffers of primitive values, i.e. without
+ * an object per entry. The undo and redo entries share the maximum number of
+ * entries and the memory limit. If the history exceeds them, the oldest
+ * entries are dropped.
+ */
+public class SelectionHistory {
+
+	/*
+	 * X lower, X upper, Y lower, Y upper
+	 */
+	public static final int VALUES_PER_ENTRY = 4;
+	public static final int BYTES_PER_ENTRY = VALUES_PER_ENTRY * Double.BYTES;
+	//
+	public static final int DEFAULT_MAX_ENTRIES = 100;
+	public static final long DEFAULT_MAX_BYTES = 64 * 1024;
+	//
+	private final RangeStack undoStack = new RangeStack();
+	private final RangeStack redoStack = new RangeStack();
+	private int maxEntries = DEFAULT_MAX_ENTRIES;
+	private long maxBytes = DEFAULT_MAX_BYTES;
+
+	/**
+	 * Sets the limits of the history. The effective number of entries is the
+	 * minimum of the maximum entries and the entries fitting into the given
+	 * memory. If the history exceeds the new limits, the oldest undo entries
+	 * are dropped first, then the redo entries farthest from the current
+	 * ranges.
+	 *
+	 * @param maxEntries
+	 *            the maximum number of undo and redo entries, at least 0
+	 * @param maxBytes
+	 *            the maximum memory of the undo and redo entries in bytes, at
+	 *            least 0
+	 */
+	public void setLimits(int maxEntries, long maxBytes) {
+
+		this.maxEntries = Math.max(0, maxEntries);
+		this.maxBytes = Math.max(0, maxBytes);
+		int capacity = getCapacity();
+		undoStack.trim(capacity - redoStack.size());
+		redoStack.trim(capacity - undoStack.size());
+	}
+
+	public int getMaxEntries() {
+
+		return maxEntries;
+	}
+
+	public long getMaxBytes() {
+
+		return maxBytes;
+	}
+
+	/**
+	 * Returns the maximum number of undo and redo entries the history keeps
+	 * together.
+	 *
+	 * @return int
+	 */
+	public int getCapacity() {
+
+		return (int)Math.min(maxEntries, maxBytes / BYTES_PER_ENTRY);
+	}
+
+	/**
+	 * Records the ranges before a new selection. The redo entries are
+	 * discarded.
+	 *
+	 * @param selection
+	 *            X lower, X upper, Y lower, Y upper
+	 */
+	public void record(double[] selection) {
+
+		redoStack.clear();
+		undoStack.push(selection, getCapacity());
+	}
+
+	public boolean canUndo() {
+
+		return undoStack.size() > 0;
+	}
+
+	public boolean canRedo() {
+
+		return redoStack.size() > 0;
+	}
+
+	/**
+	 * Returns the ranges to go back to and keeps the current ranges for
+	 * redo, or null if there is nothing to undo.
+	 *
+	 * @param current
+	 *            the current ranges
+	 * @return double[]
+	 */
+	public double[] undo(double[] current) {
+
+		if(!canUndo()) {
+			return null;
+		}
+		double[] selection = undoStack.pop();
+		redoStack.push(current, getCapacity() - undoStack.size());
+		return selection;
+	}
+
+	/**
+	 * Returns the ranges to go forward to and keeps the current ranges for
+	 * undo, or null if there is nothing to redo.
+	 *
+	 * @param current
+	 *            the current ranges
+	 * @return double[]
+	 */
+	public double[] redo(double[] current) {
+
+		if(!canRedo()) {
+			return null;
+		}
+		double[] selection = redoStack.pop();
+		undoStack.push(current, getCapacity() - redoStack.size());
+		return selection;
+	}
+
+	public int getUndoSize() {
+
+		return undoStack.size();
+	}
+
+	public int getRedoSize() {
+
+		return redoStack.size();
+	}
+
+	/**
+	 * Returns the memory used by the entries in bytes.
+	 *
+	 * @return long
+	 */
+	public long getBytes() {
+
+		return (long)(undoStack.size() + redoStack.size()) * BYTES_PER_ENTRY;
+	}
+
+	public void clear() {
+
+		undoStack.clear();
+		redoStack.clear();
+	}
+
+	/*
+	 * A stack which drops its oldest entry when full.
+	 */
+	private static class RangeStack {
+
+		private static final int INITIAL_CAPACITY = 8;
+		//
+		private double[] values = new double[0];
+		private int first = 0;
+		private int size = 0;
+
+		public int size() {
+
+			return size;
+		}
+
+		public void push(double[] selection, int capacity) {
+
+			if(capacity <= 0) {
+				clear();
+				return;
+			}
+			//
+			trim(capacity - 1);
+			int entries = values.length / VALUES_PER_ENTRY;
+			if(size == entries) {
+				grow(Math.min(capacity, Math.max(INITIAL_CAPACITY, entries * 2)));
+				entries = values.length / VALUES_PER_ENTRY;
+			}
+			int offset = ((first + size) % entries) * VALUES_PER_ENTRY;
+			System.arraycopy(selection, 0, values, offset, VALUES_PER_ENTRY);
+			size++;
+		}
+
+		public double[] pop() {
+
+			int entries = values.length / VALUES_PER_ENTRY;
+			size--;
+			int offset = ((first + size) % entries) * VALUES_PER_ENTRY;
+			double[] selection = new double[VALUES_PER_ENTRY];
+			System.arraycopy(values, offset, selection, 0, VALUES_PER_ENTRY);
+			return selection;
+		}
+
+		/*
+		 * Drops the oldest entries until at most the given number is left.
+		 */
+		public void trim(int capacity) {
+
+			int keep = Math.max(0, capacity);
+			if(size > keep) {
+				int entries = values.length / VALUES_PER_ENTRY;
+				first = (first + size - keep) % entries;
+				size = keep;
+			}
+		}
+
+		public void clear() {
+
+			values = new double[0];
+			first = 0;
+			size = 0;
+		}
+
+		private void grow(int entries) {
+
+			double[] grown = new double[entries * VALUES_PER_ENTRY];
+			int oldEntries = values.length / VALUES_PER_ENTRY;
+			for(int i = 0; i < size; i++) {
+				int offset = ((first + i) % oldEntries) * VALUES_PER_ENTRY;
+				System.arraycopy(values, offset, grown, i * VALUES_PER_ENTRY, VALUES_PER_ENTRY);
+			}
+			values = grown;
+			first = 0;
+		}
+	}
+}
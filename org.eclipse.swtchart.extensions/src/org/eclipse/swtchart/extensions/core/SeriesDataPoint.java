@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.extensions.core;
+
+/**
+ * A data point of a series found by a lookup, see
+ * {@link BaseChart#getNearestDataPoint(int, int)}.
+ */
+public class SeriesDataPoint {
+
+	private final String seriesId;
+	private final int index;
+	private final double distance;
+
+	public SeriesDataPoint(String seriesId, int index, double distance) {
+
+		this.seriesId = seriesId;
+		this.index = index;
+		this.distance = distance;
+	}
+
+	public String getSeriesId() {
+
+		return seriesId;
+	}
+
+	/**
+	 * Returns the index of the data point in the series.
+	 *
+	 * @return int
+	 */
+	public int getIndex() {
+
+		return index;
+	}
+
+	/**
+	 * Returns the distance in pixels to the requested position.
+	 *
+	 * @return double
+	 */
+	public double getDistance() {
+
+		return distance;
+	}
+
+	@Override
+	public String toString() {
+
+		return "SeriesDataPoint [seriesId=" + seriesId + ", index=" + index + ", distance=" + distance + "]"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+}
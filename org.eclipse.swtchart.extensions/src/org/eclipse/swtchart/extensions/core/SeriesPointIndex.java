@@ -0,0 +1,543 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.extensions.core;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.eclipse.swtchart.ISeries;
+import org.eclipse.swtchart.internal.series.Series;
+import org.eclipse.swtchart.model.CartesianSeriesModel;
+import org.eclipse.swtchart.model.IndexedSeriesModel;
+
+/**
+ * Indexes the data points of a series to look up points by data coordinate.
+ * <p>
+ * If the x values are in ascending order, as usual for line series, points
+ * are found by binary search. Otherwise, e.g. for scatter series, a k-d tree
+ * is built lazily. The coordinates are stored on the log10 scale for log
+ * scale axes and as the series index for category axes, so that the
+ * distances can be weighted linearly by pixels per unit.
+ * <p>
+ * The index of a series holds the data points as drawn, i.e. with the data
+ * transform applied and with the stacked values of stack series. It is
+ * rebuilt when the data version or the stacked values of the series
+ * change. Data points appended to the same model in place are added
+ * incrementally; the k-d tree, if needed, is rebuilt with the next query.
+ */
+public class SeriesPointIndex {
+
+	private static final int INITIAL_CAPACITY = 16;
+	//
+	private final boolean logScaleX;
+	private final boolean logScaleY;
+	private final boolean category;
+	//
+	private Object series = null;
+	private long dataVersion = 0;
+	private long stackVersion = -1;
+	private double[] stackSeries = null;
+	private Object model = null;
+	private int modelSize = 0;
+	private double[] xs = new double[0];
+	private double[] ys = new double[0];
+	private int[] indexes = new int[0];
+	private int size = 0;
+	private boolean ascending = true;
+	/*
+	 * The affine transform of the data values:
+	 * X scale, X offset, Y scale, Y offset.
+	 */
+	private double[] dataTransform = new double[]{1, 0, 1, 0};
+	/*
+	 * The positions in k-d tree order, i.e. the median of each
+	 * range is the node which splits the range by x or y in turn.
+	 */
+	private int[] tree = null;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param logScaleX
+	 *            true if the x axis is log scale
+	 * @param logScaleY
+	 *            true if the y axis is log scale
+	 * @param category
+	 *            true if the x axis is a category axis
+	 */
+	public SeriesPointIndex(boolean logScaleX, boolean logScaleY, boolean category) {
+
+		this.logScaleX = logScaleX;
+		this.logScaleY = logScaleY;
+		this.category = category;
+	}
+
+	/**
+	 * Returns if the index has been created for the given axis settings.
+	 *
+	 * @param logScaleX
+	 *            true if the x axis is log scale
+	 * @param logScaleY
+	 *            true if the y axis is log scale
+	 * @param category
+	 *            true if the x axis is a category axis
+	 * @return boolean
+	 */
+	public boolean isCompatible(boolean logScaleX, boolean logScaleY, boolean category) {
+
+		return this.logScaleX == logScaleX && this.logScaleY == logScaleY && this.category == category;
+	}
+
+	/**
+	 * Updates the index with the data points of the given series. The index
+	 * is rebuilt if the series, its data version or its stacked values
+	 * changed.
+	 *
+	 * @param series
+	 *            the series
+	 */
+	public void update(ISeries<?> series) {
+
+		long newDataVersion = 0;
+		long newStackVersion = -1;
+		if(series instanceof Series<?>) {
+			Series<?> dataSeries = (Series<?>)series;
+			newDataVersion = dataSeries.getDataVersion();
+			if(dataSeries.isValidStackSeries()) {
+				newStackVersion = dataSeries.getStackVersion();
+			}
+		}
+		if(series != this.series || newDataVersion != dataVersion || newStackVersion != stackVersion) {
+			clear();
+			this.series = series;
+			dataVersion = newDataVersion;
+			stackVersion = newStackVersion;
+			if(series instanceof Series<?>) {
+				Series<?> dataSeries = (Series<?>)series;
+				dataTransform = dataSeries.getDataTransform();
+				stackSeries = newStackVersion >= 0 ? dataSeries.getDrawnYSeries() : null;
+			}
+		}
+		update(series.getDataModel());
+	}
+
+	/**
+	 * Updates the index with the data points of the given model. Only models
+	 * with indexed access are supported, the index is empty otherwise.
+	 *
+	 * @param model
+	 *            the model
+	 */
+	public <T> void update(CartesianSeriesModel<T> model) {
+
+		if(!(model instanceof IndexedSeriesModel<?>)) {
+			clear();
+			this.model = model;
+			return;
+		}
+		@SuppressWarnings("unchecked")
+		IndexedSeriesModel<T> indexedModel = (IndexedSeriesModel<T>)model;
+		int newSize = indexedModel.size();
+		if(model != this.model || newSize < modelSize) {
+			clear();
+			this.model = model;
+		} else if(newSize == modelSize) {
+			return;
+		}
+		//
+		for(int i = modelSize; i < newSize; i++) {
+			T item = indexedModel.itemAt(i);
+			Number x = model.getX(item);
+			Number y = model.getY(item);
+			if(x == null || y == null) {
+				continue;
+			}
+			double xValue = category ? i : transform(x.doubleValue() * dataTransform[0] + dataTransform[1], logScaleX);
+			double yValue;
+			if(stackSeries != null) {
+				yValue = i < stackSeries.length ? stackSeries[i] : Double.NaN;
+			} else {
+				yValue = transform(y.doubleValue() * dataTransform[2] + dataTransform[3], logScaleY);
+			}
+			if(Double.isFinite(xValue) && Double.isFinite(yValue)) {
+				add(xValue, yValue, i);
+			}
+		}
+		modelSize = newSize;
+	}
+
+	/**
+	 * Transforms the data value to the coordinate used by the index.
+	 *
+	 * @param value
+	 *            the data value
+	 * @param logScale
+	 *            true if the axis is log scale
+	 * @return the coordinate, <tt>NaN</tt> if not defined
+	 */
+	public static double transform(double value, boolean logScale) {
+
+		if(logScale) {
+			return value > 0 ? Math.log10(value) : Double.NaN;
+		}
+		return value;
+	}
+
+	/**
+	 * Gets the number of indexed data points.
+	 *
+	 * @return int
+	 */
+	public int size() {
+
+		return size;
+	}
+
+	/**
+	 * Returns if the x coordinates are in ascending order.
+	 *
+	 * @return boolean
+	 */
+	public boolean isAscending() {
+
+		return ascending;
+	}
+
+	/**
+	 * Gets the series index of the data point at the given position.
+	 *
+	 * @param position
+	 *            the position
+	 * @return the series index
+	 */
+	public int getIndex(int position) {
+
+		return indexes[position];
+	}
+
+	/**
+	 * Gets the distance of the data point at the given position. The
+	 * differences are multiplied by the given weights, e.g. the pixels
+	 * per unit of the axes.
+	 *
+	 * @param position
+	 *            the position
+	 * @param x
+	 *            the x coordinate
+	 * @param y
+	 *            the y coordinate
+	 * @param weightX
+	 *            the weight of the x difference
+	 * @param weightY
+	 *            the weight of the y difference
+	 * @return the distance
+	 */
+	public double getDistance(int position, double x, double y, double weightX, double weightY) {
+
+		return Math.sqrt(getSquaredDistance(position, x, y, weightX, weightY));
+	}
+
+	/**
+	 * Gets the position of the data point closest to the given coordinates.
+	 * The coordinates must have been transformed, see
+	 * {@link #transform(double, boolean)}.
+	 *
+	 * @param x
+	 *            the x coordinate
+	 * @param y
+	 *            the y coordinate
+	 * @param weightX
+	 *            the weight of the x difference
+	 * @param weightY
+	 *            the weight of the y difference
+	 * @return the position, or -1 if the index is empty
+	 */
+	public int getNearest(double x, double y, double weightX, double weightY) {
+
+		if(size == 0) {
+			return -1;
+		}
+		if(ascending) {
+			return getNearestAscending(x, y, weightX, weightY);
+		}
+		//
+		if(tree == null) {
+			buildTree();
+		}
+		Nearest nearest = new Nearest();
+		searchTree(0, size, 0, x, y, weightX, weightY, nearest);
+		return nearest.position;
+	}
+
+	/**
+	 * Marks the series indexes of the data points within the given
+	 * rectangle, bounds included. The coordinates must have been
+	 * transformed, see {@link #transform(double, boolean)}.
+	 *
+	 * @param xLower
+	 *            the lower x coordinate
+	 * @param xUpper
+	 *            the upper x coordinate
+	 * @param yLower
+	 *            the lower y coordinate
+	 * @param yUpper
+	 *            the upper y coordinate
+	 * @param result
+	 *            the bit set to mark the series indexes in
+	 */
+	public void getPointsInRange(double xLower, double xUpper, double yLower, double yUpper, BitSet result) {
+
+		if(size == 0 || xLower > xUpper || yLower > yUpper) {
+			return;
+		}
+		if(ascending) {
+			for(int i = lowerBound(xLower); i < size && xs[i] <= xUpper; i++) {
+				if(ys[i] >= yLower && ys[i] <= yUpper) {
+					result.set(indexes[i]);
+				}
+			}
+		} else {
+			if(tree == null) {
+				buildTree();
+			}
+			searchTree(0, size, 0, xLower, xUpper, yLower, yUpper, result);
+		}
+	}
+
+	private int getNearestAscending(double x, double y, double weightX, double weightY) {
+
+		/*
+		 * Start at the insertion point and walk outwards as long as
+		 * the x difference alone doesn't exceed the best distance.
+		 */
+		int upper = lowerBound(x);
+		int lower = upper - 1;
+		int position = -1;
+		double best = Double.POSITIVE_INFINITY;
+		while(lower >= 0 || upper < size) {
+			boolean proceed = false;
+			if(lower >= 0) {
+				double dx = (x - xs[lower]) * weightX;
+				if(dx * dx < best) {
+					double distance = getSquaredDistance(lower, x, y, weightX, weightY);
+					if(distance < best) {
+						best = distance;
+						position = lower;
+					}
+					lower--;
+					proceed = true;
+				} else {
+					lower = -1;
+				}
+			}
+			if(upper < size) {
+				double dx = (xs[upper] - x) * weightX;
+				if(dx * dx < best) {
+					double distance = getSquaredDistance(upper, x, y, weightX, weightY);
+					if(distance < best) {
+						best = distance;
+						position = upper;
+					}
+					upper++;
+					proceed = true;
+				} else {
+					upper = size;
+				}
+			}
+			if(!proceed) {
+				break;
+			}
+		}
+		return position;
+	}
+
+	/**
+	 * Gets the position of the first data point with an x coordinate
+	 * greater or equal than the given value. Requires ascending order.
+	 *
+	 * @param x
+	 *            the x coordinate
+	 * @return the position, size if there is none
+	 */
+	private int lowerBound(double x) {
+
+		int low = 0;
+		int high = size;
+		while(low < high) {
+			int middle = (low + high) >>> 1;
+			if(xs[middle] < x) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	private void buildTree() {
+
+		tree = new int[size];
+		for(int i = 0; i < size; i++) {
+			tree[i] = i;
+		}
+		buildTree(0, size, 0);
+	}
+
+	private void buildTree(int from, int to, int depth) {
+
+		while(to - from > 1) {
+			int median = (from + to) >>> 1;
+			select(from, to - 1, median, depth % 2 == 0 ? xs : ys);
+			buildTree(from, median, depth + 1);
+			from = median + 1;
+			depth++;
+		}
+	}
+
+	/**
+	 * Partially sorts the tree range, so that the k-th position holds the
+	 * median and the ranges before and after hold the smaller and greater
+	 * values (quickselect).
+	 */
+	private void select(int left, int right, int k, double[] values) {
+
+		while(right > left) {
+			double pivot = values[tree[(left + right) >>> 1]];
+			int i = left;
+			int j = right;
+			while(i <= j) {
+				while(values[tree[i]] < pivot) {
+					i++;
+				}
+				while(values[tree[j]] > pivot) {
+					j--;
+				}
+				if(i <= j) {
+					int swap = tree[i];
+					tree[i] = tree[j];
+					tree[j] = swap;
+					i++;
+					j--;
+				}
+			}
+			if(k <= j) {
+				right = j;
+			} else if(k >= i) {
+				left = i;
+			} else {
+				return;
+			}
+		}
+	}
+
+	private void searchTree(int from, int to, int depth, double x, double y, double weightX, double weightY, Nearest nearest) {
+
+		if(from >= to) {
+			return;
+		}
+		int median = (from + to) >>> 1;
+		int position = tree[median];
+		double distance = getSquaredDistance(position, x, y, weightX, weightY);
+		if(distance < nearest.distance) {
+			nearest.distance = distance;
+			nearest.position = position;
+		}
+		//
+		double delta = depth % 2 == 0 ? (x - xs[position]) * weightX : (y - ys[position]) * weightY;
+		if(delta < 0) {
+			searchTree(from, median, depth + 1, x, y, weightX, weightY, nearest);
+			if(delta * delta < nearest.distance) {
+				searchTree(median + 1, to, depth + 1, x, y, weightX, weightY, nearest);
+			}
+		} else {
+			searchTree(median + 1, to, depth + 1, x, y, weightX, weightY, nearest);
+			if(delta * delta < nearest.distance) {
+				searchTree(from, median, depth + 1, x, y, weightX, weightY, nearest);
+			}
+		}
+	}
+
+	private void searchTree(int from, int to, int depth, double xLower, double xUpper, double yLower, double yUpper, BitSet result) {
+
+		while(from < to) {
+			int median = (from + to) >>> 1;
+			int position = tree[median];
+			double x = xs[position];
+			double y = ys[position];
+			if(x >= xLower && x <= xUpper && y >= yLower && y <= yUpper) {
+				result.set(indexes[position]);
+			}
+			/*
+			 * The lower half holds values <= the split value,
+			 * the upper half values >= the split value.
+			 */
+			double value = depth % 2 == 0 ? x : y;
+			double lower = depth % 2 == 0 ? xLower : yLower;
+			double upper = depth % 2 == 0 ? xUpper : yUpper;
+			boolean searchLower = lower <= value;
+			boolean searchUpper = upper >= value;
+			if(searchLower && searchUpper) {
+				searchTree(from, median, depth + 1, xLower, xUpper, yLower, yUpper, result);
+				from = median + 1;
+			} else if(searchLower) {
+				to = median;
+			} else {
+				from = median + 1;
+			}
+			depth++;
+		}
+	}
+
+	private double getSquaredDistance(int position, double x, double y, double weightX, double weightY) {
+
+		double dx = (xs[position] - x) * weightX;
+		double dy = (ys[position] - y) * weightY;
+		return dx * dx + dy * dy;
+	}
+
+	private void add(double x, double y, int index) {
+
+		if(size == xs.length) {
+			int capacity = Math.max(INITIAL_CAPACITY, size * 2);
+			xs = Arrays.copyOf(xs, capacity);
+			ys = Arrays.copyOf(ys, capacity);
+			indexes = Arrays.copyOf(indexes, capacity);
+		}
+		if(size > 0 && x < xs[size - 1]) {
+			ascending = false;
+		}
+		xs[size] = x;
+		ys[size] = y;
+		indexes[size] = index;
+		size++;
+		tree = null;
+	}
+
+	private void clear() {
+
+		model = null;
+		modelSize = 0;
+		xs = new double[0];
+		ys = new double[0];
+		indexes = new int[0];
+		size = 0;
+		ascending = true;
+		tree = null;
+	}
+
+	private static class Nearest {
+
+		private int position = -1;
+		private double distance = Double.POSITIVE_INFINITY;
+	}
+}
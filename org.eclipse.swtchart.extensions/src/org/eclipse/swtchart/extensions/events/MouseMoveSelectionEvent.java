@@ -76,16 +76,13 @@ public class MouseMoveSelectionEvent extends AbstractHandledEventProcessor imple
 		/*
 		 * Set Selection Range
 		 */
+		baseChart.beginInteraction();
 		baseChart.getUserSelection().setStopCoordinate(event.x, event.y);
-		baseChart.increaseRedrawCounter();
-		if(baseChart.isRedraw()) {
-			/*
-			 * Rectangle is drawn here:
-			 * void paintControl(PaintEvent e)
-			 */
-			baseChart.redraw();
-			baseChart.resetRedrawCounter();
-		}
+		/*
+		 * Rectangle is drawn here:
+		 * void paintControl(PaintEvent e)
+		 */
+		baseChart.requestRedraw();
 	}
 
 	private boolean applyCursor(BaseChart baseChart) {
@@ -65,6 +65,7 @@ public class MouseMoveShiftEvent extends AbstractHandledEventProcessor implement
 						 * Shift
 						 */
 						showClickbindingHelp(baseChart, "Shift series", "Shift the selected series.");
+						baseChart.beginInteraction();
 						baseChart.setMoveStartTime(System.currentTimeMillis());
 						//
 						double shiftX = baseChart.getShiftValue(baseChart.getXMoveStart(), event.x, IExtendedChart.X_AXIS);
@@ -76,7 +77,7 @@ public class MouseMoveShiftEvent extends AbstractHandledEventProcessor implement
 								baseChart.shiftSeries(selectedSeriesId, shiftX, shiftY);
 							}
 						}
-						baseChart.redraw();
+						baseChart.requestRedraw();
 						//
 						baseChart.setXMoveStart(event.x);
 						baseChart.setYMoveStart(event.y);
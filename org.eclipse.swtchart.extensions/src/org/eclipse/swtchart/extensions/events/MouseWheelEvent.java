@@ -44,6 +44,15 @@ public class MouseWheelEvent extends AbstractHandledEventProcessor implements IH
 	@Override
 	public void handleEvent(BaseChart baseChart, Event event) {
 
+		/*
+		 * The notches are coalesced to one zoom per frame
+		 * and zoomed at once.
+		 */
+		baseChart.queueWheelZoom(event, e -> zoom(baseChart, e));
+	}
+
+	private void zoom(BaseChart baseChart, Event event) {
+
 		runZoomAction(baseChart, event);
 		postValidateZoom(baseChart);
 		//
@@ -62,18 +71,17 @@ public class MouseWheelEvent extends AbstractHandledEventProcessor implements IH
 			/*
 			 * X and Y zoom.
 			 */
-			baseChart.zoomX(xAxis, event);
-			baseChart.zoomY(yAxis, event);
+			baseChart.zoom(xAxis, yAxis, event);
 			showClickbindingHelp(baseChart, "Zoom", "Zoom the X and Y axis.");
 		} else {
 			/*
 			 * X or Y zoom.
 			 */
 			if(rangeRestriction.isRestrictZoomX()) {
-				baseChart.zoomX(xAxis, event);
+				baseChart.zoom(xAxis, null, event);
 				showClickbindingHelp(baseChart, "Zoom", "Zoom the X axis.");
 			} else if(rangeRestriction.isRestrictZoomY()) {
-				baseChart.zoomY(yAxis, event);
+				baseChart.zoom(null, yAxis, event);
 				showClickbindingHelp(baseChart, "Zoom", "Zoom the Y axis.");
 			}
 		}
@@ -24,6 +24,12 @@ public class PlotCenterMarker extends AbstractBaseChartPaintListener implements
 		super(baseChart);
 	}
 
+	@Override
+	public boolean drawOnOverlay() {
+
+		return true;
+	}
+
 	@Override
 	public void paintControl(PaintEvent e) {
 
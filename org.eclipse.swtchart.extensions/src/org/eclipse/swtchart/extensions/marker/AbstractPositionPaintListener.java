@@ -23,6 +23,16 @@ public abstract class AbstractPositionPaintListener extends AbstractBaseChartPai
 		super(baseChart);
 	}
 
+	/**
+	 * Position markers follow the mouse cursor, hence they are painted on
+	 * the overlay to not paint the series again on each mouse move.
+	 */
+	@Override
+	public boolean drawOnOverlay() {
+
+		return true;
+	}
+
 	@Override
 	public void setActualPosition(int x, int y) {
 
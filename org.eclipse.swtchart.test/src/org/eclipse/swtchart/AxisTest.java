@@ -781,6 +781,48 @@ public class AxisTest extends ChartTestCase {
 		showChart();
 	}
 
+	/**
+	 * Test for zooming by several steps at once.
+	 */
+	@Test
+	public void testZoomSteps()  {
+
+		ISeries<?> lineSeries = chart.getSeriesSet().createSeries(SeriesType.LINE, "line series");
+		lineSeries.setXSeries(xSeries1);
+		lineSeries.setYSeries(ySeries1);
+		// zoom linear scale axis
+		assertZoomSteps(new Range(0, 1), 0.4, 3);
+		assertZoomSteps(new Range(0, 1), 0.4, -3);
+		// zoom log scale axis
+		xAxis.enableLogScale(true);
+		assertZoomSteps(new Range(0.01, 10), 1, 2);
+		assertZoomSteps(new Range(0.01, 10), 1, -2);
+		xAxis.enableLogScale(false);
+		// zoom category axis
+		xAxis.setCategorySeries(categorySeries);
+		xAxis.enableCategory(true);
+		assertZoomSteps(new Range(0, 4), 1, 3);
+		assertZoomSteps(new Range(1, 3), 1, -3);
+	}
+
+	private void assertZoomSteps(Range range, double coordinate, int steps) {
+
+		xAxis.setRange(range);
+		for(int i = 0; i < Math.abs(steps); i++) {
+			if(steps > 0) {
+				xAxis.zoomIn(coordinate);
+			} else {
+				xAxis.zoomOut(coordinate);
+			}
+		}
+		Range expected = xAxis.getRange();
+		xAxis.setRange(range);
+		xAxis.zoom(coordinate, steps);
+		Range xRange = xAxis.getRange();
+		assertEquals(expected.lower, xRange.lower, 0.000001);
+		assertEquals(expected.upper, xRange.upper, 0.000001);
+	}
+
 	/**
 	 * Test for scrolling.
 	 */
@@ -1218,6 +1260,56 @@ public class AxisTest extends ChartTestCase {
 		assertIncreasingInPixel(ySeries1, yAxis);
 	}
 
+	/**
+	 * Test for bulk coordinate conversion.
+	 */
+	@Test
+	public void testPixelCoordinates()  {
+
+		xAxis.setRange(new Range(0.5, 6.5));
+		yAxis.setRange(new Range(0.08, 0.55));
+		showChart();
+		assertPixelCoordinates(xSeries3, xAxis);
+		assertPixelCoordinates(ySeries1, yAxis);
+		// slice into an existing buffer
+		int[] buffer = new int[10];
+		assertTrue(buffer == xAxis.getPixelCoordinates(xSeries3, 1, 3, buffer));
+		for(int i = 0; i < 3; i++) {
+			assertEquals(xAxis.getPixelCoordinate(xSeries3[i + 1]), buffer[i]);
+		}
+		// reversed
+		xAxis.setReversed(true);
+		yAxis.setReversed(true);
+		showChart();
+		assertPixelCoordinates(xSeries3, xAxis);
+		assertPixelCoordinates(ySeries1, yAxis);
+		// log scale
+		xAxis.enableLogScale(true);
+		yAxis.enableLogScale(true);
+		yAxis.setLogScaleBase(2);
+		xAxis.setRange(new Range(0.5, 6.5));
+		yAxis.setRange(new Range(0.08, 0.55));
+		showChart();
+		assertPixelCoordinates(xSeries3, xAxis);
+		assertPixelCoordinates(ySeries1, yAxis);
+		// category + vertical orientation
+		xAxis.enableLogScale(false);
+		xAxis.setReversed(false);
+		xAxis.setCategorySeries(categorySeries);
+		xAxis.enableCategory(true);
+		chart.setOrientation(SWT.VERTICAL);
+		showChart();
+		assertPixelCoordinates(new double[]{0, 1, 2, 3, 4}, xAxis);
+		assertPixelCoordinates(ySeries1, yAxis);
+		// invalid slice
+		try {
+			xAxis.getPixelCoordinates(xSeries3, 3, 3, null);
+			fail();
+		} catch(IllegalArgumentException e) {
+			// expected to reach here
+		}
+	}
+
 	private void assertIncreasing(List<Integer> values) {
 
 		for(int i = 0; i < values.size() - 1; i++) {
@@ -1232,6 +1324,15 @@ public class AxisTest extends ChartTestCase {
 		}
 	}
 
+	private void assertPixelCoordinates(double[] actualSeries, IAxis axis) {
+
+		int[] pixelCoordinates = axis.getPixelCoordinates(actualSeries, 0, actualSeries.length, null);
+		assertEquals(actualSeries.length, pixelCoordinates.length);
+		for(int i = 0; i < actualSeries.length; i++) {
+			assertEquals(axis.getPixelCoordinate(actualSeries[i]), pixelCoordinates[i]);
+		}
+	}
+
 	private void assertIncreasingInPixel(double[] actualSeries, IAxis axis) {
 
 		for(int i = 0; i < actualSeries.length - 1; i++) {
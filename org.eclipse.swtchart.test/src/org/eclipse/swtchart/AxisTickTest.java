@@ -18,6 +18,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.math.BigDecimal;
 import java.text.DateFormat;
 import java.text.DecimalFormat;
 import java.text.Format;
@@ -31,6 +32,8 @@ import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swtchart.IAxis.Position;
 import org.eclipse.swtchart.ISeries.SeriesType;
+import org.eclipse.swtchart.internal.axis.AxisTick;
+import org.eclipse.swtchart.internal.axis.AxisTickLabels;
 import org.eclipse.swtchart.util.ChartTestCase;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -259,6 +262,32 @@ public class AxisTickTest extends ChartTestCase {
 		showChart();
 	}
 
+	/**
+	 * Test for format changed in place.
+	 */
+	@Test
+	public void testFormatChangedInPlace() {
+
+		ILineSeries<?> lineSeries = (ILineSeries<?>)chart.getSeriesSet().createSeries(SeriesType.LINE, "line series");
+		lineSeries.setYSeries(ySeries);
+		chart.getAxisSet().adjustRange();
+		DecimalFormat yFormat = new DecimalFormat("0.0");
+		yAxisTick.setFormat(yFormat);
+		showChart();
+		AxisTickLabels axisTickLabels = ((AxisTick)yAxisTick).getAxisTickLabels();
+		assertEquals("0.0", axisTickLabels.getTickLabels().get(0));
+		// set the same format again
+		yFormat.applyPattern("0.00");
+		yAxisTick.setFormat(yFormat);
+		showChart();
+		assertEquals("0.00", axisTickLabels.getTickLabels().get(0));
+		// update the layout only
+		yFormat.applyPattern("0.000");
+		chart.updateLayout();
+		showChart();
+		assertEquals("0.000", axisTickLabels.getTickLabels().get(0));
+	}
+
 	/**
 	 * Test for tick label values.
 	 */
@@ -277,6 +306,39 @@ public class AxisTickTest extends ChartTestCase {
 		}
 	}
 
+	/**
+	 * Test for tick label values being exact multiples of the tick step.
+	 */
+	@Test
+	public void testTickLabelValuesExactness()  {
+
+		ILineSeries<?> lineSeries = (ILineSeries<?>)chart.getSeriesSet().createSeries(SeriesType.LINE, "line series");
+		lineSeries.setYSeries(ySeries);
+		IAxis yAxis = chart.getAxisSet().getYAxis(0);
+		Range[] ranges = {new Range(0.1, 0.3), new Range(-0.35, 0.35), new Range(1E6, 1E6 + 10), new Range(-1E-9, 1E-9), new Range(-5E14, 5E14)};
+		for(Range range : ranges) {
+			yAxis.setRange(range);
+			showChart();
+			double[] values = yAxisTick.getTickLabelValues();
+			assertTrue(values.length > 1);
+			BigDecimal first = BigDecimal.valueOf(values[0]);
+			BigDecimal step = BigDecimal.valueOf(values[1]).subtract(first);
+			for(int i = 0; i < values.length; i++) {
+				assertEquals(first.add(step.multiply(BigDecimal.valueOf(i))).doubleValue(), values[i], 0);
+			}
+			assertTrue(values[0] >= range.lower);
+			assertTrue(values[values.length - 1] <= range.upper);
+		}
+		// the cached ticks are reused for the same range only
+		yAxis.setRange(ranges[0]);
+		showChart();
+		double[] values = yAxisTick.getTickLabelValues();
+		yAxis.setRange(ranges[0]);
+		showChart();
+		assertEquals(values.length, yAxisTick.getTickLabelValues().length);
+		assertEquals(values[0], yAxisTick.getTickLabelValues()[0], 0);
+	}
+
 	/**
 	 * Test for tick label angle.
 	 */
@@ -348,4 +348,33 @@ public class BarSeriesTest extends ChartTestCase {
 		assertNull(rs[4]);
 		showChart();
 	}
+
+	/**
+	 * Test for bar index.
+	 */
+	@Test
+	public void testBarIndex()  {
+
+		IBarSeries<?> series = (IBarSeries<?>)chart.getSeriesSet().createSeries(SeriesType.BAR, "series");
+		series.setYSeries(ySeries1);
+		series.getYErrorBar().setVisible(true);
+		chart.getAxisSet().getXAxis(0).setCategorySeries(categorySeries);
+		chart.getAxisSet().getXAxis(0).enableCategory(true);
+		chart.getAxisSet().adjustRange();
+		showChart();
+		Rectangle[] rs = series.getBounds();
+		for(int i = 0; i < rs.length; i++) {
+			assertEquals(i, series.getBarIndex(rs[i].x + rs[i].width / 2, rs[i].y + rs[i].height / 2));
+		}
+		assertEquals(-1, series.getBarIndex(rs[0].x - 1, rs[0].y));
+		// the cached geometry follows the changes of the layout and data
+		series.setBarPadding(50);
+		assertFalse(rs[0].equals(series.getBounds()[0]));
+		series.setYSeries(new double[]{0.5, 0.4, 0.3, 0.2, 0.1});
+		rs = series.getBounds();
+		assertEquals(0, series.getBarIndex(rs[0].x, rs[0].y));
+		chart.getAxisSet().getXAxis(0).setRange(new Range(1, 3));
+		assertFalse(rs[0].equals(series.getBounds()[0]));
+		showChart();
+	}
 }
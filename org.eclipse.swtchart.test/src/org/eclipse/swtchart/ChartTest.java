@@ -13,6 +13,7 @@
 package org.eclipse.swtchart;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -21,9 +22,15 @@ import java.util.UUID;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTException;
+import org.eclipse.swt.events.PaintEvent;
 import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swtchart.ISeries.SeriesType;
+import org.eclipse.swtchart.internal.ChartLayout;
+import org.eclipse.swtchart.internal.PlotArea;
 import org.eclipse.swtchart.util.ChartTestCase;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -419,4 +426,184 @@ public class ChartTest extends ChartTestCase {
 		}
 		assertEquals(0, getSwtResourceCount());
 	}
+
+	/**
+	 * Test for the streaming render mode.
+	 */
+	@Test
+	public void testStreaming() throws Throwable {
+
+		ILineSeries<?> lineSeries = (ILineSeries<?>)chart.getSeriesSet().createSeries(SeriesType.LINE, "line series");
+		lineSeries.setSymbolType(ILineSeries.PlotSymbolType.NONE);
+		IPlotArea plotArea = chart.getPlotArea();
+		assertFalse(plotArea.isStreamingEnabled());
+		startTrackingSwtResources();
+		plotArea.setStreamingEnabled(true);
+		assertTrue(plotArea.isStreamingEnabled());
+		double[] xSeries = new double[1000];
+		double[] ySeries = new double[1000];
+		for(int i = 0; i < xSeries.length; i++) {
+			xSeries[i] = i;
+			ySeries[i] = Math.sin(i / 10d);
+		}
+		chart.getAxisSet().getYAxis(0).setRange(new Range(-1.5, 1.5));
+		for(int i = 100; i <= xSeries.length; i += 10) {
+			double[] x = new double[i];
+			double[] y = new double[i];
+			System.arraycopy(xSeries, 0, x, 0, i);
+			System.arraycopy(ySeries, 0, y, 0, i);
+			lineSeries.setXSeries(x);
+			lineSeries.setYSeries(y);
+			chart.getAxisSet().getXAxis(0).setRange(new Range(i - 100, i));
+			showChart();
+		}
+		// no resource is leaked when leaving the streaming mode
+		plotArea.setStreamingEnabled(false);
+		showChart();
+		assertEquals(0, getSwtResourceCount());
+	}
+
+	/**
+	 * Test for the streaming render mode with a sliding window whose bounds
+	 * aren't representable exactly.
+	 */
+	@Test
+	public void testStreamingSlidingWindow() {
+
+		ILineSeries<?> lineSeries = (ILineSeries<?>)chart.getSeriesSet().createSeries(SeriesType.LINE, "line series");
+		lineSeries.setSymbolType(ILineSeries.PlotSymbolType.NONE);
+		PlotArea plotArea = (PlotArea)chart.getPlotArea();
+		plotArea.setStreamingEnabled(true);
+		chart.getAxisSet().getYAxis(0).setRange(new Range(-1.5, 1.5));
+		double width = 10;
+		int fullRepaints = -1;
+		for(int i = 100; i <= 300; i++) {
+			double[] x = new double[i];
+			double[] y = new double[i];
+			for(int j = 0; j < i; j++) {
+				x[j] = j * 0.1;
+				y[j] = Math.sin(x[j]);
+			}
+			lineSeries.setXSeries(x);
+			lineSeries.setYSeries(y);
+			double t = x[i - 1];
+			chart.getAxisSet().getXAxis(0).setRange(new Range(t - width, t));
+			showChart();
+			if(fullRepaints < 0) {
+				fullRepaints = plotArea.getStreamingFullRepaints();
+			}
+		}
+		// the rounding noise of the window width doesn't lead to full repaints
+		assertEquals(fullRepaints, plotArea.getStreamingFullRepaints());
+		plotArea.setStreamingEnabled(false);
+		showChart();
+	}
+
+	/**
+	 * Test for the overlay of the plot area.
+	 */
+	@Test
+	public void testOverlay() {
+
+		ISeries<?> lineSeries = chart.getSeriesSet().createSeries(SeriesType.LINE, "line series");
+		lineSeries.setYSeries(ySeries1);
+		chart.getAxisSet().adjustRange();
+		int[] paints = new int[2];
+		IPlotArea plotArea = chart.getPlotArea();
+		plotArea.addCustomPaintListener(e -> paints[0]++);
+		plotArea.addCustomPaintListener(new ICustomPaintListener() {
+
+			@Override
+			public void paintControl(PaintEvent e) {
+
+				paints[1]++;
+			}
+
+			@Override
+			public boolean drawOnOverlay() {
+
+				return true;
+			}
+		});
+		showChart();
+		plotArea.getControl().update();
+		int contentPaints = paints[0];
+		int overlayPaints = paints[1];
+		// only the overlay is painted again
+		plotArea.redrawOverlay();
+		plotArea.getControl().update();
+		assertEquals(contentPaints, paints[0]);
+		// the image data contains the overlay
+		plotArea.getImageData();
+		assertTrue(paints[0] > contentPaints);
+		assertTrue(paints[1] > overlayPaints);
+	}
+
+	/**
+	 * Test for off-screen rendering.
+	 */
+	@Test
+	public void testRenderImageData() throws Throwable {
+
+		ISeries<?> lineSeries = chart.getSeriesSet().createSeries(SeriesType.LINE, "line series");
+		lineSeries.setYSeries(ySeries1);
+		chart.getAxisSet().adjustRange();
+		showChart();
+		Point size = chart.getSize();
+		Rectangle plotAreaBounds = chart.getPlotArea().getBounds();
+		// the chart on screen isn't resized
+		int[] resizeCount = new int[1];
+		chart.addListener(SWT.Resize, event -> resizeCount[0]++);
+		((PlotArea)chart.getPlotArea()).addListener(SWT.Resize, event -> resizeCount[0]++);
+		// larger than the screen
+		ImageData imageData = chart.renderImageData(4000, 3000, 100);
+		assertEquals(4000, imageData.width);
+		assertEquals(3000, imageData.height);
+		assertEquals(size, chart.getSize());
+		// high DPI
+		imageData = chart.renderImageData(800, 600, 200);
+		assertEquals(800, imageData.width);
+		assertEquals(600, imageData.height);
+		assertEquals(size, chart.getSize());
+		assertEquals(plotAreaBounds, chart.getPlotArea().getBounds());
+		assertEquals(0, resizeCount[0]);
+		// invalid size
+		try {
+			chart.renderImageData(0, 600, 100);
+			fail();
+		} catch(IllegalArgumentException e) {
+			// expected to reach here
+		}
+	}
+
+	/**
+	 * Test for incremental layout.
+	 */
+	@Test
+	public void testIncrementalLayout()  {
+
+		ISeries<?> lineSeries = chart.getSeriesSet().createSeries(SeriesType.LINE, "line series");
+		lineSeries.setYSeries(ySeries1);
+		IAxis yAxis = chart.getAxisSet().getYAxis(0);
+		yAxis.setRange(new Range(100, 200));
+		showChart();
+		ChartLayout layout = (ChartLayout)chart.getLayout();
+		long layoutCount = layout.getLayoutCount();
+		long skippedLayoutCount = layout.getSkippedLayoutCount();
+		// the tick labels take the same space
+		yAxis.setRange(new Range(300, 400));
+		showChart();
+		assertEquals(layoutCount, layout.getLayoutCount());
+		assertTrue(layout.getSkippedLayoutCount() > skippedLayoutCount);
+		assertEquals(300, yAxis.getTick().getTickLabelValues()[0], 0);
+		// the tick labels get wider
+		yAxis.setRange(new Range(100000, 200000));
+		showChart();
+		assertTrue(layout.getLayoutCount() > layoutCount);
+		// the size changes
+		layoutCount = layout.getLayoutCount();
+		Point size = chart.getSize();
+		chart.setSize(size.x + 10, size.y);
+		assertTrue(layout.getLayoutCount() > layoutCount);
+	}
 }
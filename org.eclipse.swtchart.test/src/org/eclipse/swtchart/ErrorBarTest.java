@@ -19,6 +19,8 @@ import static org.junit.Assert.fail;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.RGB;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swtchart.IErrorBar.ErrorBarType;
 import org.eclipse.swtchart.ISeries.SeriesType;
@@ -225,6 +227,45 @@ public class ErrorBarTest extends ChartTestCase {
 		showChart();
 	}
 
+	/**
+	 * Test for many error bars partially outside of plot area.
+	 */
+	@Test
+	public void testManyErrorBars()  {
+
+		ISeries<?> series = chart.getSeriesSet().getSeries("series");
+		double[] ySeries = new double[10000];
+		for(int i = 0; i < ySeries.length; i++) {
+			ySeries[i] = Math.sin(i / 100d) + 2;
+		}
+		series.setYSeries(ySeries);
+		xErrorBar.setVisible(false);
+		yErrorBar.setError(0.5);
+		yErrorBar.setColor(Display.getDefault().getSystemColor(SWT.COLOR_RED));
+		chart.getAxisSet().adjustRange();
+		showChart();
+		final RGB red = Display.getDefault().getSystemColor(SWT.COLOR_RED).getRGB();
+		assertTrue(countPixels(red) > 0);
+		// partially visible
+		chart.getAxisSet().getXAxis(0).setRange(new Range(2000, 3000));
+		chart.getAxisSet().getYAxis(0).setRange(new Range(1.5, 2.5));
+		for(ErrorBarType type : ErrorBarType.values()) {
+			yErrorBar.setType(type);
+			showChart();
+			assertTrue(countPixels(red) > 0);
+		}
+		// completely outside of plot area
+		chart.getAxisSet().getYAxis(0).setRange(new Range(10, 20));
+		showChart();
+		assertEquals(0, countPixels(red));
+		chart.getAxisSet().getYAxis(0).setRange(new Range(1.5, 2.5));
+		// log scale with error ends below zero
+		yErrorBar.setError(3);
+		chart.getAxisSet().getYAxis(0).enableLogScale(true);
+		showChart();
+		assertTrue(countPixels(red) > 0);
+	}
+
 	/**
 	 * Test for label visibility.
 	 */
@@ -256,4 +297,21 @@ public class ErrorBarTest extends ChartTestCase {
 		assertFalse(yErrorBar.isVisible());
 		showChart();
 	}
+
+	/**
+	 * Counts the pixels of the given color in the plot area.
+	 */
+	private int countPixels(RGB rgb) {
+
+		ImageData imageData = chart.getPlotArea().getImageData();
+		int count = 0;
+		for(int y = 0; y < imageData.height; y++) {
+			for(int x = 0; x < imageData.width; x++) {
+				if(rgb.equals(imageData.palette.getRGB(imageData.getPixel(x, y)))) {
+					count++;
+				}
+			}
+		}
+		return count;
+	}
 }
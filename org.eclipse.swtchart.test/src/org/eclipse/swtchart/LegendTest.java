@@ -14,6 +14,7 @@ package org.eclipse.swtchart;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -27,6 +28,7 @@ import org.eclipse.swt.graphics.RGB;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swtchart.ISeries.SeriesType;
+import org.eclipse.swtchart.internal.Legend;
 import org.eclipse.swtchart.util.ChartTestCase;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -337,4 +339,46 @@ public class LegendTest extends ChartTestCase {
 		assertEquals(new Rectangle(0, 62, 81, 14), r);
 		showChart();
 	}
+
+	/**
+	 * Test for legend with more series than fit.
+	 */
+	@Test
+	public void testScrolling() {
+
+		for(int i = 0; i < 500; i++) {
+			ISeries<?> series = chart.getSeriesSet().createSeries(SeriesType.LINE, "series" + i);
+			series.setYSeries(ySeries1);
+		}
+		chart.getAxisSet().adjustRange();
+		showChart();
+		// the size is not limited by default
+		Legend control = (Legend)legend;
+		assertEquals(0, control.getMaxSizeRatio(), 0);
+		assertEquals(0, control.getScrollOffset());
+		control.setMaxSizeRatio(0.5);
+		assertEquals(0.5, control.getMaxSizeRatio(), 0);
+		showChart();
+		assertTrue(control.getSize().x <= chart.getClientArea().width / 2);
+		Rectangle r = legend.getBounds("series0");
+		assertEquals(0, r.x);
+		// the legend is scrolled to the last column
+		control.setScrollOffset(Integer.MAX_VALUE);
+		assertTrue(control.getScrollOffset() > 0);
+		assertEquals(-control.getScrollOffset(), legend.getBounds("series0").x);
+		showChart();
+		// the bounds of deleted series are dropped
+		chart.getSeriesSet().deleteSeries("series0");
+		assertNull(legend.getBounds("series0"));
+		control.setScrollOffset(0);
+		assertEquals(0, control.getScrollOffset());
+		showChart();
+		// invalid ratio
+		try {
+			control.setMaxSizeRatio(2);
+			fail();
+		} catch(IllegalArgumentException e) {
+			// expected to reach here
+		}
+	}
 }
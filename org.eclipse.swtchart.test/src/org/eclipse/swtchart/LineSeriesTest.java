@@ -14,15 +14,25 @@ package org.eclipse.swtchart;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.RGB;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swtchart.ILineSeries.PlotSymbolType;
 import org.eclipse.swtchart.ISeries.SeriesType;
+import org.eclipse.swtchart.internal.PlotArea;
+import org.eclipse.swtchart.internal.series.LineSeries;
+import org.eclipse.swtchart.internal.series.SeriesRasterizer;
 import org.eclipse.swtchart.util.ChartTestCase;
 import org.junit.Test;
 
@@ -386,6 +396,29 @@ public class LineSeriesTest extends ChartTestCase {
 		assertEquals(DEFAULT_SIZE, series.getSymbolSize());
 	}
 
+	/**
+	 * Test for the pre-rendered symbols which have to be released together
+	 * with the series.
+	 */
+	@Test
+	public void testSymbolSprites() throws Exception {
+
+		ILineSeries<?> series = (ILineSeries<?>)seriesSet.createSeries(SeriesType.LINE, "series");
+		series.setYSeries(ySeries1);
+		series.setLineStyle(LineStyle.NONE);
+		Color red = Display.getDefault().getSystemColor(SWT.COLOR_RED);
+		Color green = Display.getDefault().getSystemColor(SWT.COLOR_GREEN);
+		series.setSymbolColors(new Color[]{red, green, red, green});
+		chart.getAxisSet().adjustRange();
+		startTrackingSwtResources();
+		for(PlotSymbolType type : PlotSymbolType.values()) {
+			series.setSymbolType(type);
+			showChart();
+		}
+		seriesSet.deleteSeries("series");
+		assertEquals(0, getSwtResourceCount());
+	}
+
 	/**
 	 * Test for setting color.
 	 */
@@ -582,4 +615,269 @@ public class LineSeriesTest extends ChartTestCase {
 		chart.getAxisSet().adjustRange();
 		showChart();
 	}
+
+	/**
+	 * Test for parallel rendering.
+	 */
+	@Test
+	public void testParallelRendering() throws Exception {
+
+		// the tiles are composited in painting order
+		List<SeriesRasterizer.Layer> layers = new ArrayList<>();
+		layers.add(new SeriesRasterizer.Layer(new int[]{-50, 250}, new int[]{100, 100}, 0xFF0000, 3, null, 0, false));
+		layers.add(new SeriesRasterizer.Layer(new int[]{100}, new int[]{100}, -1, 1, new int[]{0x0000FF}, 4, true));
+		ImageData imageData = SeriesRasterizer.rasterize(layers, 200, 150);
+		assertEquals(0xFF0000, imageData.getPixel(10, 99));
+		assertEquals(0xFF0000, imageData.getPixel(199, 101));
+		assertEquals(255, imageData.getAlpha(10, 100));
+		assertEquals(0x0000FF, imageData.getPixel(100, 100));
+		assertEquals(0, imageData.getAlpha(10, 97));
+		assertEquals(0, imageData.getAlpha(10, 103));
+		// a steep line crossing all tiles has no seams at the tile borders
+		layers.clear();
+		layers.add(new SeriesRasterizer.Layer(new int[]{-1000, 1300}, new int[]{-7000, 7300}, 0xFF0000, 1, null, 0, false));
+		imageData = SeriesRasterizer.rasterize(layers, 300, 300);
+		int previous = -1;
+		for(int y = 0; y < 300; y++) {
+			int covered = 0;
+			int x = -1;
+			for(int i = 0; i < 300; i++) {
+				if(imageData.getAlpha(i, y) != 0) {
+					covered++;
+					x = i;
+				}
+			}
+			assertEquals(1, covered);
+			assertTrue(previous == -1 || Math.abs(x - previous) <= 1);
+			previous = x;
+		}
+		// chart with rasterized and regular series
+		ILineSeries<?> series1 = (ILineSeries<?>)chart.getSeriesSet().createSeries(SeriesType.LINE, "series 1");
+		series1.setYSeries(ySeries1);
+		ILineSeries<?> series2 = (ILineSeries<?>)chart.getSeriesSet().createSeries(SeriesType.LINE, "series 2");
+		series2.setYSeries(ySeries2);
+		series2.enableArea(true);
+		ILineSeries<?> series3 = (ILineSeries<?>)chart.getSeriesSet().createSeries(SeriesType.LINE, "series 3");
+		series3.setXSeries(xSeries2);
+		series3.setYSeries(ySeries1);
+		series3.setSymbolType(PlotSymbolType.SQUARE);
+		series3.setLineStyle(LineStyle.NONE);
+		chart.getAxisSet().adjustRange();
+		IPlotArea plotArea = chart.getPlotArea();
+		assertFalse(plotArea.isParallelRenderingEnabled());
+		plotArea.setParallelRenderingEnabled(true);
+		assertTrue(plotArea.isParallelRenderingEnabled());
+		startTrackingSwtResources();
+		showChart();
+		chart.setOrientation(SWT.VERTICAL);
+		showChart();
+		chart.renderImageData(400, 300, 100);
+		assertEquals(0, getSwtResourceCount());
+	}
+
+	/**
+	 * Test for draft mode.
+	 */
+	@Test
+	public void testDraftMode() throws Exception {
+
+		ILineSeries<?> series = (ILineSeries<?>)chart.getSeriesSet().createSeries(SeriesType.LINE, "series");
+		series.setYSeries(ySeries1);
+		series.setAntialias(SWT.ON);
+		series.getLabel().setVisible(true);
+		series.getYErrorBar().setVisible(true);
+		chart.getAxisSet().adjustRange();
+		showChart();
+		// anti-aliasing, labels and error bars prevent the rasterization
+		LineSeries<?> lineSeries = (LineSeries<?>)series;
+		Point size = chart.getPlotArea().getSize();
+		assertNull(lineSeries.createRasterLayer(size.x, size.y));
+		IPlotArea plotArea = chart.getPlotArea();
+		assertFalse(plotArea.isDraftMode());
+		plotArea.setDraftMode(true);
+		assertTrue(plotArea.isDraftMode());
+		assertNotNull(lineSeries.createRasterLayer(size.x, size.y));
+		showChart();
+		plotArea.setDraftMode(false);
+		assertFalse(plotArea.isDraftMode());
+		assertNull(lineSeries.createRasterLayer(size.x, size.y));
+		showChart();
+	}
+
+	/**
+	 * Test for progressive rendering.
+	 */
+	@Test
+	public void testProgressiveRendering() {
+
+		IPlotArea plotArea = chart.getPlotArea();
+		assertFalse(plotArea.isProgressiveRenderingEnabled());
+		plotArea.setProgressiveRenderingEnabled(true);
+		assertTrue(plotArea.isProgressiveRenderingEnabled());
+		// small data sets are painted in full precision at once
+		ILineSeries<?> series = (ILineSeries<?>)chart.getSeriesSet().createSeries(SeriesType.LINE, "series");
+		series.setYSeries(ySeries1);
+		chart.getAxisSet().adjustRange();
+		assertTrue(plotArea.isRenderingComplete());
+		// large data sets are refined in subsequent frames
+		double[] ySeries = new double[200000];
+		for(int i = 0; i < ySeries.length; i++) {
+			ySeries[i] = Math.sin(i / 1000d);
+		}
+		series.setYSeries(ySeries);
+		chart.getAxisSet().adjustRange();
+		assertFalse(plotArea.isRenderingComplete());
+		showChart();
+		assertTrue(awaitRendering());
+		assertTrue(plotArea.isRenderingComplete());
+		// shifting the same data model restarts the progression
+		((LineSeries<?>)series).transformData(1, 1, 1, 0);
+		assertEquals(1 / 16d, ((PlotArea)plotArea).getDetailLevel(), 0);
+		showChart();
+		assertTrue(awaitRendering());
+		assertEquals(1, ((PlotArea)plotArea).getDetailLevel(), 0);
+		// disabling completes the rendering immediately
+		series.setYSeries(ySeries.clone());
+		chart.getAxisSet().adjustRange();
+		assertFalse(plotArea.isRenderingComplete());
+		plotArea.setProgressiveRenderingEnabled(false);
+		assertTrue(plotArea.isRenderingComplete());
+	}
+
+	/**
+	 * Test for viewport transition.
+	 */
+	@Test
+	public void testViewportTransition() {
+
+		ILineSeries<?> series = (ILineSeries<?>)chart.getSeriesSet().createSeries(SeriesType.LINE, "series");
+		series.setXSeries(xSeries1);
+		series.setYSeries(ySeries1);
+		chart.getAxisSet().adjustRange();
+		showChart();
+		IPlotArea plotArea = chart.getPlotArea();
+		assertFalse(plotArea.isViewportTransitionActive());
+		plotArea.beginViewportTransition();
+		assertTrue(plotArea.isViewportTransitionActive());
+		// zooming in and out only scales the image
+		IAxis xAxis = chart.getAxisSet().getXAxis(0);
+		IAxis yAxis = chart.getAxisSet().getYAxis(0);
+		for(int i = 0; i < 10; i++) {
+			xAxis.zoomIn();
+			yAxis.zoomOut();
+			showChart();
+		}
+		assertTrue(plotArea.isViewportTransitionActive());
+		// the image data of the plot area doesn't end the transition
+		assertNotNull(plotArea.getImageData());
+		assertTrue(plotArea.isViewportTransitionActive());
+		// the rendered chart is painted in full quality
+		assertNotNull(chart.renderImageData(400, 300, 100));
+		assertFalse(plotArea.isViewportTransitionActive());
+		plotArea.beginViewportTransition();
+		xAxis.setRange(new Range(1000, 2000));
+		showChart();
+		plotArea.endViewportTransition();
+		assertFalse(plotArea.isViewportTransitionActive());
+		showChart();
+	}
+
+	/**
+	 * Test for hit-testing.
+	 */
+	@Test
+	public void testIndexAt() {
+
+		ILineSeries<?> series = (ILineSeries<?>)seriesSet.createSeries(SeriesType.LINE, "series");
+		series.setXSeries(xSeries1);
+		series.setYSeries(ySeries1);
+		chart.getAxisSet().adjustRange();
+		showChart();
+		for(int i = 0; i < xSeries1.length; i++) {
+			Point point = series.getPixelCoordinates(i);
+			assertEquals(i, series.getIndexAt(point.x, point.y, 0));
+			assertEquals(i, series.getIndexAt(point.x + 3, point.y - 3, 8));
+		}
+		Point point = series.getPixelCoordinates(0);
+		assertEquals(-1, series.getIndexAt(point.x - 20, point.y, 8));
+		// the index follows the axis range
+		chart.getAxisSet().getXAxis(0).setRange(new Range(0, 10));
+		Point moved = series.getPixelCoordinates(0);
+		assertTrue(moved.x != point.x);
+		assertEquals(0, series.getIndexAt(moved.x, moved.y, 0));
+		// the index follows the orientation
+		chart.setOrientation(SWT.VERTICAL);
+		showChart();
+		moved = series.getPixelCoordinates(4);
+		assertEquals(4, series.getIndexAt(moved.x, moved.y, 0));
+		assertEquals(-1, series.getIndexAt(-100, -100, 8));
+	}
+
+	/**
+	 * Test for data transform.
+	 */
+	@Test
+	public void testDataTransform() {
+
+		LineSeries<?> series = (LineSeries<?>)seriesSet.createSeries(SeriesType.LINE, "series");
+		series.setXSeries(xSeries1);
+		series.setYSeries(ySeries1);
+		assertFalse(series.isDataTransformed());
+		// the transforms are composed
+		series.transformData(1, 10, 1, 0);
+		series.transformData(2, 0, 10, 1);
+		assertTrue(series.isDataTransformed());
+		double[] transform = series.getDataTransform();
+		assertEquals(2, transform[0], 0);
+		assertEquals(20, transform[1], 0);
+		assertEquals(10, transform[2], 0);
+		assertEquals(1, transform[3], 0);
+		assertEquals(22, series.getXSeries()[0], 0);
+		assertEquals(30, series.getXSeries()[4], 0);
+		assertEquals(2, series.getYSeries()[0], 0.0001);
+		assertEquals(22, series.getXRange().lower, 0);
+		assertEquals(30, series.getXRange().upper, 0);
+		assertEquals(2, series.getYRange().lower, 0.0001);
+		assertEquals(6, series.getYRange().upper, 0.0001);
+		// the data model isn't changed
+		assertEquals(1, series.getDataModel().getMinX().doubleValue(), 0);
+		chart.getAxisSet().adjustRange();
+		showChart();
+		Point coordinates = series.getPixelCoordinates(4);
+		assertEquals(chart.getAxisSet().getXAxis(0).getPixelCoordinate(30), coordinates.x);
+		// a negative y scale swaps the range bounds
+		series.transformData(1, 0, -1, 0);
+		assertEquals(-6, series.getYRange().lower, 0.0001);
+		assertEquals(-2, series.getYRange().upper, 0.0001);
+		// the data is materialized
+		series.materializeDataTransform();
+		assertFalse(series.isDataTransformed());
+		assertEquals(22, series.getDataModel().getMinX().doubleValue(), 0);
+		assertEquals(-2, series.getYSeries()[0], 0.0001);
+		// a negative x scale is applied to the data model
+		series.transformData(-1, 0, 1, 0);
+		assertFalse(series.isDataTransformed());
+		assertEquals(-30, series.getXRange().lower, 0);
+		// setting the data resets the transform
+		series.transformData(1, 5, 1, 0);
+		series.setXSeries(xSeries1);
+		assertFalse(series.isDataTransformed());
+		// the X transform doesn't apply to the indexes of a category axis
+		IAxis xAxis = chart.getAxisSet().getXAxis(0);
+		IAxis yAxis = chart.getAxisSet().getYAxis(0);
+		xAxis.setCategorySeries(new String[]{"a", "b", "c", "d", "e"});
+		xAxis.enableCategory(true);
+		chart.getAxisSet().adjustRange();
+		series.transformData(1, 5, 1, 0);
+		chart.getAxisSet().adjustRange();
+		showChart();
+		assertEquals(2, series.getIndexAt(xAxis.getPixelCoordinate(2), yAxis.getPixelCoordinate(ySeries1[2]), 2));
+		xAxis.enableCategory(false);
+		try {
+			series.transformData(0, 0, 1, 0);
+			fail();
+		} catch(IllegalArgumentException e) {
+			// expected
+		}
+	}
 }
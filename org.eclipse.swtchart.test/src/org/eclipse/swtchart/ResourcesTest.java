@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swtchart.util.ChartTestCase;
+import org.junit.Test;
+
+/**
+ * Test case for resources.
+ */
+public class ResourcesTest extends ChartTestCase {
+
+	/**
+	 * Test for bounded color cache.
+	 */
+	@Test
+	public void testColors() {
+
+		Color color = Resources.getColor(1, 2, 3);
+		assertSame(color, Resources.getColor(new RGB(1, 2, 3)));
+		for(int i = 0; i < Resources.MAX_COLORS + 10; i++) {
+			Resources.getColor(i & 0xFF, (i >> 8) & 0xFF, 7);
+		}
+		assertTrue(Resources.getColorCount() <= Resources.MAX_COLORS);
+		// evicted colors stay usable
+		assertFalse(color.isDisposed());
+		assertEquals(new RGB(1, 2, 3), color.getRGB());
+	}
+
+	/**
+	 * Test for reference counted fonts.
+	 */
+	@Test
+	public void testFonts() {
+
+		Font font = Resources.acquireFont("Tahoma", 7, SWT.BOLD);
+		assertSame(font, Resources.acquireFont("Tahoma", 7, SWT.BOLD));
+		Resources.releaseFont(font);
+		Resources.releaseFont(font);
+		assertFalse(font.isDisposed());
+		// unreferenced fonts are disposed beyond the limit
+		long evictions = Resources.getEvictionCount();
+		for(int i = 0; i <= Resources.MAX_UNUSED_FONTS; i++) {
+			Resources.releaseFont(Resources.acquireFont("Tahoma", 20 + i, SWT.ITALIC));
+		}
+		assertTrue(font.isDisposed());
+		assertTrue(Resources.getEvictionCount() > evictions);
+		// fonts of getFont are kept
+		Font sharedFont = Resources.getFont("Tahoma", 8, SWT.BOLD);
+		for(int i = 0; i <= Resources.MAX_UNUSED_FONTS; i++) {
+			Resources.releaseFont(Resources.acquireFont("Tahoma", 60 + i, SWT.ITALIC));
+		}
+		assertFalse(sharedFont.isDisposed());
+	}
+
+	/**
+	 * Test for text layouts released with the chart.
+	 */
+	@Test
+	public void testTextLayouts() {
+
+		int count = Resources.getTextLayoutCount();
+		Resources.getTextLayout("test");
+		assertEquals(count + 1, Resources.getTextLayoutCount());
+		Resources.releaseTextLayout("test");
+		assertEquals(count, Resources.getTextLayoutCount());
+	}
+}
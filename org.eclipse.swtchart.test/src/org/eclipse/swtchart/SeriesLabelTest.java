@@ -24,6 +24,7 @@ import org.eclipse.swt.graphics.FontData;
 import org.eclipse.swt.graphics.RGB;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swtchart.ISeries.SeriesType;
+import org.eclipse.swtchart.internal.series.SeriesLabel;
 import org.eclipse.swtchart.util.ChartTestCase;
 import org.junit.Test;
 
@@ -241,4 +242,37 @@ public class SeriesLabelTest extends ChartTestCase {
 		assertTrue(label.isVisible());
 		showChart();
 	}
+
+	/**
+	 * Test for labels on a dense series.
+	 */
+	@Test
+	public void testDenseLabels()  {
+
+		ISeries<?> series = chart.getSeriesSet().getSeries("series");
+		double[] ySeries = new double[10000];
+		for(int i = 0; i < ySeries.length; i++) {
+			ySeries[i] = Math.sin(i / 100d);
+		}
+		series.setYSeries(ySeries);
+		chart.getAxisSet().adjustRange();
+		showChart();
+		// overlapping labels are culled
+		int drawnLabelCount = ((SeriesLabel)label).getDrawnLabelCount();
+		assertTrue(drawnLabelCount > 0);
+		assertTrue(drawnLabelCount < ySeries.length / 10);
+		// redraw with changed format, font and data
+		label.setFormat("0.0");
+		showChart();
+		drawnLabelCount = ((SeriesLabel)label).getDrawnLabelCount();
+		assertTrue(drawnLabelCount > 0);
+		assertTrue(drawnLabelCount < ySeries.length / 10);
+		label.setFont(Display.getDefault().getSystemFont());
+		showChart();
+		series.setYSeries(ySeries1);
+		chart.getAxisSet().adjustRange();
+		showChart();
+		assertEquals("0.0", label.getFormat());
+		assertEquals(ySeries1.length, ((SeriesLabel)label).getDrawnLabelCount());
+	}
 }
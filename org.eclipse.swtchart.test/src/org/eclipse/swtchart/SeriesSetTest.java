@@ -12,13 +12,20 @@
  *******************************************************************************/
 package org.eclipse.swtchart;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.ImageData;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swtchart.ISeries.SeriesType;
+import org.eclipse.swtchart.internal.compress.Compress;
+import org.eclipse.swtchart.internal.series.Series;
+import org.eclipse.swtchart.internal.series.SeriesSet;
+import org.eclipse.swtchart.model.Node;
 import org.eclipse.swtchart.util.ChartTestCase;
 import org.junit.Test;
 
@@ -230,4 +237,114 @@ public class SeriesSetTest extends ChartTestCase {
 		assertEquals("series3", seriesArray[2].getId());
 		showChart();
 	}
+
+	/**
+	 * Test for stacked series.
+	 */
+	@Test
+	public void testStackSeries()  {
+
+		ISeriesSet seriesSet = chart.getSeriesSet();
+		chart.getAxisSet().getXAxis(0).setCategorySeries(new String[]{"a", "b", "c"});
+		chart.getAxisSet().getXAxis(0).enableCategory(true);
+		ISeries<?>[] seriesArray = new ISeries<?>[10];
+		for(int i = 0; i < seriesArray.length; i++) {
+			seriesArray[i] = seriesSet.createSeries(SeriesType.BAR, "series" + i);
+			seriesArray[i].setYSeries(new double[]{0.1, 0.2, 0.3});
+			seriesArray[i].enableStack(true);
+		}
+		// compensated summation doesn't accumulate rounding errors
+		assertEquals(3.0, seriesArray[9].getYRange().upper, 0);
+		seriesArray[0].setVisible(false);
+		assertEquals(2.7, seriesArray[9].getYRange().upper, 1E-15);
+		seriesArray[0].setVisible(true);
+		assertEquals(3.0, seriesArray[9].getYRange().upper, 0);
+		// changed data of a stacked series updates the stack
+		seriesArray[0].setYSeries(new double[]{1, 1, 1.3});
+		assertEquals(4.0, seriesArray[9].getYRange().upper, 0);
+		chart.getAxisSet().adjustRange();
+		showChart();
+	}
+
+	/**
+	 * Test for slice lookup of pie series with many small slices.
+	 */
+	@Test
+	public void testPieSliceLookup()  {
+
+		ICircularSeries<?> series = (ICircularSeries<?>)seriesSet.createSeries(SeriesType.PIE, "series");
+		String[] labels = new String[201];
+		double[] values = new double[labels.length];
+		for(int i = 0; i < labels.length; i++) {
+			labels[i] = "slice" + i;
+			values[i] = i == 0 ? 10000 : 1;
+		}
+		series.setSeries(labels, values);
+		showChart();
+		for(Node node : series.getSeries()) {
+			double angle = Math.toRadians(node.getAngleBounds().x + node.getAngleBounds().y / 2.0);
+			assertSame(node, series.getPieSliceFromPosition(0.5 * Math.cos(angle), 0.5 * Math.sin(angle)));
+		}
+		assertNull(series.getPieSliceFromPosition(5.0, 5.0));
+		// the index follows the changes of the data model
+		series.addNode("extra", 10000);
+		series.getNodeDataModel().update();
+		Node node = series.getNodeById("extra");
+		double angle = Math.toRadians(node.getAngleBounds().x + node.getAngleBounds().y / 2.0);
+		assertSame(node, series.getPieSliceFromPosition(0.5 * Math.cos(angle), 0.5 * Math.sin(angle)));
+		showChart();
+	}
+
+	/**
+	 * Test for restoring the compressed series of previous viewports.
+	 */
+	@Test
+	public void testCompressionCache() {
+
+		SeriesSet internalSeriesSet = (SeriesSet)seriesSet;
+		assertEquals(0, internalSeriesSet.getCompressionCacheSize());
+		internalSeriesSet.setCompressionCacheSize(-1);
+		assertEquals(0, internalSeriesSet.getCompressionCacheSize());
+		internalSeriesSet.setCompressionCacheSize(3);
+		assertEquals(3, internalSeriesSet.getCompressionCacheSize());
+		ISeries<?> series = seriesSet.createSeries(SeriesType.LINE, "series");
+		double[] ySeries = new double[10000];
+		for(int i = 0; i < ySeries.length; i++) {
+			ySeries[i] = Math.sin(i / 100.0);
+		}
+		series.setYSeries(ySeries);
+		chart.getAxisSet().adjustRange();
+		showChart();
+		IAxis xAxis = chart.getAxisSet().getXAxis(0);
+		Range range = xAxis.getRange();
+		ImageData imageData = chart.getPlotArea().getImageData();
+		xAxis.setRange(new Range(1000, 2000));
+		showChart();
+		// the restored compressed series are painted as before
+		xAxis.setRange(range);
+		showChart();
+		assertEquals(imageData.data.length, chart.getPlotArea().getImageData().data.length);
+		assertArrayEquals(imageData.data, chart.getPlotArea().getImageData().data);
+		// the compressed output is restored from the cache as long as the data is unchanged
+		Compress compressor = (Compress)((Series<?>)series).getCompressor();
+		internalSeriesSet.compressAllSeries();
+		double[] compressedYSeries = compressor.getCompressedYSeries();
+		int count = compressor.getCompressionCount();
+		internalSeriesSet.compressAllSeries();
+		assertEquals(count, compressor.getCompressionCount());
+		xAxis.setRange(new Range(1000, 2000));
+		internalSeriesSet.compressAllSeries();
+		assertEquals(count + 1, compressor.getCompressionCount());
+		xAxis.setRange(range);
+		internalSeriesSet.compressAllSeries();
+		assertEquals(count + 1, compressor.getCompressionCount());
+		assertArrayEquals(compressedYSeries, compressor.getCompressedYSeries(), 0);
+		// the cached outputs are discarded if the data changes
+		ySeries[0] = 1;
+		series.setYSeries(ySeries);
+		count = compressor.getCompressionCount();
+		xAxis.setRange(new Range(1000, 2000));
+		internalSeriesSet.compressAllSeries();
+		assertEquals(count + 1, compressor.getCompressionCount());
+	}
 }
@@ -23,6 +23,7 @@ import org.eclipse.swtchart.ErrorBarTest;
 import org.eclipse.swtchart.GridTest;
 import org.eclipse.swtchart.LegendTest;
 import org.eclipse.swtchart.LineSeriesTest;
+import org.eclipse.swtchart.ResourcesTest;
 import org.eclipse.swtchart.SeriesLabelTest;
 import org.eclipse.swtchart.SeriesSetTest;
 import org.junit.runner.RunWith;
@@ -30,7 +31,7 @@ import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
-@SuiteClasses({ChartTest.class, ChartTitleTest.class, LegendTest.class, AxisSetTest.class, AxisTest.class, AxisTickTest.class, AxisTitleTest.class, GridTest.class, SeriesLabelTest.class, SeriesSetTest.class, LineSeriesTest.class, BarSeriesTest.class, ErrorBarTest.class,})
+@SuiteClasses({ChartTest.class, ChartTitleTest.class, LegendTest.class, AxisSetTest.class, AxisTest.class, AxisTickTest.class, AxisTitleTest.class, GridTest.class, SeriesLabelTest.class, SeriesSetTest.class, LineSeriesTest.class, BarSeriesTest.class, ErrorBarTest.class, ResourcesTest.class,})
 public class AllTests {
 	//
 }
@@ -38,6 +38,8 @@ public class ChartTestCase {
 	private static final Point fixedChartSize = new Point(400, 300);
 	/** the duration in millisec to show chart */
 	private static final long durationToShowChart = 100;
+	/** the maximum duration in millisec to wait for the rendering to complete */
+	private static final long durationToAwaitRendering = 10000;
 	/** the chart */
 	protected Chart chart;
 	private Shell shell;
@@ -83,6 +85,26 @@ public class ChartTestCase {
 		}
 	}
 
+	/**
+	 * Dispatches events until the plot area is painted in full precision,
+	 * e.g. after progressive rendering.
+	 * 
+	 * @return true if the rendering completed in time
+	 */
+	protected boolean awaitRendering() {
+
+		long time = System.currentTimeMillis();
+		while(!shell.isDisposed() && !chart.getPlotArea().isRenderingComplete()) {
+			if(System.currentTimeMillis() - time > durationToAwaitRendering) {
+				return false;
+			}
+			if(!Display.getDefault().readAndDispatch()) {
+				Display.getDefault().sleep();
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Starts tracking SWT resource creation and disposal.
 	 * <p>
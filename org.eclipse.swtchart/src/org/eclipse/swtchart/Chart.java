@@ -32,7 +32,6 @@ import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.graphics.Transform;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
-import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Listener;
 import org.eclipse.swtchart.internal.ChartLayout;
@@ -88,10 +87,18 @@ public class Chart extends Composite implements Listener {
 			@Override
 			public void mouseMove(MouseEvent e) {
 
+				boolean drawPositionMarker = false;
 				for(IAxis axis : axisSet.getAxes()) {
 					axis.updatePositionMarker(e);
+					drawPositionMarker |= axis.isDrawPositionMarker();
+				}
+				/*
+				 * The markers are painted on the axes, hence the
+				 * plot area doesn't need to be painted again.
+				 */
+				if(drawPositionMarker) {
+					Chart.super.redraw();
 				}
-				redraw();
 			}
 		});
 		setData("org.eclipse.e4.ui.css.CssClassName", "Chart");
@@ -374,6 +381,18 @@ public class Chart extends Composite implements Listener {
 		}
 	}
 
+	@Override
+	public Rectangle getClientArea() {
+
+		if(getLayout() instanceof ChartLayout) {
+			Rectangle offscreenArea = ((ChartLayout)getLayout()).getOffscreenArea();
+			if(offscreenArea != null) {
+				return new Rectangle(0, 0, offscreenArea.width, offscreenArea.height);
+			}
+		}
+		return super.getClientArea();
+	}
+
 	@Override
 	public void update() {
 
@@ -413,18 +432,67 @@ public class Chart extends Composite implements Listener {
 	 */
 	public void save(String filename, int format) {
 
-		/*
-		 * Dispose when finished
-		 */
-		Image image = new Image(Display.getDefault(), getBounds());
-		GC gc = new GC(image);
-		print(gc);
-		gc.dispose();
-		ImageData data = image.getImageData();
+		Point size = getSize();
+		ImageData data = renderImageData(size.x, size.y, 100);
 		ImageLoader loader = new ImageLoader();
 		loader.data = new ImageData[]{data};
 		loader.save(filename, format);
-		image.dispose();
+	}
+
+	/**
+	 * Renders the chart off-screen into image data of the given size. Title,
+	 * axes, legend and plot area are painted directly into an image, so the
+	 * size isn't limited by the screen and nothing is copied from the
+	 * on-screen widget. A pending viewport transition or progressive
+	 * refinement is completed first, so that the series are rendered in
+	 * full precision.
+	 * <p>
+	 * The zoom scales the chart content, e.g. 200 renders the chart laid out
+	 * for half the given size with doubled resolution, which is suitable for
+	 * high DPI output.
+	 * 
+	 * @param width
+	 *            the image width in pixels
+	 * @param height
+	 *            the image height in pixels
+	 * @param zoom
+	 *            the zoom in percent, 100 for no scaling
+	 * @return the image data
+	 */
+	public ImageData renderImageData(int width, int height, int zoom) {
+
+		checkWidget();
+		if(width <= 0 || height <= 0 || zoom <= 0) {
+			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+		}
+		plotArea.endViewportTransition();
+		if(plotArea instanceof PlotArea) {
+			((PlotArea)plotArea).completeRendering();
+		}
+		Image image = new Image(getDisplay(), width, height);
+		GC gc = null;
+		Transform transform = null;
+		try {
+			gc = new GC(image);
+			transform = new Transform(getDisplay());
+			gc.setBackground(getBackground());
+			gc.fillRectangle(0, 0, width, height);
+			float scale = zoom / 100f;
+			if(zoom != 100) {
+				transform.scale(scale, scale);
+				gc.setTransform(transform);
+			}
+			printChart(gc, new Rectangle(0, 0, Math.max(1, Math.round(width / scale)), Math.max(1, Math.round(height / scale))));
+			return image.getImageData();
+		} finally {
+			if(transform != null) {
+				transform.dispose();
+			}
+			if(gc != null) {
+				gc.dispose();
+			}
+			image.dispose();
+		}
 	}
 
 	/**
@@ -436,18 +504,35 @@ public class Chart extends Composite implements Listener {
 	public void renderOffscreenImage(Image image) {
 
 		GC gc = new GC(image);
-		print(gc);
-		gc.dispose();
+		try {
+			print(gc);
+		} finally {
+			gc.dispose();
+		}
 	}
 
+	/**
+	 * Paints the chart laid out for the size of the given client area with
+	 * the given graphics context. The chart is laid out off-screen, i.e. the
+	 * chart on screen isn't resized, and laid out for its own size again
+	 * afterwards.
+	 * 
+	 * @param gc
+	 *            the graphics context
+	 * @param clientArea
+	 *            the client area to paint the chart into
+	 */
 	public void printChart(GC gc, Rectangle clientArea) {
 
+		ChartLayout chartLayout = getLayout() instanceof ChartLayout ? (ChartLayout)getLayout() : null;
 		Transform oldTransform = new Transform(gc.getDevice());
 		try {
 			gc.getTransform(oldTransform);
-			Point oldSize = getSize();
 			try {
-				setSize(clientArea.width, clientArea.height);
+				if(chartLayout != null) {
+					chartLayout.setOffscreenArea(clientArea);
+					updateLayout();
+				}
 				Event e = new Event();
 				e.gc = gc;
 				e.widget = this;
@@ -464,6 +549,7 @@ public class Chart extends Composite implements Listener {
 							PaintEvent subPaint = new PaintEvent(subEvent);
 							Transform transform = new Transform(gc.getDevice());
 							try {
+								gc.getTransform(transform);
 								transform.translate(bounds.x, bounds.y);
 								gc.setTransform(transform);
 								((PaintListener)child).paintControl(subPaint);
@@ -480,7 +566,10 @@ public class Chart extends Composite implements Listener {
 					listener.paintControl(paintEvent);
 				}
 			} finally {
-				setSize(oldSize);
+				if(chartLayout != null) {
+					chartLayout.setOffscreenArea(null);
+					updateLayout();
+				}
 			}
 		} finally {
 			oldTransform.dispose();
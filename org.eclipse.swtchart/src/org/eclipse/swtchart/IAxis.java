@@ -174,6 +174,27 @@ public interface IAxis {
 	 */
 	void zoomOut(double coordinate);
 
+	/**
+	 * Zooms the axis at the given coordinate by the given number of steps,
+	 * i.e. in for a positive and out for a negative number of steps. The
+	 * range is set once for all steps.
+	 * 
+	 * @param coordinate
+	 *            the coordinate
+	 * @param steps
+	 *            the number of steps
+	 */
+	default void zoom(double coordinate, int steps) {
+
+		for(int i = 0; i < Math.abs(steps); i++) {
+			if(steps > 0) {
+				zoomIn(coordinate);
+			} else {
+				zoomOut(coordinate);
+			}
+		}
+	}
+
 	/**
 	 * Scrolls up the axis.
 	 */
@@ -240,6 +261,36 @@ public interface IAxis {
 	 */
 	int getPixelCoordinate(double dataCoordinate, double lower, double upper);
 
+	/**
+	 * Gets the pixel coordinates corresponding to the given slice of data
+	 * coordinates. This is equivalent to calling
+	 * {@link #getPixelCoordinate(double)} for each data coordinate, but the
+	 * scale constants are computed only once.
+	 * 
+	 * @param dataCoordinates
+	 *            the data coordinates
+	 * @param offset
+	 *            the index of the first data coordinate to transform
+	 * @param length
+	 *            the number of data coordinates to transform
+	 * @param pixelCoordinates
+	 *            the array to store the pixel coordinates starting at index 0,
+	 *            or <tt>null</tt> to allocate a new array. A new array is
+	 *            also allocated if the given one is too short.
+	 * @return the pixel coordinates on plot area
+	 */
+	default int[] getPixelCoordinates(double[] dataCoordinates, int offset, int length, int[] pixelCoordinates) {
+
+		int[] result = pixelCoordinates;
+		if(result == null || result.length < length) {
+			result = new int[length];
+		}
+		for(int i = 0; i < length; i++) {
+			result[i] = getPixelCoordinate(dataCoordinates[offset + i]);
+		}
+		return result;
+	}
+
 	/**
 	 * Gets the data coordinate corresponding to the given pixel coordinate on
 	 * plot area.
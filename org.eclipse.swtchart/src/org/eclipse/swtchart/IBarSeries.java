@@ -136,4 +136,27 @@ public interface IBarSeries<T> extends ISeries<T> {
 	 * @return the array of bar rectangles in pixels.
 	 */
 	Rectangle[] getBounds();
+
+	/**
+	 * Gets the index of the data point whose bar contains the given position.
+	 * This is typically used for mouse listeners instead of iterating over
+	 * {@link #getBounds()}, as the bar geometry is cached between paints.
+	 * 
+	 * @param x
+	 *            the x coordinate in pixels relative to the plot area
+	 * @param y
+	 *            the y coordinate in pixels relative to the plot area
+	 * @return the index of the data point, or <tt>-1</tt> if there is no bar
+	 *         at the given position
+	 */
+	default int getBarIndex(int x, int y) {
+
+		Rectangle[] bounds = getBounds();
+		for(int i = 0; i < bounds.length; i++) {
+			if(bounds[i] != null && bounds[i].contains(x, y)) {
+				return i;
+			}
+		}
+		return -1;
+	}
 }
\ No newline at end of file
@@ -30,4 +30,17 @@ public interface ICustomPaintListener extends PaintListener {
 
 		return false;
 	}
+
+	/**
+	 * Gets the state indicating if painting on the overlay of the plot area.
+	 * The overlay is painted over a cached image of the plot area, hence
+	 * markers which follow the mouse cursor can be repainted with
+	 * {@link IPlotArea#redrawOverlay()} without painting the series again.
+	 *
+	 * @return True if painting on the overlay
+	 */
+	default boolean drawOnOverlay() {
+
+		return false;
+	}
 }
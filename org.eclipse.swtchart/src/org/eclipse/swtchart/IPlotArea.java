@@ -94,6 +94,174 @@ public interface IPlotArea {
 	 */
 	void setBuffered(boolean buffered);
 
+	/**
+	 * Returns if the streaming render mode is enabled.
+	 * 
+	 * @return boolean
+	 */
+	default boolean isStreamingEnabled() {
+
+		return false;
+	}
+
+	/**
+	 * Enables the streaming render mode for live charts with a sliding X
+	 * axis window. The series image of the previous frame is kept, shifted by
+	 * the number of pixels the X axis range advanced, and only the newly
+	 * exposed strip is painted. This requires that data is only appended in
+	 * ascending x order between two frames.
+	 * <p>
+	 * A change of the size, the X axis range length, the Y axis ranges or
+	 * the series visibility leads to a full repaint. Other changes, e.g. of
+	 * the series colors, are not detected. Call this method again to force
+	 * a full repaint in that case. Charts with background image or text,
+	 * custom painting behind series, non-linear X axes, vertical orientation
+	 * or other than line series are always fully repainted.
+	 * 
+	 * @param enabled
+	 *            true to enable the streaming render mode
+	 */
+	default void setStreamingEnabled(boolean enabled) {
+
+		// not supported
+	}
+
+	/**
+	 * Returns if the parallel rendering of line series is enabled.
+	 * 
+	 * @return boolean
+	 */
+	default boolean isParallelRenderingEnabled() {
+
+		return false;
+	}
+
+	/**
+	 * Enables the parallel rendering of line series. The plot area is split
+	 * into horizontal tiles, which are rasterized on worker threads by a
+	 * pure-Java rasterizer and composited with a single image draw. This
+	 * pays off for many series with many data points on multi-core
+	 * machines.
+	 * <p>
+	 * The rasterized output is aliased. Series with area, step, stack,
+	 * dashed lines, anti-aliasing switched on, symbols other than circle and
+	 * square, labels or error bars are drawn as usual. Printing always uses
+	 * the graphics context.
+	 * 
+	 * @param enabled
+	 *            true to enable the parallel rendering
+	 */
+	default void setParallelRenderingEnabled(boolean enabled) {
+
+		// not supported
+	}
+
+	/**
+	 * Returns if the draft mode is enabled.
+	 * 
+	 * @return boolean
+	 */
+	default boolean isDraftMode() {
+
+		return false;
+	}
+
+	/**
+	 * Enables the draft mode, e.g. while the user drags or zooms the chart.
+	 * The series are compressed to the pixel size instead of twice the pixel
+	 * size and drawn without anti-aliasing, symbols, labels and error bars,
+	 * so that each frame is painted faster. Switch the draft mode off to
+	 * paint the chart in full quality again.
+	 * 
+	 * @param enabled
+	 *            true to enable the draft mode
+	 */
+	default void setDraftMode(boolean enabled) {
+
+		// not supported
+	}
+
+	/**
+	 * Returns if the progressive render mode is enabled.
+	 * 
+	 * @return boolean
+	 */
+	default boolean isProgressiveRenderingEnabled() {
+
+		return false;
+	}
+
+	/**
+	 * Enables the progressive render mode for large data sets. When series
+	 * with many data points are shown or their data is replaced, the plot
+	 * area first paints a coarse level of detail, i.e. the series are
+	 * compressed to a fraction of the plot area size. The level of detail is
+	 * refined in the subsequent frames until the series are painted in full
+	 * precision. Levels which are expected to be painted within the time
+	 * budget of a frame are skipped.
+	 * 
+	 * @param enabled
+	 *            true to enable the progressive render mode
+	 */
+	default void setProgressiveRenderingEnabled(boolean enabled) {
+
+		// not supported
+	}
+
+	/**
+	 * Returns if the series are painted in full precision, i.e. no
+	 * progressive refinement is pending.
+	 * 
+	 * @return true if the rendering is complete
+	 */
+	default boolean isRenderingComplete() {
+
+		return true;
+	}
+
+	/**
+	 * Starts a viewport transition, e.g. while the user zooms with the mouse
+	 * wheel. The currently painted series are kept as an image, which is
+	 * scaled and moved to follow the ranges of the primary axes. The series
+	 * aren't compressed again until the transition ends, so that changing
+	 * the axis ranges in quick succession is cheap. Does nothing if a
+	 * transition is already active.
+	 */
+	default void beginViewportTransition() {
+
+		// not supported
+	}
+
+	/**
+	 * Ends the viewport transition. The series are compressed once for the
+	 * current axis ranges and painted again.
+	 */
+	default void endViewportTransition() {
+
+		// not supported
+	}
+
+	/**
+	 * Returns if a viewport transition is active.
+	 * 
+	 * @return boolean
+	 */
+	default boolean isViewportTransitionActive() {
+
+		return false;
+	}
+
+	/**
+	 * Repaints only the custom paint listeners drawing on the overlay, see
+	 * {@link ICustomPaintListener#drawOnOverlay()}. The rest of the plot
+	 * area is copied from the image cached by the last paint. Use
+	 * redraw() of the control if the content of the plot area changed.
+	 */
+	default void redrawOverlay() {
+
+		getControl().redraw();
+	}
+
 	/**
 	 * When buffering the chart to speed up performance, an image of
 	 * the chart is created on the fly and set as the background.
@@ -273,6 +273,60 @@ public interface ISeries<DataType> {
 	 */
 	Point getPixelCoordinates(int index);
 
+	/**
+	 * Gets the pixel coordinates of all data points at once. This is much
+	 * cheaper than calling {@link #getPixelCoordinates(int)} for each index,
+	 * e.g. for hit-testing or export.
+	 * 
+	 * @return the pixel coordinates as horizontal and vertical pairs, i.e.
+	 *         <tt>{h0, v0, h1, v1, ...}</tt>
+	 */
+	default int[] getPixelCoordinates() {
+
+		int size = getXSeries().length;
+		int[] pixelCoordinates = new int[size * 2];
+		for(int i = 0; i < size; i++) {
+			Point point = getPixelCoordinates(i);
+			if(point != null) {
+				pixelCoordinates[i * 2] = point.x;
+				pixelCoordinates[i * 2 + 1] = point.y;
+			}
+		}
+		return pixelCoordinates;
+	}
+
+	/**
+	 * Gets the index of the data point drawn closest to the given pixel
+	 * coordinates, e.g. to hit-test the series on mouse move. Only data points
+	 * within the given distance, measured separately in both directions, are
+	 * taken into account. The default implementation checks all data points;
+	 * the series of the chart use a spatial index, which is rebuilt only if
+	 * the data, the axis ranges or the plot area size change.
+	 * 
+	 * @param x
+	 *            the x pixel coordinate in the plot area
+	 * @param y
+	 *            the y pixel coordinate in the plot area
+	 * @param delta
+	 *            the maximum distance in pixels
+	 * @return the series index, or -1 if no data point is within the distance
+	 */
+	default int getIndexAt(int x, int y, int delta) {
+
+		int[] pixelCoordinates = getPixelCoordinates();
+		int index = -1;
+		long closestDistance = Long.MAX_VALUE;
+		for(int i = 0; i < pixelCoordinates.length; i += 2) {
+			long dx = (long)pixelCoordinates[i] - x;
+			long dy = (long)pixelCoordinates[i + 1] - y;
+			if(Math.abs(dx) <= delta && Math.abs(dy) <= delta && dx * dx + dy * dy < closestDistance) {
+				index = i / 2;
+				closestDistance = dx * dx + dy * dy;
+			}
+		}
+		return index;
+	}
+
 	/**
 	 * Adds the dispose listener. The newly created color or font for series can be
 	 * disposed with the dispose listener when they are no longer needed.
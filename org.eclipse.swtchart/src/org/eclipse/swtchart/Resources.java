@@ -13,7 +13,11 @@
  *******************************************************************************/
 package org.eclipse.swtchart;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.swt.SWT;
@@ -21,9 +25,24 @@ import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.FontData;
 import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swt.graphics.Resource;
 import org.eclipse.swt.graphics.TextLayout;
 import org.eclipse.swt.widgets.Display;
 
+/**
+ * Shared colors, fonts and text layouts.
+ * <p>
+ * The caches are bounded and may be used from any thread. Colors are kept
+ * in least recently used order and dropped when there are more than
+ * {@link #MAX_COLORS}. They aren't disposed then, as they may still be set on
+ * series; SWT colors don't hold operating system handles since SWT 3.114,
+ * the minimum version required by this bundle. Fonts returned by
+ * {@link #getFont(String, int, int)} are kept for the lifetime of the
+ * application as before. The chart itself uses the reference counted fonts. Fonts obtained by
+ * {@link #acquireFont(String, int, int)} are reference counted instead and
+ * disposed when more than {@link #MAX_UNUSED_FONTS} are no longer referenced.
+ * Text layouts are disposed by {@link #releaseTextLayout(String)}.
+ */
 public class Resources {
 
 	public static final int LARGE_FONT_SIZE = 13;
@@ -31,9 +50,14 @@ public class Resources {
 	public static final int SMALL_FONT_SIZE = 9;
 	public static final String RGB_DELIMITER = ",";
 	//
-	private static final Map<RGB, Color> colorMap = new HashMap<>();
-	private static final Map<String, Font> fontMap = new HashMap<>();
-	private static final Map<String, TextLayout> textLayoutMap = new HashMap<>();
+	/** the maximum number of cached colors */
+	public static final int MAX_COLORS = 4096;
+	/** the maximum number of cached fonts which are no longer referenced */
+	public static final int MAX_UNUSED_FONTS = 32;
+	//
+	private static final ResourceCache<RGB, Color> colorMap = new ResourceCache<>(MAX_COLORS, false);
+	private static final ResourceCache<String, Font> fontMap = new ResourceCache<>(MAX_UNUSED_FONTS, true);
+	private static final ResourceCache<String, TextLayout> textLayoutMap = new ResourceCache<>(0, true);
 
 	/*
 	 * Only static methods are used here.
@@ -89,12 +113,14 @@ public class Resources {
 	 */
 	public static Color getColor(RGB rgb) {
 
-		Color color = colorMap.get(rgb);
-		if(color == null) {
-			color = new Color(getDisplay(), rgb);
-			colorMap.put(rgb, color);
+		synchronized(colorMap) {
+			Color color = colorMap.get(rgb, 0);
+			if(color == null) {
+				color = new Color(getDisplay(), rgb);
+				colorMap.put(rgb, color, 0, false);
+			}
+			return color;
 		}
-		return color;
 	}
 
 	/**
@@ -115,55 +141,167 @@ public class Resources {
 		return getFont(fontData.getName(), fontData.getHeight(), fontData.getStyle());
 	}
 
+	/**
+	 * The font is mapped and kept by this font support.
+	 * Hence, it doesn't need to be disposed manually.
+	 * 
+	 * @param name
+	 * @param height
+	 * @param style
+	 * @return font
+	 */
 	public static Font getFont(String name, int height, int style) {
 
 		String key = getFontKey(name, height, style);
-		Font font = fontMap.get(key);
+		synchronized(fontMap) {
+			Font font = fontMap.get(key, 0);
+			if(font == null) {
+				font = new Font(getDisplay(), name, height, style);
+				fontMap.put(key, font, 0, true);
+			} else {
+				fontMap.pin(key);
+			}
+			//
+			return font;
+		}
+	}
+
+	/**
+	 * Returns a shared font and increments its reference count. The font must
+	 * be released by {@link #releaseFont(Font)} when it is no longer used,
+	 * instead of disposing it.
+	 * 
+	 * @param name
+	 * @param height
+	 * @param style
+	 * @return font
+	 */
+	public static Font acquireFont(String name, int height, int style) {
+
+		String key = getFontKey(name, height, style);
+		synchronized(fontMap) {
+			Font font = fontMap.get(key, 1);
+			if(font == null) {
+				font = new Font(getDisplay(), name, height, style);
+				fontMap.put(key, font, 1, false);
+			}
+			//
+			return font;
+		}
+	}
+
+	/**
+	 * Decrements the reference count of a font obtained by
+	 * {@link #acquireFont(String, int, int)}. Unreferenced fonts are disposed
+	 * when there are more than {@link #MAX_UNUSED_FONTS}.
+	 * 
+	 * @param font
+	 */
+	public static void releaseFont(Font font) {
+
 		if(font == null) {
-			font = new Font(getDisplay(), name, height, style);
-			fontMap.put(key, font);
+			SWT.error(SWT.ERROR_NULL_ARGUMENT);
+			return; // to suppress warnings...
+		}
+		synchronized(fontMap) {
+			fontMap.release(font);
 		}
-		//
-		return font;
 	}
 
 	public static TextLayout getTextLayout(String uuid) {
 
-		TextLayout textLayout = textLayoutMap.get(uuid);
-		if(textLayout == null) {
-			textLayout = new TextLayout(getDisplay());
-			textLayoutMap.put(uuid, textLayout);
+		synchronized(textLayoutMap) {
+			TextLayout textLayout = textLayoutMap.get(uuid, 0);
+			if(textLayout == null) {
+				textLayout = new TextLayout(getDisplay());
+				textLayoutMap.put(uuid, textLayout, 1, false);
+			}
+			//
+			return textLayout;
+		}
+	}
+
+	/**
+	 * Disposes the text layout of the given id, if any.
+	 * 
+	 * @param uuid
+	 */
+	public static void releaseTextLayout(String uuid) {
+
+		synchronized(textLayoutMap) {
+			TextLayout textLayout = textLayoutMap.get(uuid, 0);
+			if(textLayout != null) {
+				textLayoutMap.release(textLayout);
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of cached colors.
+	 * 
+	 * @return the number of colors
+	 */
+	public static int getColorCount() {
+
+		synchronized(colorMap) {
+			return colorMap.size();
+		}
+	}
+
+	/**
+	 * Returns the number of cached fonts, i.e. the number of live font handles
+	 * created by this class.
+	 * 
+	 * @return the number of fonts
+	 */
+	public static int getFontCount() {
+
+		synchronized(fontMap) {
+			return fontMap.size();
 		}
-		//
-		return textLayout;
+	}
+
+	/**
+	 * Returns the number of live text layouts.
+	 * 
+	 * @return the number of text layouts
+	 */
+	public static int getTextLayoutCount() {
+
+		synchronized(textLayoutMap) {
+			return textLayoutMap.size();
+		}
+	}
+
+	/**
+	 * Returns the number of colors and fonts which have been removed from the
+	 * caches to keep them bounded.
+	 * 
+	 * @return the number of evictions
+	 */
+	public static long getEvictionCount() {
+
+		long evictions;
+		synchronized(colorMap) {
+			evictions = colorMap.evictions;
+		}
+		synchronized(fontMap) {
+			evictions += fontMap.evictions;
+		}
+		return evictions;
 	}
 
 	@Override
 	protected void finalize() throws Throwable {
 
-		/*
-		 * Colors
-		 */
-		for(Color color : colorMap.values()) {
-			if(color != null && !color.isDisposed()) {
-				color.dispose();
-			}
+		synchronized(colorMap) {
+			colorMap.clear();
 		}
-		/*
-		 * Fonts
-		 */
-		for(Font font : fontMap.values()) {
-			if(font != null && !font.isDisposed()) {
-				font.dispose();
-			}
+		synchronized(fontMap) {
+			fontMap.clear();
 		}
-		/*
-		 * Text Layouts
-		 */
-		for(TextLayout textLayout : textLayoutMap.values()) {
-			if(textLayout != null && !textLayout.isDisposed()) {
-				textLayout.dispose();
-			}
+		synchronized(textLayoutMap) {
+			textLayoutMap.clear();
 		}
 	}
 
@@ -183,4 +321,146 @@ public class Resources {
 
 		return Display.getDefault();
 	}
+
+	/**
+	 * A cache of resources in least recently used order. Resources which are
+	 * neither referenced nor pinned are evicted when there are more than the
+	 * capacity. The caller synchronizes on the cache.
+	 */
+	private static final class ResourceCache<K, R extends Resource> {
+
+		private final Map<K, Entry<R>> entries = new LinkedHashMap<>(16, 0.75f, true);
+		/** the keys per resource, by identity as disposing changes the hash code */
+		private final Map<R, K> keys = new IdentityHashMap<>();
+		private final int capacity;
+		private final boolean disposeOnEviction;
+		private int unused = 0;
+		private long evictions = 0;
+
+		private ResourceCache(int capacity, boolean disposeOnEviction) {
+
+			this.capacity = capacity;
+			this.disposeOnEviction = disposeOnEviction;
+		}
+
+		private R get(K key, int references) {
+
+			Entry<R> entry = entries.get(key);
+			if(entry == null) {
+				return null;
+			}
+			if(entry.resource.isDisposed()) {
+				// disposed by a client, replace it
+				remove(key, entry);
+				return null;
+			}
+			if(references > 0) {
+				if(entry.isUnused()) {
+					unused--;
+				}
+				entry.references += references;
+			}
+			return entry.resource;
+		}
+
+		private void put(K key, R resource, int references, boolean pinned) {
+
+			Entry<R> entry = new Entry<>(resource);
+			entry.references = references;
+			entry.pinned = pinned;
+			entries.put(key, entry);
+			keys.put(resource, key);
+			if(entry.isUnused()) {
+				unused++;
+				evict();
+			}
+		}
+
+		private void pin(K key) {
+
+			Entry<R> entry = entries.get(key);
+			if(entry != null && !entry.pinned) {
+				if(entry.isUnused()) {
+					unused--;
+				}
+				entry.pinned = true;
+			}
+		}
+
+		private void release(R resource) {
+
+			K key = keys.get(resource);
+			Entry<R> entry = key == null ? null : entries.get(key);
+			if(entry == null || entry.references == 0) {
+				return;
+			}
+			entry.references--;
+			if(entry.isUnused()) {
+				unused++;
+				evict();
+			}
+		}
+
+		private void evict() {
+
+			Iterator<Map.Entry<K, Entry<R>>> iterator = entries.entrySet().iterator();
+			while(unused > capacity && iterator.hasNext()) {
+				Map.Entry<K, Entry<R>> next = iterator.next();
+				Entry<R> entry = next.getValue();
+				if(entry.isUnused()) {
+					iterator.remove();
+					keys.remove(entry.resource);
+					unused--;
+					evictions++;
+					if(disposeOnEviction && !entry.resource.isDisposed()) {
+						entry.resource.dispose();
+					}
+				}
+			}
+		}
+
+		private void remove(K key, Entry<R> entry) {
+
+			entries.remove(key);
+			keys.remove(entry.resource);
+			if(entry.isUnused()) {
+				unused--;
+			}
+		}
+
+		private int size() {
+
+			return entries.size();
+		}
+
+		private void clear() {
+
+			List<Entry<R>> removed = new ArrayList<>(entries.values());
+			entries.clear();
+			keys.clear();
+			unused = 0;
+			for(Entry<R> entry : removed) {
+				if(!entry.resource.isDisposed()) {
+					entry.resource.dispose();
+				}
+			}
+		}
+	}
+
+	private static final class Entry<R> {
+
+		private final R resource;
+		private int references = 0;
+		private boolean pinned = false;
+
+		private Entry(R resource) {
+
+			this.resource = resource;
+		}
+
+		private boolean isUnused() {
+
+			return references == 0 && !pinned;
+		}
+	}
 }
\ No newline at end of file
@@ -13,7 +13,10 @@
  *******************************************************************************/
 package org.eclipse.swtchart.internal;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.swt.SWT;
@@ -35,6 +38,11 @@ import org.eclipse.swtchart.internal.axis.AxisTitle;
 
 /**
  * Manages the layout on plot chart panel.
+ * <p>
+ * The layout is incremental: if the sizes of title, legend and axes as well
+ * as the client area haven't changed and the ticks for the current axis
+ * ranges take the same space as before, e.g. when zooming or panning, the
+ * bounds of all components are kept and only the ticks are updated.
  */
 public class ChartLayout extends Layout {
 
@@ -84,6 +92,18 @@ public class ChartLayout extends Layout {
 	public static final int MARGIN = 5;
 	/** the padding */
 	public static final int PADDING = 5;
+	/** the number of full layout passes */
+	private long layoutCount = 0;
+	/** the number of layout passes which only updated the ticks */
+	private long skippedLayoutCount = 0;
+	/** the inputs of the last full layout pass, except the axis ranges */
+	private List<Object> layoutKey;
+	/** the tick label sizes of the last full layout pass */
+	private List<Integer> tickLabelMetrics;
+	/** the client area to layout for off-screen painting, or null */
+	private Rectangle offscreenArea;
+	/** the bounds of the child controls laid out for off-screen painting */
+	private final Map<Control, Rectangle> offscreenBounds = new HashMap<>();
 
 	/**
 	 * Constructor.
@@ -123,7 +143,12 @@ public class ChartLayout extends Layout {
 		if(!parseControls(composite)) {
 			return;
 		}
-		Rectangle r = composite.getClientArea();
+		Rectangle r = offscreenArea != null ? offscreenArea : composite.getClientArea();
+		List<Object> key = getLayoutKey(r);
+		if(key.equals(layoutKey) && updateTickLabelsAndCheckStable()) {
+			skippedLayoutCount++;
+			return;
+		}
 		initWidgetSizeVariables();
 		initTitleAndLegendSize();
 		initAxisSize();
@@ -135,6 +160,174 @@ public class ChartLayout extends Layout {
 		layoutLegend(r);
 		layoutPlot(r);
 		layoutAxes(r);
+		// the ticks for the final plot area size are compared on the next pass
+		updateVerticalAxisTick();
+		updateHorizontalAxisTick();
+		layoutKey = key;
+		tickLabelMetrics = getTickLabelMetrics();
+		layoutCount++;
+	}
+
+	/**
+	 * Sets the client area to layout for off-screen painting. While set, the
+	 * bounds of the legend and the plot area are kept by the layout instead
+	 * of being applied to the controls, so that the chart on screen isn't
+	 * resized. The other components are laid out as usual and have to be
+	 * laid out again for the client area on screen afterwards.
+	 * 
+	 * @param offscreenArea
+	 *            the client area, or null to layout the chart on screen
+	 */
+	public void setOffscreenArea(Rectangle offscreenArea) {
+
+		this.offscreenArea = offscreenArea != null ? new Rectangle(0, 0, offscreenArea.width, offscreenArea.height) : null;
+		offscreenBounds.clear();
+	}
+
+	/**
+	 * Gets the client area to layout for off-screen painting.
+	 * 
+	 * @return the client area, or null if the chart is laid out on screen
+	 */
+	public Rectangle getOffscreenArea() {
+
+		return offscreenArea;
+	}
+
+	/**
+	 * Gets the bounds of the given child control of the given chart laid
+	 * out for off-screen painting.
+	 * 
+	 * @param chart
+	 *            the chart
+	 * @param control
+	 *            the child control
+	 * @return the bounds, or null if the chart isn't laid out for
+	 *         off-screen painting or the bounds on screen apply
+	 */
+	public static Rectangle getOffscreenBounds(Composite chart, Control control) {
+
+		if(chart != null && chart.getLayout() instanceof ChartLayout) {
+			ChartLayout layout = (ChartLayout)chart.getLayout();
+			if(layout.offscreenArea != null) {
+				return layout.offscreenBounds.get(control);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Sets the bounds of the given child control, or keeps them if the chart
+	 * is laid out for off-screen painting.
+	 * 
+	 * @param control
+	 *            the child control
+	 * @param x
+	 *            the x coordinate
+	 * @param y
+	 *            the y coordinate
+	 * @param width
+	 *            the width
+	 * @param height
+	 *            the height
+	 */
+	private void setBounds(Control control, int x, int y, int width, int height) {
+
+		if(offscreenArea != null) {
+			offscreenBounds.put(control, new Rectangle(x, y, width, height));
+		} else {
+			control.setBounds(x, y, width, height);
+		}
+	}
+
+	/**
+	 * Gets the number of full layout passes, i.e. passes which computed the
+	 * bounds of all components.
+	 * 
+	 * @return the number of full layout passes
+	 */
+	public long getLayoutCount() {
+
+		return layoutCount;
+	}
+
+	/**
+	 * Gets the number of layout passes which only updated the ticks, as no
+	 * component has changed its size.
+	 * 
+	 * @return the number of skipped layout passes
+	 */
+	public long getSkippedLayoutCount() {
+
+		return skippedLayoutCount;
+	}
+
+	/**
+	 * Gets the inputs of a layout pass except the axis ranges, i.e. the
+	 * client area and the size hints of all components. The size hints of
+	 * the axes are read from the components kept in the axis layout data.
+	 * 
+	 * @param r
+	 *            the rectangle to layout
+	 * @return the key
+	 */
+	private List<Object> getLayoutKey(Rectangle r) {
+
+		ChartLayoutData titleLayoutData = (ChartLayoutData)title.getLayoutData();
+		ChartLayoutData legendLayoutData = (ChartLayoutData)legend.getLayoutData();
+		List<Object> key = new ArrayList<>();
+		key.add(r);
+		key.add(Arrays.asList(horizontalAxes));
+		key.add(Arrays.asList(verticalAxes));
+		key.add(Arrays.asList(titleLayoutData.widthHint, titleLayoutData.heightHint, legendLayoutData.widthHint, legendLayoutData.heightHint, legend.getPosition()));
+		for(Axis axis : axes) {
+			AxisLayoutData layoutData = axisLayoutDataMap.computeIfAbsent(axis, AxisLayoutData::new);
+			ChartLayoutData titleLayoutdata = (ChartLayoutData)layoutData.axisTitle.getLayoutData();
+			if(titleLayoutdata == null) {
+				key.add(null);
+				continue;
+			}
+			key.add(Arrays.asList(axis.getPosition(), axis.getTick().isVisible(), axis.getTick().getTickLabelAngle(), layoutData.axisTickLabels.getFont(), titleLayoutdata.widthHint, titleLayoutdata.heightHint, layoutData.axisTickLabels.getWidthHint(), layoutData.axisTickLabels.getHeightHint(), layoutData.axisTickMarks.getWidthHint(), layoutData.axisTickMarks.getHeightHint()));
+		}
+		return key;
+	}
+
+	/**
+	 * Updates the ticks for the current plot area size and checks if they
+	 * take the same space as in the last full layout pass.
+	 * 
+	 * @return true if the bounds of the components can be kept
+	 */
+	private boolean updateTickLabelsAndCheckStable() {
+
+		updateVerticalAxisTick();
+		updateHorizontalAxisTick();
+		return getTickLabelMetrics().equals(tickLabelMetrics);
+	}
+
+	/**
+	 * Gets the sizes of the tick labels which the layout depends on.
+	 * 
+	 * @return the tick label metrics
+	 */
+	private List<Integer> getTickLabelMetrics() {
+
+		List<Integer> metrics = new ArrayList<>();
+		for(IAxis axis : verticalAxes) {
+			AxisTickLabels axisTickLabels = ((Axis)axis).getTick().getAxisTickLabels();
+			metrics.add(axis.getTick().isVisible() ? axisTickLabels.getTickLabelMaxLength() : -1);
+		}
+		for(IAxis axis : horizontalAxes) {
+			AxisTickLabels axisTickLabels = ((Axis)axis).getTick().getAxisTickLabels();
+			if(!axis.getTick().isVisible()) {
+				metrics.add(-1);
+				continue;
+			}
+			metrics.add(axis.getTick().getTickLabelAngle() != 0 ? axisTickLabels.getTickLabelMaxLength() : -1);
+			metrics.add(axisTickLabels.getRightMarginHint(plotAreaWidth));
+			metrics.add(axisTickLabels.getLeftMarginHint(plotAreaWidth));
+		}
+		return metrics;
 	}
 
 	/**
@@ -190,13 +383,13 @@ public class ChartLayout extends Layout {
 	 */
 	private void initAxisSize() {
 
-		axisLayoutDataMap.clear();
+		axisLayoutDataMap.keySet().retainAll(Arrays.asList(axes));
 		for(Axis axis : axes) {
-			AxisLayoutData layoutData = new AxisLayoutData(axis);
+			AxisLayoutData layoutData = axisLayoutDataMap.computeIfAbsent(axis, AxisLayoutData::new);
+			layoutData.updateLayoutData();
 			if(layoutData.titleLayoutdata == null || layoutData.tickLabelsLayoutdata == null || layoutData.tickMarksLayoutdata == null) {
 				continue;
 			}
-			axisLayoutDataMap.put(axis, layoutData);
 			Position position = axis.getPosition();
 			if(position == Position.Primary && axis.isHorizontalAxis()) {
 				bottomAxisHeight += layoutData.titleLayoutdata.heightHint + layoutData.tickLabelsLayoutdata.heightHint + layoutData.tickMarksLayoutdata.heightHint;
@@ -394,7 +587,7 @@ public class ChartLayout extends Layout {
 		if(y < tHeight) {
 			y = tHeight;
 		}
-		legend.setBounds(x, y, width, height);
+		setBounds(legend, x, y, width, height);
 	}
 
 	/**
@@ -408,7 +601,7 @@ public class ChartLayout extends Layout {
 		int legendPosition = legend.getPosition();
 		int x = leftAxisWidth + MARGIN + (legendPosition == SWT.LEFT ? legendWidth + (legendWidth == 0 ? 0 : PADDING) : 0);
 		int y = titleHeight + topAxisHeight + MARGIN + (titleHeight == 0 ? 0 : PADDING) + (legendPosition == SWT.TOP ? legendHeight + (legendHeight == 0 ? 0 : PADDING) : 0);
-		plot.setBounds(x, y, plotAreaWidth, plotAreaHeight);
+		setBounds(plot, x, y, plotAreaWidth, plotAreaHeight);
 	}
 
 	/**
@@ -560,18 +753,19 @@ public class ChartLayout extends Layout {
 	}
 
 	/**
-	 * Axis layout data.
+	 * Axis layout data. The instance is kept per axis across layout passes,
+	 * the layout data is updated at the beginning of each full pass.
 	 */
 	private static class AxisLayoutData {
 
 		/** the axis tick marks */
-		public AxisTickMarks axisTickMarks;
+		public final AxisTickMarks axisTickMarks;
 		/** the axis tick labels */
-		public AxisTickLabels axisTickLabels;
+		public final AxisTickLabels axisTickLabels;
 		/** the axis position marker */
-		public AxisPositionMarker axisPositionMarker;
+		public final AxisPositionMarker axisPositionMarker;
 		/** the axis title */
-		public AxisTitle axisTitle;
+		public final AxisTitle axisTitle;
 		/** the axis title layout data */
 		public ChartLayoutData titleLayoutdata;
 		/** the tick label layout data */
@@ -592,6 +786,15 @@ public class ChartLayout extends Layout {
 			axisTickLabels = axisTick.getAxisTickLabels();
 			axisPositionMarker = axisTick.getAxisPositionMarker();
 			axisTitle = (AxisTitle)axis.getTitle();
+		}
+
+		/**
+		 * Gets the current layout data of the axis components. The layout
+		 * data of tick labels and tick marks are copies, which the layout
+		 * adjusts during a pass.
+		 */
+		public void updateLayoutData() {
+
 			titleLayoutdata = (ChartLayoutData)axisTitle.getLayoutData();
 			tickLabelsLayoutdata = axisTickLabels.getLayoutData();
 			tickMarksLayoutdata = axisTickMarks.getLayoutData();
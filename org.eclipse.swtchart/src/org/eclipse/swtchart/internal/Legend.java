@@ -22,11 +22,14 @@ import java.util.Map;
 import java.util.Map.Entry;
 
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.events.MouseEvent;
+import org.eclipse.swt.events.MouseWheelListener;
 import org.eclipse.swt.events.PaintEvent;
 import org.eclipse.swt.events.PaintListener;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Point;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Display;
@@ -43,8 +46,14 @@ import org.eclipse.swtchart.model.Node;
 
 /**
  * A legend for chart.
+ * <p>
+ * The text widths of the labels are cached, so that only labels of added
+ * series are measured on layout. The part of the chart the legend may take
+ * can be limited with {@link #setMaxSizeRatio(double)}. If the entries don't
+ * fit, the legend can be scrolled with the mouse wheel and only the entries in
+ * the visible part are painted.
  */
-public class Legend extends Composite implements ILegend, PaintListener {
+public class Legend extends Composite implements ILegend, PaintListener, MouseWheelListener {
 
 	/** the plot chart */
 	private Chart chart;
@@ -70,6 +79,24 @@ public class Legend extends Composite implements ILegend, PaintListener {
 	private static final int DEFAULT_POSITION = SWT.RIGHT;
 	/** the map between series id and cell bounds */
 	private Map<String, Rectangle> cellBounds;
+	/** the cells in layout order */
+	private List<Cell> cells;
+	/** the cached text widths of the labels */
+	private Map<String, Integer> textWidths;
+	/** the font of the cached text widths */
+	private Font textWidthsFont;
+	/** the cell height of the cached font */
+	private int cachedCellHeight;
+	/** the content width of all cells */
+	private int contentWidth;
+	/** the content height of all cells */
+	private int contentHeight;
+	/** the maximum part of the chart the legend may take, or 0 for no limit */
+	private double maxSizeRatio;
+	/** the scroll offset in pixels */
+	private int scrollOffset;
+	/** the scroll increment in pixels */
+	private int scrollIncrement;
 
 	/**
 	 * Constructor.
@@ -86,11 +113,15 @@ public class Legend extends Composite implements ILegend, PaintListener {
 		visible = true;
 		position = DEFAULT_POSITION;
 		cellBounds = new HashMap<>();
-		defaultFont = Resources.getFont("Tahoma", DEFAULT_FONT_SIZE, SWT.NORMAL); //$NON-NLS-1$
+		cells = new ArrayList<>();
+		textWidths = new HashMap<>();
+		defaultFont = Resources.acquireFont("Tahoma", DEFAULT_FONT_SIZE, SWT.NORMAL); //$NON-NLS-1$
+		addDisposeListener(e -> Resources.releaseFont(defaultFont));
 		setFont(defaultFont);
 		setForeground(DEFAULT_FOREGROUND);
 		setBackground(DEFAULT_BACKGROUND);
 		addPaintListener(this);
+		addMouseWheelListener(this);
 		setData("org.eclipse.e4.ui.css.CssClassName", "Legend");
 	}
 
@@ -158,13 +189,92 @@ public class Legend extends Composite implements ILegend, PaintListener {
 		chart.updateLayout();
 	}
 
+	/**
+	 * Gets the maximum part of the chart the legend may take.
+	 *
+	 * @return the ratio of the chart width or height, or 0 for no limit
+	 */
+	public double getMaxSizeRatio() {
+
+		return maxSizeRatio;
+	}
+
+	/**
+	 * Sets the maximum part of the chart the legend may take. The width of
+	 * the legend on the left or right side and the height of the legend on
+	 * the top or bottom side are limited, and the entries which don't fit can
+	 * be scrolled. By default, the size is not limited.
+	 *
+	 * @param maxSizeRatio
+	 *            the ratio of the chart width or height between 0 and 1, or
+	 *            0 for no limit
+	 */
+	public void setMaxSizeRatio(double maxSizeRatio) {
+
+		if(!(maxSizeRatio >= 0 && maxSizeRatio <= 1)) {
+			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+		}
+		this.maxSizeRatio = maxSizeRatio;
+		chart.updateLayout();
+	}
+
 	@Override
 	public Rectangle getBounds(String seriesId) {
 
 		if(seriesId == null) {
 			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
 		}
-		return cellBounds.get(seriesId.trim());
+		Rectangle r = cellBounds.get(seriesId.trim());
+		if(r == null || scrollOffset == 0) {
+			return r;
+		}
+		return isVerticalOrientation() ? new Rectangle(r.x - scrollOffset, r.y, r.width, r.height) : new Rectangle(r.x, r.y - scrollOffset, r.width, r.height);
+	}
+
+	/**
+	 * Gets the scroll offset in pixels. The offset is horizontal for the
+	 * legend on the left or right side, and vertical otherwise.
+	 *
+	 * @return the scroll offset
+	 */
+	public int getScrollOffset() {
+
+		return scrollOffset;
+	}
+
+	/**
+	 * Sets the scroll offset in pixels. The offset is limited to the part of
+	 * the entries which doesn't fit into the legend.
+	 *
+	 * @param scrollOffset
+	 *            the scroll offset
+	 */
+	public void setScrollOffset(int scrollOffset) {
+
+		int offset = Math.max(0, Math.min(scrollOffset, getMaxScrollOffset()));
+		if(offset != this.scrollOffset) {
+			this.scrollOffset = offset;
+			redraw();
+		}
+	}
+
+	@Override
+	public void mouseScrolled(MouseEvent e) {
+
+		if(getMaxScrollOffset() > 0) {
+			setScrollOffset(scrollOffset - Integer.signum(e.count) * scrollIncrement);
+		}
+	}
+
+	private int getMaxScrollOffset() {
+
+		Rectangle r = getClientArea();
+		return Math.max(0, isVerticalOrientation() ? contentWidth - r.width : contentHeight - r.height);
+	}
+
+	private boolean isVerticalOrientation() {
+
+		return position == SWT.RIGHT || position == SWT.LEFT;
 	}
 
 	/**
@@ -254,113 +364,138 @@ public class Legend extends Composite implements ILegend, PaintListener {
 		}
 		int width = 0;
 		int height = 0;
-		ISeries<?>[] seriesArray = sort(chart.getSeriesSet().getSeries());
+		List<Cell> cellList = createCells(sort(chart.getSeriesSet().getSeries()));
+		updateTextWidths(cellList);
+		Map<String, Rectangle> boundsMap = new HashMap<>();
 		Rectangle r = chart.getClientArea();
 		Rectangle titleBounds = ((Title)chart.getTitle()).getBounds();
 		int titleHeight = titleBounds.y + titleBounds.height;
-		int cellHeight = Util.getExtentInGC(getFont(), null).y;
+		int cellHeight = cachedCellHeight;
 		if(position == SWT.RIGHT || position == SWT.LEFT) {
 			int columns = 1;
 			int yPosition = MARGIN;
 			int maxCellWidth = 0;
-			for(ISeries<?> series : seriesArray) {
-				/*
-				 * Skip if not visible.
-				 */
-				if(!series.isVisibleInLegend()) {
-					continue;
-				}
-				//
-				if(series instanceof ICircularSeries) {
-					ICircularSeries<?> circularSeries = (ICircularSeries<?>)series;
-					String[] labels = circularSeries.getLabels();
-					if(labels != null) {
-						for(int i = 0; i < labels.length; i++) {
-							String id = labels[i];
-							Node node = circularSeries.getNodeById(id);
-							String label = node.getDescription().isEmpty() ? id : node.getDescription();
-							int textWidth = Util.getExtentInGC(getFont(), label).x;
-							int cellWidth = textWidth + SYMBOL_WIDTH + MARGIN * 3;
-							maxCellWidth = Math.max(maxCellWidth, cellWidth);
-							if(yPosition + cellHeight < r.height - titleHeight - MARGIN || yPosition == MARGIN) {
-								yPosition += cellHeight + MARGIN;
-							} else {
-								columns++;
-								yPosition = cellHeight + MARGIN * 2;
-							}
-							cellBounds.put(label, new Rectangle(maxCellWidth * (columns - 1), yPosition - cellHeight - MARGIN, cellWidth, cellHeight));
-							height = Math.max(yPosition, height);
-						}
-						width = maxCellWidth * columns;
-					}
+			for(Cell cell : cellList) {
+				int cellWidth = textWidths.get(cell.label) + SYMBOL_WIDTH + MARGIN * 3;
+				maxCellWidth = Math.max(maxCellWidth, cellWidth);
+				if(yPosition + cellHeight < r.height - titleHeight - MARGIN || yPosition == MARGIN) {
+					yPosition += cellHeight + MARGIN;
 				} else {
-					String label = getLegendLabel(series);
-					int textWidth = Util.getExtentInGC(getFont(), label).x;
-					int cellWidth = textWidth + SYMBOL_WIDTH + MARGIN * 3;
-					maxCellWidth = Math.max(maxCellWidth, cellWidth);
-					if(yPosition + cellHeight < r.height - titleHeight - MARGIN || yPosition == MARGIN) {
-						yPosition += cellHeight + MARGIN;
-					} else {
-						columns++;
-						yPosition = cellHeight + MARGIN * 2;
-					}
-					cellBounds.put(series.getId(), new Rectangle(maxCellWidth * (columns - 1), yPosition - cellHeight - MARGIN, cellWidth, cellHeight));
-					height = Math.max(yPosition, height);
+					columns++;
+					yPosition = cellHeight + MARGIN * 2;
 				}
+				cell.bounds = new Rectangle(maxCellWidth * (columns - 1), yPosition - cellHeight - MARGIN, cellWidth, cellHeight);
+				boundsMap.put(cell.key, cell.bounds);
+				height = Math.max(yPosition, height);
 			}
 			width = maxCellWidth * columns;
+			scrollIncrement = Math.max(1, maxCellWidth);
+			contentWidth = width;
+			contentHeight = height;
+			if(maxSizeRatio > 0) {
+				width = Math.min(width, (int)(r.width * maxSizeRatio));
+			}
 		} else if(position == SWT.TOP || position == SWT.BOTTOM) {
 			int rows = 1;
 			int xPosition = 0;
-			for(ISeries<?> series : seriesArray) {
-				/*
-				 * Skip if not visible.
-				 */
-				if(!series.isVisibleInLegend()) {
-					continue;
-				}
-				//
-				if(series instanceof ICircularSeries) {
-					ICircularSeries<?> circularSeries = (ICircularSeries<?>)series;
-					String[] labels = circularSeries.getLabels();
-					if(labels != null) {
-						for(int i = 0; i < labels.length; i++) {
-							String id = labels[i];
-							Node node = circularSeries.getNodeById(id);
-							String label = node.getDescription().isEmpty() ? id : node.getDescription();
-							int textWidth = Util.getExtentInGC(getFont(), label).x;
-							int cellWidth = textWidth + SYMBOL_WIDTH + MARGIN * 3;
-							if(xPosition + cellWidth < r.width || xPosition == 0) {
-								xPosition += cellWidth;
-							} else {
-								rows++;
-								xPosition = cellWidth;
-							}
-							cellBounds.put(label, new Rectangle(xPosition - cellWidth, (cellHeight + MARGIN) * (rows - 1) + MARGIN, cellWidth, cellHeight));
-							width = Math.max(xPosition, width);
-						}
-						height = (cellHeight + MARGIN) * rows + MARGIN;
-						continue;
-					}
+			for(Cell cell : cellList) {
+				int cellWidth = textWidths.get(cell.label) + SYMBOL_WIDTH + MARGIN * 3;
+				if(xPosition + cellWidth < r.width || xPosition == 0) {
+					xPosition += cellWidth;
 				} else {
-					String label = getLegendLabel(series);
-					int textWidth = Util.getExtentInGC(getFont(), label).x;
-					int cellWidth = textWidth + SYMBOL_WIDTH + MARGIN * 3;
-					if(xPosition + cellWidth < r.width || xPosition == 0) {
-						xPosition += cellWidth;
-					} else {
-						rows++;
-						xPosition = cellWidth;
-					}
-					cellBounds.put(series.getId(), new Rectangle(xPosition - cellWidth, (cellHeight + MARGIN) * (rows - 1) + MARGIN, cellWidth, cellHeight));
-					width = Math.max(xPosition, width);
+					rows++;
+					xPosition = cellWidth;
 				}
+				cell.bounds = new Rectangle(xPosition - cellWidth, (cellHeight + MARGIN) * (rows - 1) + MARGIN, cellWidth, cellHeight);
+				boundsMap.put(cell.key, cell.bounds);
+				width = Math.max(xPosition, width);
 			}
 			height = (cellHeight + MARGIN) * rows + MARGIN;
+			scrollIncrement = cellHeight + MARGIN;
+			contentWidth = width;
+			contentHeight = height;
+			if(maxSizeRatio > 0) {
+				height = Math.min(height, (int)(r.height * maxSizeRatio));
+			}
 		}
+		cells = cellList;
+		cellBounds = boundsMap;
+		scrollOffset = Math.max(0, Math.min(scrollOffset, isVerticalOrientation() ? contentWidth - width : contentHeight - height));
 		setLayoutData(new ChartLayoutData(width, height));
 	}
 
+	/**
+	 * Creates the cells of the series and pie slices shown in the legend.
+	 *
+	 * @param seriesArray
+	 *            the sorted series array
+	 * @return the cells without bounds
+	 */
+	private static List<Cell> createCells(ISeries<?>[] seriesArray) {
+
+		List<Cell> cellList = new ArrayList<>();
+		for(ISeries<?> series : seriesArray) {
+			/*
+			 * Skip if not visible.
+			 */
+			if(!series.isVisibleInLegend()) {
+				continue;
+			}
+			//
+			if(series instanceof ICircularSeries) {
+				ICircularSeries<?> circularSeries = (ICircularSeries<?>)series;
+				String[] labels = circularSeries.getLabels();
+				if(labels != null) {
+					for(String id : labels) {
+						Node node = circularSeries.getNodeById(id);
+						String label = node.getDescription().isEmpty() ? id : node.getDescription();
+						cellList.add(new Cell(series, node, label, label));
+					}
+				}
+			} else {
+				cellList.add(new Cell(series, null, series.getId(), getLegendLabel(series)));
+			}
+		}
+		return cellList;
+	}
+
+	/**
+	 * Measures the labels which are not cached yet. The cache is dropped if
+	 * the font has changed, and labels which are no longer shown are evicted.
+	 *
+	 * @param cellList
+	 *            the cells
+	 */
+	private void updateTextWidths(List<Cell> cellList) {
+
+		Font font = getFont();
+		if(!font.equals(textWidthsFont)) {
+			textWidths.clear();
+			textWidthsFont = font;
+			cachedCellHeight = Util.getExtentInGC(font, null).y;
+		}
+		Map<String, Integer> widths = new HashMap<>();
+		GC gc = null;
+		try {
+			for(Cell cell : cellList) {
+				Integer textWidth = textWidths.get(cell.label);
+				if(textWidth == null) {
+					if(gc == null) {
+						gc = new GC(this);
+						gc.setFont(font);
+					}
+					textWidth = "".equals(cell.label.trim()) ? 0 : gc.textExtent(cell.label).x; //$NON-NLS-1$
+				}
+				widths.put(cell.label, textWidth);
+			}
+		} finally {
+			if(gc != null) {
+				gc.dispose();
+			}
+		}
+		textWidths = widths;
+	}
+
 	/**
 	 * Gets the legend label.
 	 * 
@@ -420,6 +555,36 @@ public class Legend extends Composite implements ILegend, PaintListener {
 		}
 	}
 
+	@Override
+	public Point getSize() {
+
+		Rectangle offscreenBounds = ChartLayout.getOffscreenBounds(chart, this);
+		if(offscreenBounds != null) {
+			return new Point(offscreenBounds.width, offscreenBounds.height);
+		}
+		return super.getSize();
+	}
+
+	@Override
+	public Rectangle getBounds() {
+
+		Rectangle offscreenBounds = ChartLayout.getOffscreenBounds(chart, this);
+		if(offscreenBounds != null) {
+			return new Rectangle(offscreenBounds.x, offscreenBounds.y, offscreenBounds.width, offscreenBounds.height);
+		}
+		return super.getBounds();
+	}
+
+	@Override
+	public Rectangle getClientArea() {
+
+		Rectangle offscreenBounds = ChartLayout.getOffscreenBounds(chart, this);
+		if(offscreenBounds != null) {
+			return new Rectangle(0, 0, offscreenBounds.width, offscreenBounds.height);
+		}
+		return super.getClientArea();
+	}
+
 	@Override
 	public void paintControl(PaintEvent e) {
 
@@ -438,50 +603,34 @@ public class Legend extends Composite implements ILegend, PaintListener {
 		gc.setLineWidth(1);
 		gc.setForeground(Display.getDefault().getSystemColor(SWT.COLOR_GRAY));
 		gc.drawRectangle(0, 0, getSize().x - 1, getSize().y - 1);
-		// draw content
-		for(int i = 0; i < seriesArray.length; i++) {
-			/*
-			 * Skip if not visible.
-			 */
-			if(!seriesArray[i].isVisibleInLegend()) {
+		// draw the content of the visible cells only
+		boolean isVertical = isVerticalOrientation();
+		int xOffset = isVertical ? scrollOffset : 0;
+		int yOffset = isVertical ? 0 : scrollOffset;
+		Rectangle clientArea = getClientArea();
+		Rectangle viewport = new Rectangle(clientArea.x + xOffset, clientArea.y + yOffset, clientArea.width, clientArea.height);
+		for(Cell cell : cells) {
+			Rectangle r = cell.bounds;
+			if(r == null || !r.intersects(viewport) || !cell.series.isVisibleInLegend()) {
 				continue;
 			}
-			//
-			if(seriesArray[i] instanceof ICircularSeries) {
-				ICircularSeries<?> circularSeries = (ICircularSeries<?>)seriesArray[i];
-				String[] labels = circularSeries.getLabels();
-				if(labels != null) {
-					Color[] colors = circularSeries.getColors();
-					for(int j = 0; j < labels.length; j++) {
-						Rectangle r = cellBounds.get(labels[j]);
-						if(r != null) {
-							String id = labels[j];
-							Node node = circularSeries.getNodeById(id);
-							String label = node.getDescription().isEmpty() ? id : node.getDescription();
-							Color color = colors[j];
-							//
-							if(color != null) {
-								boolean draw = node != null ? node.isVisibleInLegend() : true;
-								if(draw) {
-									drawPieSymbol(gc, label, color, new Rectangle(r.x + MARGIN, r.y + MARGIN, SYMBOL_WIDTH, r.height - MARGIN * 2));
-									gc.setBackground(getBackground());
-									gc.setForeground(getForeground());
-									gc.drawText(label, r.x + SYMBOL_WIDTH + MARGIN * 2, r.y, true);
-								}
-							}
-						}
-					}
+			int x = r.x - xOffset;
+			int y = r.y - yOffset;
+			if(cell.node != null) {
+				Color color = cell.node.getSliceColor();
+				if(color != null && cell.node.isVisibleInLegend()) {
+					drawPieSymbol(gc, cell.label, color, new Rectangle(x + MARGIN, y + MARGIN, SYMBOL_WIDTH, r.height - MARGIN * 2));
+					gc.setBackground(getBackground());
+					gc.setForeground(getForeground());
+					gc.drawText(cell.label, x + SYMBOL_WIDTH + MARGIN * 2, y, true);
 				}
 			} else {
 				// draw plot line, symbol etc
-				String id = seriesArray[i].getId();
-				Rectangle r = cellBounds.get(id);
-				drawSymbol(gc, (Series<?>)seriesArray[i], new Rectangle(r.x + MARGIN, r.y + MARGIN, SYMBOL_WIDTH, r.height - MARGIN * 2));
+				drawSymbol(gc, (Series<?>)cell.series, new Rectangle(x + MARGIN, y + MARGIN, SYMBOL_WIDTH, r.height - MARGIN * 2));
 				// draw label
-				String label = getLegendLabel(seriesArray[i]);
 				gc.setBackground(getBackground());
 				gc.setForeground(getForeground());
-				gc.drawText(label, r.x + SYMBOL_WIDTH + MARGIN * 2, r.y, true);
+				gc.drawText(getLegendLabel(cell.series), x + SYMBOL_WIDTH + MARGIN * 2, y, true);
 			}
 		}
 	}
@@ -494,4 +643,29 @@ public class Legend extends Composite implements ILegend, PaintListener {
 		int y = (int)(r.y - size / 2d + r.height / 2d);
 		gc.fillArc(x, y, size, size, 0, 360);
 	}
+
+	/**
+	 * A legend entry of a series or a pie slice.
+	 */
+	private static class Cell {
+
+		/** the series */
+		private final ISeries<?> series;
+		/** the node of a pie slice, or null */
+		private final Node node;
+		/** the key of the cell bounds */
+		private final String key;
+		/** the label */
+		private final String label;
+		/** the bounds */
+		private Rectangle bounds;
+
+		private Cell(ISeries<?> series, Node node, String key, String label) {
+
+			this.series = series;
+			this.node = node;
+			this.key = key;
+			this.label = label;
+		}
+	}
 }
\ No newline at end of file
@@ -15,8 +15,11 @@
 package org.eclipse.swtchart.internal;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.DisposeEvent;
@@ -34,6 +37,7 @@ import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Event;
 import org.eclipse.swtchart.Chart;
 import org.eclipse.swtchart.IAxis;
 import org.eclipse.swtchart.IBarSeries;
@@ -43,8 +47,13 @@ import org.eclipse.swtchart.ILineSeries;
 import org.eclipse.swtchart.IPlotArea;
 import org.eclipse.swtchart.ISeries;
 import org.eclipse.swtchart.ISeriesSet;
+import org.eclipse.swtchart.Range;
+import org.eclipse.swtchart.internal.series.LineSeries;
 import org.eclipse.swtchart.internal.series.Series;
+import org.eclipse.swtchart.internal.series.SeriesRasterizer;
 import org.eclipse.swtchart.internal.series.SeriesSet;
+import org.eclipse.swtchart.model.CartesianSeriesModel;
+import org.eclipse.swtchart.model.IndexedSeriesModel;
 
 /**
  * Plot area to draw series and grids.
@@ -68,6 +77,53 @@ public class PlotArea extends Composite implements PaintListener, IPlotArea {
 	private int textPositionY = 0;
 	//
 	private boolean buffered = false;
+	//
+	/** the extra pixels repainted left of the previous last data points when streaming */
+	private static final int STREAMING_MARGIN = 2;
+	/** the relative tolerance of the X axis range width between two frames in streaming mode */
+	private static final double STREAMING_WIDTH_TOLERANCE = 1e-9;
+	/** the state indicating if the streaming render mode is enabled */
+	private boolean streamingEnabled = false;
+	/** the cached series image of the previous frame in streaming mode */
+	private Image streamingImage = null;
+	/** the X axis lower bound the cached series image corresponds to, per axis */
+	private double[] streamingLowers = null;
+	/** the X axis range width the cached series image corresponds to, per axis */
+	private double[] streamingWidths = null;
+	/** the axis state the cached series image was painted with */
+	private List<Object> streamingState = null;
+	/** the number of full repaints in streaming mode */
+	private int streamingFullRepaints = 0;
+	/** the last x values of the series painted into the cached series image */
+	private Map<String, Double> streamingLastValues = new HashMap<>();
+	/** the state indicating if line series are rasterized on worker threads */
+	private boolean parallelRenderingEnabled = false;
+	/** the state indicating if series are drawn in reduced quality */
+	private boolean draftMode = false;
+	/** the levels of detail of the progressive render mode, relative to the full precision */
+	private static final double[] DETAIL_LEVELS = {1 / 16d, 1 / 4d, 1d};
+	/** the minimum number of data points to render progressively */
+	private static final int PROGRESSIVE_THRESHOLD = 100000;
+	/** the time budget in milliseconds to paint one level of detail */
+	private static final long PROGRESSIVE_TIME_BUDGET = 50;
+	/** the state indicating if the progressive render mode is enabled */
+	private boolean progressiveRenderingEnabled = false;
+	/** the current level of detail, an index of DETAIL_LEVELS */
+	private int detailLevel = DETAIL_LEVELS.length - 1;
+	/** the series data the progressive rendering was started for */
+	private List<Object> progressiveState = null;
+	/** the time in milliseconds it took to paint the current level of detail */
+	private long detailLevelPaintTime = 0;
+	/** the refinement to the next level of detail */
+	private final Runnable refinement = this::refine;
+	/** the image of the series painted when the viewport transition began */
+	private Image transitionImage = null;
+	/** the ranges of the primary X and Y axis the transition image was painted with */
+	private Range[] transitionRanges = null;
+	/** the cached image of the plot area without the overlay */
+	private Image overlayBaseImage = null;
+	/** the state indicating if the cached image of the plot area is up to date */
+	private boolean overlayBaseValid = false;
 
 	/**
 	 * Constructor.
@@ -100,6 +156,12 @@ public class PlotArea extends Composite implements PaintListener, IPlotArea {
 	public void dispose() {
 
 		chart.removeDisposeListener(disposeListener);
+		disposeStreamingImage();
+		disposeTransitionImage();
+		disposeOverlayBaseImage();
+		if(!isDisposed()) {
+			getDisplay().timerExec(-1, refinement);
+		}
 		super.dispose();
 	}
 
@@ -169,12 +231,14 @@ public class PlotArea extends Composite implements PaintListener, IPlotArea {
 	public void addCustomPaintListener(ICustomPaintListener listener) {
 
 		paintListeners.add(listener);
+		overlayBaseValid = false;
 	}
 
 	@Override
 	public void removeCustomPaintListener(ICustomPaintListener listener) {
 
 		paintListeners.remove(listener);
+		overlayBaseValid = false;
 	}
 
 	@Override
@@ -184,45 +248,381 @@ public class PlotArea extends Composite implements PaintListener, IPlotArea {
 	}
 
 	@Override
-	public void paintControl(PaintEvent e) {
+	public boolean isStreamingEnabled() {
+
+		return streamingEnabled;
+	}
+
+	@Override
+	public void setStreamingEnabled(boolean enabled) {
+
+		streamingEnabled = enabled;
+		disposeStreamingImage();
+	}
+
+	@Override
+	public boolean isParallelRenderingEnabled() {
+
+		return parallelRenderingEnabled;
+	}
+
+	@Override
+	public void setParallelRenderingEnabled(boolean enabled) {
 
+		parallelRenderingEnabled = enabled;
+		disposeStreamingImage();
+	}
+
+	@Override
+	public boolean isDraftMode() {
+
+		return draftMode;
+	}
+
+	@Override
+	public void setDraftMode(boolean enabled) {
+
+		if(draftMode == enabled) {
+			return;
+		}
+		draftMode = enabled;
+		disposeStreamingImage();
+		// the compression precision depends on the draft mode
+		((SeriesSet)getSeriesSet()).compressAllSeries();
+	}
+
+	@Override
+	public boolean isProgressiveRenderingEnabled() {
+
+		return progressiveRenderingEnabled;
+	}
+
+	@Override
+	public void setProgressiveRenderingEnabled(boolean enabled) {
+
+		progressiveRenderingEnabled = enabled;
+		progressiveState = null;
+		if(!enabled) {
+			completeRendering();
+		}
+	}
+
+	@Override
+	public boolean isRenderingComplete() {
+
+		return detailLevel == DETAIL_LEVELS.length - 1;
+	}
+
+	@Override
+	public void beginViewportTransition() {
+
+		if(transitionImage != null) {
+			return;
+		}
 		Point sizePlotArea = getSize();
-		GC gc = e.gc;
+		if(sizePlotArea.x <= 0 || sizePlotArea.y <= 0) {
+			return;
+		}
 		/*
-		 * Draw the plot area background
+		 * Paint the series once more with the current compression, without
+		 * the background image and text, which stay fixed.
 		 */
-		Color oldBackground = gc.getBackground();
-		gc.setBackground(getBackground());
-		gc.fillRectangle(0, 0, sizePlotArea.x, sizePlotArea.y);
+		transitionImage = new Image(getDisplay(), sizePlotArea.x, sizePlotArea.y);
+		GC gc = new GC(transitionImage);
+		try {
+			paintBackground(gc, sizePlotArea);
+			paintGrid(gc, sizePlotArea);
+			paintAllSeries(gc, sizePlotArea);
+		} finally {
+			gc.dispose();
+		}
+		transitionRanges = new Range[]{chart.getAxisSet().getXAxis(0).getRange(), chart.getAxisSet().getYAxis(0).getRange()};
+	}
+
+	@Override
+	public void endViewportTransition() {
+
+		if(transitionImage == null) {
+			return;
+		}
+		disposeTransitionImage();
+		disposeStreamingImage();
+		((SeriesSet)getSeriesSet()).compressAllSeries();
+		redraw();
+	}
+
+	@Override
+	public boolean isViewportTransitionActive() {
+
+		return transitionImage != null;
+	}
+
+	/**
+	 * Gets the level of detail the series are compressed with, relative to
+	 * the full precision. If the progressive render mode is enabled and the
+	 * series data has been replaced by a large data set, the progression
+	 * is restarted with the coarsest level.
+	 *
+	 * @return the level of detail between 0 (exclusive) and 1
+	 */
+	public double getDetailLevel() {
+
+		if(progressiveRenderingEnabled) {
+			List<Object> state = new ArrayList<>();
+			long dataPoints = 0;
+			for(ISeries<?> series : chart.getSeriesSet().getSeries()) {
+				CartesianSeriesModel<?> model = series.getDataModel();
+				int size = model instanceof IndexedSeriesModel<?> ? ((IndexedSeriesModel<?>)model).size() : 0;
+				state.add(series.getId());
+				state.add(Long.valueOf(((Series<?>)series).getDataVersion()));
+				state.add(Integer.valueOf(size));
+				dataPoints += size;
+			}
+			if(!state.equals(progressiveState)) {
+				progressiveState = state;
+				if(dataPoints >= PROGRESSIVE_THRESHOLD) {
+					detailLevel = 0;
+				}
+			}
+		}
+		return DETAIL_LEVELS[detailLevel];
+	}
+
+	/**
+	 * Refines to the next level of detail. Levels whose estimated paint time
+	 * fits into the time budget are skipped; the paint time is assumed to
+	 * grow linearly with the level of detail.
+	 */
+	private void refine() {
+
+		if(isDisposed() || isRenderingComplete()) {
+			return;
+		}
+		int level = detailLevel + 1;
+		while(level < DETAIL_LEVELS.length - 1) {
+			double estimate = detailLevelPaintTime * DETAIL_LEVELS[level + 1] / DETAIL_LEVELS[detailLevel];
+			if(estimate > PROGRESSIVE_TIME_BUDGET) {
+				break;
+			}
+			level++;
+		}
+		detailLevel = level;
+		((SeriesSet)getSeriesSet()).compressAllSeries();
+		redraw();
+	}
+
+	/**
+	 * Skips the pending refinements and compresses the series in full
+	 * precision, e.g. before the chart is exported.
+	 */
+	public void completeRendering() {
+
+		if(!isRenderingComplete()) {
+			detailLevel = DETAIL_LEVELS.length - 1;
+			getDisplay().timerExec(-1, refinement);
+			((SeriesSet)getSeriesSet()).compressAllSeries();
+		}
+	}
+
+	@Override
+	public void redraw() {
+
+		overlayBaseValid = false;
+		super.redraw();
+	}
+
+	@Override
+	public void redraw(int x, int y, int width, int height, boolean all) {
+
+		overlayBaseValid = false;
+		super.redraw(x, y, width, height, all);
+	}
+
+	@Override
+	public void redrawOverlay() {
+
+		super.redraw();
+	}
+
+	@Override
+	public Point getSize() {
+
+		Rectangle offscreenBounds = ChartLayout.getOffscreenBounds(chart, this);
+		if(offscreenBounds != null) {
+			return new Point(offscreenBounds.width, offscreenBounds.height);
+		}
+		return super.getSize();
+	}
+
+	@Override
+	public Rectangle getBounds() {
+
+		Rectangle offscreenBounds = ChartLayout.getOffscreenBounds(chart, this);
+		if(offscreenBounds != null) {
+			return new Rectangle(offscreenBounds.x, offscreenBounds.y, offscreenBounds.width, offscreenBounds.height);
+		}
+		return super.getBounds();
+	}
+
+	@Override
+	public void paintControl(PaintEvent e) {
+
+		Point sizePlotArea = getSize();
+		if(!hasOverlay() || sizePlotArea.x <= 0 || sizePlotArea.y <= 0) {
+			disposeOverlayBaseImage();
+			paintContent(e);
+			paintOverlay(e);
+			return;
+		}
 		/*
-		 * Background Image / Text
+		 * Paint the content into the cached image only if it changed,
+		 * otherwise copy it and paint the overlay on top.
 		 */
-		Font fontDefault = gc.getFont();
-		Color colorDefault = gc.getForeground();
-		//
-		gc.setFont(fontText);
-		gc.setForeground(colorText);
-		if(image != null) {
-			int offsetY = drawImage(gc, sizePlotArea, image, imagePositionX, imagePositionY);
-			drawText(gc, sizePlotArea, text, textPositionX, textPositionY, offsetY);
+		if(overlayBaseImage != null && !overlayBaseImage.getBounds().equals(new Rectangle(0, 0, sizePlotArea.x, sizePlotArea.y))) {
+			disposeOverlayBaseImage();
+		}
+		if(overlayBaseImage == null || !overlayBaseValid) {
+			if(overlayBaseImage == null) {
+				overlayBaseImage = new Image(getDisplay(), sizePlotArea.x, sizePlotArea.y);
+			}
+			GC gc = new GC(overlayBaseImage);
+			try {
+				gc.setFont(e.gc.getFont());
+				Event event = new Event();
+				event.gc = gc;
+				event.widget = this;
+				event.width = sizePlotArea.x;
+				event.height = sizePlotArea.y;
+				paintContent(new PaintEvent(event));
+			} finally {
+				gc.dispose();
+			}
+			overlayBaseValid = true;
+		}
+		e.gc.drawImage(overlayBaseImage, 0, 0);
+		paintOverlay(e);
+	}
+
+	/**
+	 * Paints the plot area except the custom paint listeners drawing on the
+	 * overlay.
+	 *
+	 * @param e
+	 *            the paint event
+	 */
+	private void paintContent(PaintEvent e) {
+
+		Point sizePlotArea = getSize();
+		GC gc = e.gc;
+		Color oldBackground = gc.getBackground();
+		if(transitionImage != null) {
+			paintBackground(gc, sizePlotArea);
+			paintTransition(gc, sizePlotArea);
+		} else if(streamingEnabled && isStreamingPossible()) {
+			paintStreaming(gc, sizePlotArea);
 		} else {
-			drawText(gc, sizePlotArea, text, textPositionX, textPositionY, 0);
+			disposeStreamingImage();
+			/*
+			 * Draw the plot area background
+			 */
+			paintBackground(gc, sizePlotArea);
+			/*
+			 * Background Image / Text
+			 */
+			Font fontDefault = gc.getFont();
+			Color colorDefault = gc.getForeground();
+			//
+			gc.setFont(fontText);
+			gc.setForeground(colorText);
+			if(image != null) {
+				int offsetY = drawImage(gc, sizePlotArea, image, imagePositionX, imagePositionY);
+				drawText(gc, sizePlotArea, text, textPositionX, textPositionY, offsetY);
+			} else {
+				drawText(gc, sizePlotArea, text, textPositionX, textPositionY, 0);
+			}
+			//
+			gc.setForeground(colorDefault);
+			gc.setFont(fontDefault);
+			/*
+			 * Draw Grid
+			 */
+			paintGrid(gc, sizePlotArea);
+			// draw behind series
+			for(ICustomPaintListener listener : paintListeners) {
+				if(listener.drawBehindSeries()) {
+					listener.paintControl(e);
+				}
+			}
+			paintSeries(gc, sizePlotArea);
 		}
-		//
-		gc.setForeground(colorDefault);
-		gc.setFont(fontDefault);
-		/*
-		 * Draw Grid
-		 */
-		for(IAxis axis : chart.getAxisSet().getAxes()) {
-			((Grid)axis.getGrid()).draw(gc, sizePlotArea.x, sizePlotArea.y);
+		// draw over series
+		for(ICustomPaintListener listener : paintListeners) {
+			if(!listener.drawBehindSeries() && !listener.drawOnOverlay()) {
+				listener.paintControl(e);
+			}
 		}
-		// draw behind series
+		e.gc.setBackground(oldBackground);
+	}
+
+	private void paintOverlay(PaintEvent e) {
+
+		Color oldBackground = e.gc.getBackground();
 		for(ICustomPaintListener listener : paintListeners) {
-			if(listener.drawBehindSeries()) {
+			if(listener.drawOnOverlay() && !listener.drawBehindSeries()) {
 				listener.paintControl(e);
 			}
 		}
+		e.gc.setBackground(oldBackground);
+	}
+
+	private boolean hasOverlay() {
+
+		for(ICustomPaintListener listener : paintListeners) {
+			if(listener.drawOnOverlay() && !listener.drawBehindSeries()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void disposeOverlayBaseImage() {
+
+		if(overlayBaseImage != null && !overlayBaseImage.isDisposed()) {
+			overlayBaseImage.dispose();
+		}
+		overlayBaseImage = null;
+		overlayBaseValid = false;
+	}
+
+	private void paintBackground(GC gc, Point sizePlotArea) {
+
+		gc.setBackground(getBackground());
+		gc.fillRectangle(0, 0, sizePlotArea.x, sizePlotArea.y);
+	}
+
+	private void paintGrid(GC gc, Point sizePlotArea) {
+
+		for(IAxis axis : chart.getAxisSet().getAxes()) {
+			((Grid)axis.getGrid()).draw(gc, sizePlotArea.x, sizePlotArea.y);
+		}
+	}
+
+	private void paintSeries(GC gc, Point sizePlotArea) {
+
+		long start = System.currentTimeMillis();
+		paintAllSeries(gc, sizePlotArea);
+		if(!isRenderingComplete()) {
+			/*
+			 * Refine with the next frame, so that the coarse
+			 * level of detail is shown first.
+			 */
+			detailLevelPaintTime = System.currentTimeMillis() - start;
+			getDisplay().timerExec(1, refinement);
+		}
+	}
+
+	private void paintAllSeries(GC gc, Point sizePlotArea) {
+
 		// draw series. The line series should be drawn on bar series.
 		for(ISeries<?> series : chart.getSeriesSet().getSeries()) {
 			if(series instanceof IBarSeries) {
@@ -230,9 +630,13 @@ public class PlotArea extends Composite implements PaintListener, IPlotArea {
 			}
 		}
 		//
-		for(ISeries<?> series : chart.getSeriesSet().getSeries()) {
-			if(series instanceof ILineSeries) {
-				((Series<?>)series).draw(gc, sizePlotArea.x, sizePlotArea.y);
+		if(parallelRenderingEnabled && gc.getDevice() instanceof Display) {
+			paintLineSeriesParallel(gc, sizePlotArea);
+		} else {
+			for(ISeries<?> series : chart.getSeriesSet().getSeries()) {
+				if(series instanceof ILineSeries) {
+					((Series<?>)series).draw(gc, sizePlotArea.x, sizePlotArea.y);
+				}
 			}
 		}
 		//
@@ -241,13 +645,361 @@ public class PlotArea extends Composite implements PaintListener, IPlotArea {
 				((Series<?>)series).draw(gc, sizePlotArea.x, sizePlotArea.y);
 			}
 		}
-		// draw over series
+	}
+
+	/**
+	 * Paints the image of the viewport transition, scaled and moved so that
+	 * the data coordinates it shows match the current ranges of the primary
+	 * axes. Only the visible part of the image is drawn.
+	 *
+	 * @param gc
+	 *            the graphics context
+	 * @param sizePlotArea
+	 *            the size of the plot area
+	 */
+	private void paintTransition(GC gc, Point sizePlotArea) {
+
+		IAxis xAxis = chart.getAxisSet().getXAxis(0);
+		IAxis yAxis = chart.getAxisSet().getYAxis(0);
+		boolean horizontal = chart.getOrientation() == SWT.HORIZONTAL;
+		Rectangle bounds = transitionImage.getBounds();
+		int[] h = horizontal ? getTransitionSpan(xAxis, transitionRanges[0], bounds.width, sizePlotArea.x) : getTransitionSpan(yAxis, transitionRanges[1], bounds.width, sizePlotArea.x);
+		int[] v = horizontal ? getTransitionSpan(yAxis, transitionRanges[1], bounds.height, sizePlotArea.y) : getTransitionSpan(xAxis, transitionRanges[0], bounds.height, sizePlotArea.y);
+		if(h != null && v != null) {
+			gc.drawImage(transitionImage, h[0], v[0], h[1], v[1], h[2], v[2], h[3], v[3]);
+		}
+	}
+
+	/**
+	 * Gets the span of the transition image to draw in one direction. The
+	 * pixel coordinates of the previous range bounds are mapped linearly to
+	 * their current pixel coordinates, which holds for linear, logarithmic
+	 * and category axes.
+	 *
+	 * @param axis
+	 *            the axis
+	 * @param range
+	 *            the range the transition image was painted with
+	 * @param imageSize
+	 *            the size of the transition image
+	 * @param size
+	 *            the size of the plot area
+	 * @return the source offset and size followed by the destination offset
+	 *         and size, or <tt>null</tt> if nothing is visible
+	 */
+	private static int[] getTransitionSpan(IAxis axis, Range range, int imageSize, int size) {
+
+		double previousLower = axis.getPixelCoordinate(range.lower, range.lower, range.upper);
+		double previousUpper = axis.getPixelCoordinate(range.upper, range.lower, range.upper);
+		double scale = (axis.getPixelCoordinate(range.upper) - axis.getPixelCoordinate(range.lower)) / (previousUpper - previousLower);
+		if(!(scale > 0) || Double.isInfinite(scale)) {
+			return null;
+		}
+		double offset = axis.getPixelCoordinate(range.lower) - previousLower * scale;
+		double start = Math.max(0, offset);
+		double end = Math.min(size, offset + imageSize * scale);
+		if(end <= start) {
+			return null;
+		}
+		int sourceStart = Math.max(0, (int)Math.floor((start - offset) / scale));
+		int sourceEnd = Math.min(imageSize, (int)Math.ceil((end - offset) / scale));
+		if(sourceEnd <= sourceStart) {
+			return null;
+		}
+		int destinationStart = (int)Math.round(offset + sourceStart * scale);
+		int destinationEnd = (int)Math.round(offset + sourceEnd * scale);
+		return new int[]{sourceStart, sourceEnd - sourceStart, destinationStart, Math.max(1, destinationEnd - destinationStart)};
+	}
+
+	/**
+	 * Paints the line series with the pure-Java rasterizer on worker threads.
+	 * Series using features the rasterizer doesn't support are drawn with the
+	 * graphics context. The rasterized layers collected so far are composited
+	 * before, so that the painting order of the series is kept.
+	 *
+	 * @param gc
+	 *            the graphics context
+	 * @param sizePlotArea
+	 *            the size of the plot area
+	 */
+	private void paintLineSeriesParallel(GC gc, Point sizePlotArea) {
+
+		List<SeriesRasterizer.Layer> layers = new ArrayList<>();
+		for(ISeries<?> series : chart.getSeriesSet().getSeries()) {
+			if(series instanceof LineSeries) {
+				SeriesRasterizer.Layer layer = ((LineSeries<?>)series).createRasterLayer(sizePlotArea.x, sizePlotArea.y);
+				if(layer != null) {
+					layers.add(layer);
+					continue;
+				}
+			}
+			if(series instanceof ILineSeries) {
+				SeriesRasterizer.draw(gc, layers, sizePlotArea.x, sizePlotArea.y);
+				layers.clear();
+				((Series<?>)series).draw(gc, sizePlotArea.x, sizePlotArea.y);
+			}
+		}
+		SeriesRasterizer.draw(gc, layers, sizePlotArea.x, sizePlotArea.y);
+	}
+
+	/**
+	 * Gets the state indicating if the content can be painted in streaming
+	 * mode. Background image and text are fixed in the plot area and custom
+	 * painting behind series draws directly on the paint event, hence both
+	 * can't be shifted with the series. Only linear X axes in horizontal
+	 * orientation and line series are supported.
+	 *
+	 * @return true if the streaming render mode can be used
+	 */
+	private boolean isStreamingPossible() {
+
+		if(image != null || !text.isEmpty() || chart.getOrientation() != SWT.HORIZONTAL) {
+			return false;
+		}
 		for(ICustomPaintListener listener : paintListeners) {
-			if(!listener.drawBehindSeries()) {
-				listener.paintControl(e);
+			if(listener.drawBehindSeries()) {
+				return false;
 			}
 		}
-		e.gc.setBackground(oldBackground);
+		for(IAxis axis : chart.getAxisSet().getXAxes()) {
+			if(axis.isLogScaleEnabled() || axis.isCategoryEnabled() || axis.isReversed()) {
+				return false;
+			}
+		}
+		for(ISeries<?> series : chart.getSeriesSet().getSeries()) {
+			if(series.isVisible() && !(series instanceof ILineSeries)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Paints the content in streaming mode. The series image of the previous
+	 * frame is shifted by the number of pixels the X axis range advanced, and
+	 * only the newly exposed strip is repainted. Any other change of the axes,
+	 * the series or the size leads to a full repaint.
+	 *
+	 * @param gc
+	 *            the graphics context
+	 * @param sizePlotArea
+	 *            the size of plot area
+	 */
+	private void paintStreaming(GC gc, Point sizePlotArea) {
+
+		if(sizePlotArea.x <= 0 || sizePlotArea.y <= 0) {
+			return;
+		}
+		IAxis[] xAxes = chart.getAxisSet().getXAxes();
+		List<Object> state = getStreamingState(sizePlotArea, xAxes);
+		int shift = 0;
+		int stripStart = 0;
+		boolean fullRepaint = streamingImage == null || streamingImage.isDisposed() || !state.equals(streamingState) || !isStreamingWidthEqual(xAxes);
+		if(!fullRepaint) {
+			/*
+			 * All X axes must have advanced by the same number of pixels.
+			 */
+			for(int i = 0; i < xAxes.length; i++) {
+				Range range = xAxes[i].getRange();
+				double pixels = (range.lower - streamingLowers[i]) / (range.upper - range.lower) * sizePlotArea.x;
+				int axisShift = (int)Math.round(pixels);
+				if(i == 0) {
+					shift = axisShift;
+				} else if(axisShift != shift) {
+					fullRepaint = true;
+				}
+			}
+			if(shift < 0 || shift >= sizePlotArea.x) {
+				fullRepaint = true;
+			}
+		}
+		if(!fullRepaint) {
+			/*
+			 * Repaint from the previous last data point of each series on,
+			 * so that the segments to the appended data points are complete.
+			 */
+			stripStart = sizePlotArea.x - shift;
+			for(ISeries<?> series : chart.getSeriesSet().getSeries()) {
+				if(!series.isVisible()) {
+					continue;
+				}
+				Double lastValue = streamingLastValues.get(series.getId());
+				if(lastValue == null || lastValue.isNaN()) {
+					fullRepaint = true;
+					break;
+				}
+				ILineSeries<?> lineSeries = (ILineSeries<?>)series;
+				int margin = lineSeries.getSymbolSize() + lineSeries.getLineWidth() + STREAMING_MARGIN;
+				IAxis xAxis = chart.getAxisSet().getXAxis(series.getXAxisId());
+				int start = xAxis.getPixelCoordinate(lastValue.doubleValue()) - margin;
+				stripStart = Math.max(0, Math.min(stripStart, start));
+			}
+		}
+		if(fullRepaint) {
+			streamingFullRepaints++;
+		}
+		if(streamingImage == null || streamingImage.isDisposed()) {
+			streamingImage = new Image(getDisplay(), sizePlotArea.x, sizePlotArea.y);
+		}
+		GC imageGC = new GC(streamingImage);
+		try {
+			imageGC.setFont(gc.getFont());
+			if(!fullRepaint) {
+				if(shift > 0) {
+					imageGC.copyArea(shift, 0, sizePlotArea.x - shift, sizePlotArea.y, 0, 0);
+				}
+				imageGC.setClipping(stripStart, 0, sizePlotArea.x - stripStart, sizePlotArea.y);
+			}
+			paintBackground(imageGC, sizePlotArea);
+			paintGrid(imageGC, sizePlotArea);
+			paintSeries(imageGC, sizePlotArea);
+		} finally {
+			imageGC.dispose();
+		}
+		gc.drawImage(streamingImage, 0, 0);
+		/*
+		 * Keep the state the cached image corresponds to. The lower bounds
+		 * advance by whole pixels only, so the rounding doesn't accumulate.
+		 */
+		if(fullRepaint || streamingLowers == null) {
+			streamingLowers = new double[xAxes.length];
+			for(int i = 0; i < xAxes.length; i++) {
+				streamingLowers[i] = xAxes[i].getRange().lower;
+			}
+		} else {
+			for(int i = 0; i < xAxes.length; i++) {
+				Range range = xAxes[i].getRange();
+				streamingLowers[i] += shift * (range.upper - range.lower) / sizePlotArea.x;
+			}
+		}
+		streamingWidths = new double[xAxes.length];
+		for(int i = 0; i < xAxes.length; i++) {
+			Range range = xAxes[i].getRange();
+			streamingWidths[i] = range.upper - range.lower;
+		}
+		streamingState = state;
+		streamingLastValues.clear();
+		for(ISeries<?> series : chart.getSeriesSet().getSeries()) {
+			streamingLastValues.put(series.getId(), getLastXValue(series.getDataModel()));
+		}
+	}
+
+	/**
+	 * Gets the state indicating if the X axis range widths equal the widths
+	 * the cached series image corresponds to. The widths are compared with
+	 * a relative tolerance, since a sliding window like
+	 * <tt>new Range(t - w, t)</tt> doesn't have exactly the same width in
+	 * each frame.
+	 *
+	 * @param xAxes
+	 *            the X axes
+	 * @return true if the widths are equal
+	 */
+	private boolean isStreamingWidthEqual(IAxis[] xAxes) {
+
+		if(streamingWidths == null || streamingWidths.length != xAxes.length) {
+			return false;
+		}
+		for(int i = 0; i < xAxes.length; i++) {
+			Range range = xAxes[i].getRange();
+			double width = range.upper - range.lower;
+			if(Math.abs(width - streamingWidths[i]) > Math.abs(streamingWidths[i]) * STREAMING_WIDTH_TOLERANCE) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the number of full repaints in streaming mode, i.e. of the frames
+	 * which couldn't reuse the series image of the previous frame.
+	 *
+	 * @return the number of full repaints
+	 */
+	public int getStreamingFullRepaints() {
+
+		return streamingFullRepaints;
+	}
+
+	/**
+	 * Gets the state which must not change between two frames painted in
+	 * streaming mode, i.e. everything except the X axis lower bounds and the
+	 * X axis range widths within a tolerance.
+	 *
+	 * @param sizePlotArea
+	 *            the size of plot area
+	 * @param xAxes
+	 *            the X axes
+	 * @return the state
+	 */
+	private List<Object> getStreamingState(Point sizePlotArea, IAxis[] xAxes) {
+
+		List<Object> state = new ArrayList<>();
+		state.add(sizePlotArea);
+		state.add(getBackground().getRGB());
+		for(IAxis axis : xAxes) {
+			state.add(Boolean.valueOf(axis.getGrid().isVisible()));
+		}
+		for(IAxis axis : chart.getAxisSet().getYAxes()) {
+			Range range = axis.getRange();
+			state.add(Double.valueOf(range.lower));
+			state.add(Double.valueOf(range.upper));
+			state.add(Boolean.valueOf(axis.isLogScaleEnabled()));
+			state.add(Boolean.valueOf(axis.isReversed()));
+			state.add(Boolean.valueOf(axis.getGrid().isVisible()));
+		}
+		for(ISeries<?> series : chart.getSeriesSet().getSeries()) {
+			state.add(series.getId());
+			state.add(Boolean.valueOf(series.isVisible()));
+			if(series instanceof Series<?>) {
+				state.add(Arrays.toString(((Series<?>)series).getDataTransform()));
+			}
+		}
+		return state;
+	}
+
+	/**
+	 * Gets the x value of the last data point of the given model.
+	 *
+	 * @param model
+	 *            the data model
+	 * @return the last x value, or <tt>NaN</tt> if not available
+	 */
+	private static <T> Double getLastXValue(CartesianSeriesModel<T> model) {
+
+		if(model instanceof IndexedSeriesModel<?>) {
+			@SuppressWarnings("unchecked")
+			IndexedSeriesModel<T> indexedModel = (IndexedSeriesModel<T>)model;
+			int size = indexedModel.size();
+			if(size > 0) {
+				Number x = model.getX(indexedModel.itemAt(size - 1));
+				if(x != null) {
+					return Double.valueOf(x.doubleValue());
+				}
+			}
+		}
+		return Double.valueOf(Double.NaN);
+	}
+
+	private void disposeStreamingImage() {
+
+		if(streamingImage != null && !streamingImage.isDisposed()) {
+			streamingImage.dispose();
+		}
+		streamingImage = null;
+		streamingLowers = null;
+		streamingWidths = null;
+		streamingState = null;
+		streamingLastValues.clear();
+	}
+
+	private void disposeTransitionImage() {
+
+		if(transitionImage != null && !transitionImage.isDisposed()) {
+			transitionImage.dispose();
+		}
+		transitionImage = null;
+		transitionRanges = null;
 	}
 
 	@Override
@@ -259,9 +1011,19 @@ public class PlotArea extends Composite implements PaintListener, IPlotArea {
 		GC gc = null;
 		//
 		try {
-			image = new Image(getDisplay(), new ImageData(chartSize.x, chartSize.y, 32, new PaletteData(0xFF, 0xFF00, 0xFF0000)));
-			gc = new GC(this);
-			gc.copyArea(image, 0, 0);
+			/*
+			 * Paint off-screen instead of copying from the screen.
+			 */
+			image = new Image(getDisplay(), new ImageData(Math.max(1, chartSize.x), Math.max(1, chartSize.y), 32, new PaletteData(0xFF, 0xFF00, 0xFF0000)));
+			gc = new GC(image);
+			Event event = new Event();
+			event.gc = gc;
+			event.widget = this;
+			event.width = chartSize.x;
+			event.height = chartSize.y;
+			PaintEvent paintEvent = new PaintEvent(event);
+			paintContent(paintEvent);
+			paintOverlay(paintEvent);
 			imageData = image.getImageData();
 		} finally {
 			/*
@@ -52,8 +52,10 @@ public class Title implements ITitle, PaintListener {
 	private StyleRange[] styleRanges;
 	/** the visibility state of axis */
 	private boolean isVisible;
-	/** the default font */
+	/** the default font, acquired from the shared fonts */
 	private final Font defaultFont;
+	/** the state indicating if the default font has been released */
+	private boolean defaultFontReleased;
 	/** the bounds of title */
 	private Rectangle bounds;
 	/** the layout data */
@@ -71,10 +73,23 @@ public class Title implements ITitle, PaintListener {
 
 	public Title(Chart parent) {
 
+		this(parent, DEFAULT_FONT_SIZE);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param parent
+	 *            the chart
+	 * @param defaultFontSize
+	 *            the size of the default font
+	 */
+	protected Title(Chart parent, int defaultFontSize) {
+
 		this.chart = parent;
 		text = DEFAULT_TEXT;
 		isVisible = true;
-		defaultFont = Resources.getFont("Tahoma", DEFAULT_FONT_SIZE, SWT.BOLD); //$NON-NLS-1$
+		defaultFont = Resources.acquireFont("Tahoma", defaultFontSize, SWT.BOLD); //$NON-NLS-1$
 		bounds = new Rectangle(0, 0, 0, 0);
 		font = defaultFont;
 		setForeground(Display.getDefault().getSystemColor(DEFAULT_FOREGROUND));
@@ -279,6 +294,14 @@ public class Title implements ITitle, PaintListener {
 	public void dispose() {
 
 		chart.removePaintListener(this);
+		if(textLayoutUUID != null) {
+			Resources.releaseTextLayout(textLayoutUUID);
+			textLayoutUUID = null;
+		}
+		if(!defaultFontReleased) {
+			Resources.releaseFont(defaultFont);
+			defaultFontReleased = true;
+		}
 	}
 
 	@Override
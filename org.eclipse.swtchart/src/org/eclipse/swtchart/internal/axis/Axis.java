@@ -76,6 +76,8 @@ public class Axis implements IAxis {
 	private boolean logScaleEnabled;
 	/** The logarithmic scale base **/
 	private double logScaleBase = 10d;
+	/** the natural logarithm of the logarithmic scale base */
+	private double logScaleBaseLn = Math.log(10d);
 	/** the state indicating if axis type is category */
 	private boolean categoryAxisEnabled;
 	/** the state indicating if axis is reversed */
@@ -286,6 +288,7 @@ public class Axis implements IAxis {
 			throw new IllegalStateException(Messages.getString(Messages.LOGARITHM_BASE_IS_INVALID));
 		}
 		logScaleBase = base;
+		logScaleBaseLn = Math.log(base);
 		chart.updateLayout();
 		((SeriesSet)chart.getSeriesSet()).compressAllSeries();
 	}
@@ -455,6 +458,56 @@ public class Axis implements IAxis {
 		setRange(new Range(lower, upper));
 	}
 
+	@Override
+	public void zoom(double coordinate, int steps) {
+
+		double lower = min;
+		double upper = max;
+		if(isValidCategoryAxis()) {
+			/*
+			 * The steps of zoomIn and zoomOut, with the range limited to
+			 * the categories as by setRange.
+			 */
+			for(int i = 0; i < Math.abs(steps); i++) {
+				double center = (lower + upper) / 2d;
+				if(steps > 0) {
+					if(lower != upper) {
+						if(center < coordinate) {
+							lower++;
+						} else if(coordinate < center) {
+							upper--;
+						} else {
+							lower++;
+							upper--;
+						}
+					}
+				} else {
+					if(center < coordinate && lower != 0) {
+						lower--;
+					} else if(coordinate < center && upper != categorySeries.length - 1) {
+						upper++;
+					} else {
+						lower = Math.max(0, lower - 1);
+						upper = Math.min(categorySeries.length - 1, upper + 1);
+					}
+				}
+			}
+		} else if(isLogScaleEnabled()) {
+			/*
+			 * The scale factors of the steps of zoomIn and zoomOut combined.
+			 */
+			double factor = steps > 0 ? Math.pow(1 - 2 * SCROLL_RATIO, steps) : Math.pow(1 - ZOOM_RATIO, steps);
+			double digitCoordinate = logBase(coordinate);
+			lower = Math.pow(logScaleBase, digitCoordinate + factor * (logBase(min) - digitCoordinate));
+			upper = Math.pow(logScaleBase, digitCoordinate + factor * (logBase(max) - digitCoordinate));
+		} else {
+			double factor = Math.pow(1 - 2 * ZOOM_RATIO, steps);
+			lower = coordinate + factor * (min - coordinate);
+			upper = coordinate + factor * (max - coordinate);
+		}
+		setRange(new Range(lower, upper));
+	}
+
 	@Override
 	public void scrollUp() {
 
@@ -636,6 +689,92 @@ public class Axis implements IAxis {
 		return pixelCoordinate;
 	}
 
+	@Override
+	public int[] getPixelCoordinates(double[] dataCoordinates, int offset, int length, int[] pixelCoordinates) {
+
+		return getPixelCoordinates(dataCoordinates, offset, length, pixelCoordinates, min, max);
+	}
+
+	/**
+	 * Gets the pixel coordinates corresponding to the given slice of data
+	 * coordinates. The scale constants are computed once for the whole slice,
+	 * and each data coordinate is mapped exactly as
+	 * {@link #getPixelCoordinate(double, double, double)} would map it.
+	 *
+	 * @param dataCoordinates
+	 *            the data coordinates
+	 * @param offset
+	 *            the index of the first data coordinate to transform
+	 * @param length
+	 *            the number of data coordinates to transform
+	 * @param pixelCoordinates
+	 *            the array to store the pixel coordinates starting at index 0,
+	 *            or <tt>null</tt> to allocate a new array
+	 * @param lower
+	 *            the min value of range
+	 * @param upper
+	 *            the max value of range
+	 * @return the pixel coordinates
+	 */
+	public int[] getPixelCoordinates(double[] dataCoordinates, int offset, int length, int[] pixelCoordinates, double lower, double upper) {
+
+		if(dataCoordinates == null) {
+			SWT.error(SWT.ERROR_NULL_ARGUMENT);
+			return null; // to suppress warning...
+		}
+		if(offset < 0 || length < 0 || offset + length > dataCoordinates.length) {
+			SWT.error(SWT.ERROR_INVALID_RANGE);
+		}
+		int[] pixels = pixelCoordinates;
+		if(pixels == null || pixels.length < length) {
+			pixels = new int[length];
+		}
+		int size = isHorizontalAxis ? width : height;
+		/*
+		 * The pixel coordinate increases with the data coordinate on a
+		 * horizontal axis and decreases on a vertical one, unless reversed.
+		 */
+		boolean ascending = isHorizontalAxis != isReversed();
+		int end = offset + length;
+		if(logScaleEnabled) {
+			double logLower = logBase(lower);
+			double logUpper = logBase(upper);
+			double logRange = logUpper - logLower;
+			if(ascending) {
+				for(int i = offset; i < end; i++) {
+					pixels[i - offset] = (int)((Math.log(dataCoordinates[i]) / logScaleBaseLn - logLower) / logRange * size);
+				}
+			} else {
+				for(int i = offset; i < end; i++) {
+					pixels[i - offset] = (int)((logUpper - Math.log(dataCoordinates[i]) / logScaleBaseLn) / logRange * size);
+				}
+			}
+		} else if(categoryAxisEnabled) {
+			double categoryRange = upper + 1 - lower;
+			if(ascending) {
+				for(int i = offset; i < end; i++) {
+					pixels[i - offset] = (int)((dataCoordinates[i] + 0.5 - lower) / categoryRange * size);
+				}
+			} else {
+				for(int i = offset; i < end; i++) {
+					pixels[i - offset] = (int)((upper - dataCoordinates[i] + 0.5) / categoryRange * size);
+				}
+			}
+		} else {
+			double range = upper - lower;
+			if(ascending) {
+				for(int i = offset; i < end; i++) {
+					pixels[i - offset] = (int)((dataCoordinates[i] - lower) / range * size);
+				}
+			} else {
+				for(int i = offset; i < end; i++) {
+					pixels[i - offset] = (int)((upper - dataCoordinates[i]) / range * size);
+				}
+			}
+		}
+		return pixels;
+	}
+
 	@Override
 	public double getDataCoordinate(int pixelCoordinate) {
 
@@ -652,7 +791,7 @@ public class Axis implements IAxis {
 	 */
 	public double logBase(double x) {
 
-		return Math.log(x) / Math.log(logScaleBase);
+		return Math.log(x) / logScaleBaseLn;
 	}
 
 	/**
@@ -17,13 +17,18 @@
 package org.eclipse.swtchart.internal.axis;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.text.DecimalFormat;
 import java.text.Format;
 import java.text.ParseException;
+import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.PaintEvent;
@@ -81,6 +86,24 @@ public class AxisTickLabels implements PaintListener {
 	private Font font;
 	/** forced step size (overrides standard step size)*/
 	private Integer forcedStepSize;
+	/** the default format, created once as formatting runs on every layout */
+	private final DecimalFormat defaultFormat = new DecimalFormat(DEFAULT_DECIMAL_FORMAT);
+	/** the key of the current tick layout, or null if it has to be computed */
+	private List<Object> tickLayoutKey;
+	/** the memoized label extents of the tick font */
+	private final Map<String, Point> labelExtents = new HashMap<>();
+	/** the font of the memoized label extents */
+	private Font labelExtentsFont;
+	/** the memoized parsed label values, NaN if a label is not a number */
+	private final Map<String, Double> parsedLabels = new HashMap<>();
+	/** the format key of the memoized parsed label values */
+	private Object parsedLabelsFormatKey;
+	/** the maximum number of memoized labels */
+	private static final int MAX_MEMOIZED_LABELS = 1024;
+	/** the largest integer up to which all integers are exact in double */
+	private static final long MAX_EXACT_INTEGER = 1L << 53;
+	/** the largest power of ten which is exact in double */
+	private static final int MAX_EXACT_POWER_OF_TEN = 22;
 
 	/**
 	 * Constructor.
@@ -163,6 +186,21 @@ public class AxisTickLabels implements PaintListener {
 	 */
 	protected void update(int length) {
 
+		/*
+		 * The ticks only depend on the range, length, format, font and
+		 * scale, hence are reused e.g. while panning vertically or when the
+		 * layout is updated for other reasons.
+		 */
+		List<Object> key = getTickLayoutKey(length);
+		if(key != null && key.equals(tickLayoutKey)) {
+			return;
+		}
+		tickLayoutKey = key;
+		Object formatKey = getFormatKey();
+		if(!Objects.equals(formatKey, parsedLabelsFormatKey)) {
+			parsedLabels.clear();
+			parsedLabelsFormatKey = formatKey;
+		}
 		tickLabelValues.clear();
 		tickLabels.clear();
 		tickLabelPositions.clear();
@@ -176,6 +214,40 @@ public class AxisTickLabels implements PaintListener {
 		updateTickVisibility();
 	}
 
+	/**
+	 * Gets the key of the tick layout for the given length.
+	 * 
+	 * @param length
+	 *            the axis length
+	 * @return the key, or null if the tick layout can't be cached
+	 */
+	private List<Object> getTickLayoutKey(int length) {
+
+		if(axis.isIntegerDataPointAxis()) {
+			// the step depends on the series data
+			return null;
+		}
+		Point plotAreaSize = axis.isReversed() ? chart.getPlotArea().getSize() : null;
+		String[] categorySeries = axis.isValidCategoryAxis() ? axis.getCategorySeries() : null;
+		return Arrays.asList(axis.getRange().lower, axis.getRange().upper, length, getFormatKey(), axis.getTick().getFont(), axis.isLogScaleEnabled(), axis.getLogScaleBase(), axis.isHorizontalAxis(), plotAreaSize, categorySeries == null ? null : Arrays.asList(categorySeries), axis.getTick().getTickLabelAngle(), axis.getTick().getTickMarkStepHint(), forcedStepSize);
+	}
+
+	/**
+	 * Gets a snapshot of the format, so that a format changed in place
+	 * leads to a new tick layout.
+	 * 
+	 * @return the pattern of the format if available, otherwise the format
+	 */
+	private Object getFormatKey() {
+
+		if(format instanceof DecimalFormat) {
+			return ((DecimalFormat)format).toPattern();
+		} else if(format instanceof SimpleDateFormat) {
+			return ((SimpleDateFormat)format).toPattern();
+		}
+		return format;
+	}
+
 	/**
 	 * Updates tick label for category axis.
 	 * 
@@ -267,6 +339,9 @@ public class AxisTickLabels implements PaintListener {
 		double min = axis.getRange().lower;
 		double max = axis.getRange().upper;
 		final BigDecimal MIN = BigDecimal.valueOf(min);
+		if(updateTickLabelForLinearScaleExactly(length, tickStep, MIN)) {
+			return;
+		}
 		BigDecimal firstPosition;
 		/* if (min % tickStep <= 0) */
 		if(MIN.remainder(tickStep).doubleValue() <= 0) {
@@ -287,6 +362,57 @@ public class AxisTickLabels implements PaintListener {
 		}
 	}
 
+	/**
+	 * Updates tick label for normal scale with double arithmetic. The ticks
+	 * are the multiples <tt>k * unscaledStep * 10^-scale</tt> of the tick
+	 * step. The products are computed in <tt>long</tt>, and a product and the
+	 * power of ten are exact in double, so the quotient is the correctly
+	 * rounded tick value, identical to the one of the <tt>BigDecimal</tt>
+	 * computation.
+	 * 
+	 * @param length
+	 *            axis length (>0)
+	 * @param tickStep
+	 *            the tick step
+	 * @param MIN
+	 *            the lower bound of the range
+	 * @return false if the ticks can't be computed exactly this way
+	 */
+	private boolean updateTickLabelForLinearScaleExactly(int length, BigDecimal tickStep, BigDecimal MIN) {
+
+		BigDecimal step = tickStep.stripTrailingZeros();
+		int scale = step.scale();
+		if(step.signum() <= 0 || Math.abs(scale) > MAX_EXACT_POWER_OF_TEN || step.precision() > 15) {
+			return false;
+		}
+		double min = axis.getRange().lower;
+		double max = axis.getRange().upper;
+		long unscaledStep = step.unscaledValue().longValue();
+		// the index of the first tick, i.e. the first multiple of the step >= min
+		BigDecimal firstIndex = MIN.divide(step, 0, RoundingMode.CEILING);
+		// the number of ticks is limited by the tick step hint, hence the index of the last one
+		double lastIndex = Math.floor(max / step.doubleValue()) + 1;
+		if(Math.abs(firstIndex.doubleValue()) * unscaledStep >= MAX_EXACT_INTEGER || Math.abs(lastIndex) * unscaledStep >= MAX_EXACT_INTEGER) {
+			return false;
+		}
+		double powerOfTen = Math.pow(10, Math.abs(scale));
+		for(long k = firstIndex.longValue(); k <= lastIndex; k++) {
+			double product = (double)(k * unscaledStep);
+			double value = scale >= 0 ? product / powerOfTen : product * powerOfTen;
+			if(value > max) {
+				break;
+			}
+			tickLabels.add(format(value));
+			tickLabelValues.add(value);
+			int tickLabelPosition = (int)((value - min) / (max - min) * length);
+			if(axis.isReversed()) {
+				tickLabelPosition = correctPositionInReversedAxis(tickLabelPosition);
+			}
+			tickLabelPositions.add(tickLabelPosition);
+		}
+		return true;
+	}
+
 	private int correctPositionInReversedAxis(int position) {
 
 		Point plotAreaBounds = chart.getPlotArea().getSize();
@@ -325,18 +451,16 @@ public class AxisTickLabels implements PaintListener {
 				}
 				// check if the same tick label is repeated
 				String currentLabel = tickLabels.get(i);
-				try {
-					/*
-					 * Check if the value is close to the tick label, then it is a major tick
-					 * Patch by MatthewKhouzam
-					 * https://github.com/eclipse/swtchart/pull/215/commits/b8214bd422205386e5470af2498dbd8227f87d8c
-					 */
-					double value = parse(currentLabel);
+				/*
+				 * Check if the value is close to the tick label, then it is a major tick
+				 * Patch by MatthewKhouzam
+				 * https://github.com/eclipse/swtchart/pull/215/commits/b8214bd422205386e5470af2498dbd8227f87d8c
+				 */
+				double value = getParsedLabel(currentLabel);
+				if(!Double.isNaN(value)) {
 					double diff = Math.abs((value - tickLabelValues.get(i)) / value);
 					double maximumDelta = 0.01;
 					isMajorTick = (diff <= maximumDelta);
-				} catch(ParseException e) {
-					// label is not decimal value but string
 				}
 			}
 			if(hasSpaceToDraw && isMajorTick) {
@@ -357,15 +481,39 @@ public class AxisTickLabels implements PaintListener {
 	private String format(Object obj) {
 
 		if(format == null) {
-			return new DecimalFormat(DEFAULT_DECIMAL_FORMAT).format(obj);
+			return defaultFormat.format(obj);
 		}
 		return format.format(obj);
 	}
 
+	/**
+	 * Gets the value of the given label, memoized until the format changes.
+	 * 
+	 * @param label
+	 *            the label
+	 * @return the value, or NaN if the label is not a decimal value but string
+	 */
+	private double getParsedLabel(String label) {
+
+		if(parsedLabels.size() > MAX_MEMOIZED_LABELS) {
+			parsedLabels.clear();
+		}
+		Double value = parsedLabels.get(label);
+		if(value == null) {
+			try {
+				value = parse(label);
+			} catch(ParseException e) {
+				value = Double.NaN;
+			}
+			parsedLabels.put(label, value);
+		}
+		return value;
+	}
+
 	private double parse(String label) throws ParseException {
 
 		if(format == null) {
-			return new DecimalFormat(DEFAULT_DECIMAL_FORMAT).parse(label).doubleValue();
+			return defaultFormat.parse(label).doubleValue();
 		}
 		Object parsed = format.parseObject(label);
 		if(!(parsed instanceof Number))
@@ -404,7 +552,7 @@ public class AxisTickLabels implements PaintListener {
 	 */
 	private boolean hasSpaceToDraw(int previousPosition, int tickLabelPosition, String tickLabel) {
 
-		Point p = Util.getExtentInGC(axis.getTick().getFont(), tickLabel);
+		Point p = getLabelExtent(tickLabel);
 		int interval = Math.abs(tickLabelPosition - previousPosition);
 		int textLength = axis.isHorizontalAxis() ? p.x : p.y;
 		int padding = 3;
@@ -433,7 +581,7 @@ public class AxisTickLabels implements PaintListener {
 		if(mostRightLabelIndex != -1) {
 			int position = tickLabelPositions.get(mostRightLabelIndex);
 			double angle = axis.getTick().getTickLabelAngle();
-			int textWidth = Util.getExtentInGC(axis.getTick().getFont(), tickLabels.get(mostRightLabelIndex)).x;
+			int textWidth = getLabelExtent(tickLabels.get(mostRightLabelIndex)).x;
 			if(angle == 0) {
 				rightMarginHint = Math.max(0, position - length + (int)(textWidth / 2d));
 			} else if(axis.getPosition() == Position.Secondary) {
@@ -465,7 +613,7 @@ public class AxisTickLabels implements PaintListener {
 		if(mostLeftLabelIndex != -1) {
 			int position = tickLabelPositions.get(mostLeftLabelIndex);
 			double angle = axis.getTick().getTickLabelAngle();
-			int textWidth = Util.getExtentInGC(axis.getTick().getFont(), tickLabels.get(mostLeftLabelIndex)).x;
+			int textWidth = getLabelExtent(tickLabels.get(mostLeftLabelIndex)).x;
 			if(angle == 0) {
 				leftMarginHint = Math.max(0, (int)(textWidth / 2d) - position);
 			} else if(axis.getPosition() == Position.Primary) {
@@ -475,6 +623,28 @@ public class AxisTickLabels implements PaintListener {
 		return leftMarginHint;
 	}
 
+	/**
+	 * Gets the extent of the given label in the tick font, memoized per font.
+	 * 
+	 * @param label
+	 *            the label
+	 * @return the extent
+	 */
+	private Point getLabelExtent(String label) {
+
+		Font tickFont = axis.getTick().getFont();
+		if(tickFont != labelExtentsFont || labelExtents.size() > MAX_MEMOIZED_LABELS) {
+			labelExtents.clear();
+			labelExtentsFont = tickFont;
+		}
+		Point extent = labelExtents.get(label);
+		if(extent == null) {
+			extent = Util.getExtentInGC(tickFont, label);
+			labelExtents.put(label, extent);
+		}
+		return extent;
+	}
+
 	/**
 	 * Gets the max length of tick label.
 	 * 
@@ -485,7 +655,7 @@ public class AxisTickLabels implements PaintListener {
 		int maxLength = 0;
 		for(int i = 0; i < tickLabels.size(); i++) {
 			if(tickVisibilities.size() > i && Boolean.TRUE.equals(tickVisibilities.get(i))) {
-				Point p = Util.getExtentInGC(axis.getTick().getFont(), tickLabels.get(i));
+				Point p = getLabelExtent(tickLabels.get(i));
 				if(p.x > maxLength) {
 					maxLength = p.x;
 				}
@@ -658,6 +828,28 @@ public class AxisTickLabels implements PaintListener {
 		return new ChartLayoutData(widthHint, heightHint);
 	}
 
+	/**
+	 * Gets the width hint of the layout data, without creating the layout
+	 * data.
+	 * 
+	 * @return the width hint
+	 */
+	public int getWidthHint() {
+
+		return widthHint;
+	}
+
+	/**
+	 * Gets the height hint of the layout data, without creating the layout
+	 * data.
+	 * 
+	 * @return the height hint
+	 */
+	public int getHeightHint() {
+
+		return heightHint;
+	}
+
 	/**
 	 * Sets the bounds on chart panel.
 	 * 
@@ -837,6 +1029,9 @@ public class AxisTickLabels implements PaintListener {
 	protected void setFormat(Format format) {
 
 		this.format = format;
+		// the same format may have been changed in place
+		tickLayoutKey = null;
+		parsedLabels.clear();
 	}
 
 	/**
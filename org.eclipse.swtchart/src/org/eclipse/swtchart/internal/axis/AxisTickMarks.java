@@ -134,6 +134,28 @@ public class AxisTickMarks implements PaintListener {
 		return new ChartLayoutData(widthHint, heightHint);
 	}
 
+	/**
+	 * Gets the width hint of the layout data, without creating the layout
+	 * data.
+	 * 
+	 * @return the width hint
+	 */
+	public int getWidthHint() {
+
+		return widthHint;
+	}
+
+	/**
+	 * Gets the height hint of the layout data, without creating the layout
+	 * data.
+	 * 
+	 * @return the height hint
+	 */
+	public int getHeightHint() {
+
+		return heightHint;
+	}
+
 	/**
 	 * Sets the bounds on chart panel.
 	 * 
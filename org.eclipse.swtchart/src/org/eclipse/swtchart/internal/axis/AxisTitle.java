@@ -14,7 +14,6 @@
  *******************************************************************************/
 package org.eclipse.swtchart.internal.axis;
 
-import org.eclipse.swt.SWT;
 import org.eclipse.swtchart.Chart;
 import org.eclipse.swtchart.IAxis.Direction;
 import org.eclipse.swtchart.Resources;
@@ -50,10 +49,9 @@ public class AxisTitle extends Title {
 	 */
 	public AxisTitle(Chart chart, int style, Axis axis, Direction direction) {
 
-		super(chart);
+		super(chart, DEFAULT_FONT_SIZE);
 		this.axis = axis;
 		this.direction = direction;
-		setFont(Resources.getFont("Tahoma", DEFAULT_FONT_SIZE, SWT.BOLD)); //$NON-NLS-1$
 		setText(getDefaultText());
 	}
 
@@ -14,6 +14,8 @@
 package org.eclipse.swtchart.internal.compress;
 
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
 
 /**
  * A base class for compressor providing default implementations.
@@ -56,6 +58,28 @@ public abstract class Compress implements ICompress {
 	private long widthInPixel;
 	/** the plot area height in pixels */
 	private long heightInPixel;
+	/** the scale of the X series */
+	private double xScale = 1;
+	/** the offset of the X series */
+	private double xOffset = 0;
+	/** the scale of the Y series */
+	private double yScale = 1;
+	/** the offset of the Y series */
+	private double yOffset = 0;
+	/** the transformed X series, reused for the next transform */
+	private transient double[] transformedXSeries = null;
+	/** the transformed Y series, reused for the next transform */
+	private transient double[] transformedYSeries = null;
+	/** the state indicating if the transformed X series is up to date */
+	private boolean transformedXValid = false;
+	/** the state indicating if the transformed Y series is up to date */
+	private boolean transformedYValid = false;
+	/** the maximum number of previous compressed outputs to keep */
+	private int outputCacheSize = 0;
+	/** the previous compressed outputs, the most recently used first */
+	private transient LinkedList<CompressedOutput> outputCache = new LinkedList<CompressedOutput>();
+	/** the number of computed compressions, without the restored outputs */
+	private transient int compressionCount = 0;
 
 	@Override
 	public void setXSeries(double[] xSeries) {
@@ -66,7 +90,9 @@ public abstract class Compress implements ICompress {
 		double[] copiedSeries = new double[xSeries.length];
 		System.arraycopy(xSeries, 0, copiedSeries, 0, xSeries.length);
 		this.xSeries = copiedSeries;
-		compressedXSeries = copiedSeries;
+		transformedXValid = false;
+		outputCache.clear();
+		compressedXSeries = getTransformedXSeries();
 		compressedIndexes = new int[xSeries.length];
 		for(int i = 0; i < xSeries.length; i++) {
 			compressedIndexes[i] = i;
@@ -83,10 +109,170 @@ public abstract class Compress implements ICompress {
 		double[] copiedSeries = new double[ySeries.length];
 		System.arraycopy(ySeries, 0, copiedSeries, 0, ySeries.length);
 		this.ySeries = copiedSeries;
-		compressedYSeries = copiedSeries;
+		transformedYValid = false;
+		outputCache.clear();
+		compressedYSeries = getTransformedYSeries();
 		compressed = false;
 	}
 
+	@Override
+	public void setTransform(double xScale, double xOffset, double yScale, double yOffset) {
+
+		boolean changed = false;
+		if(xScale != this.xScale || xOffset != this.xOffset) {
+			this.xScale = xScale;
+			this.xOffset = xOffset;
+			transformedXValid = false;
+			changed = true;
+		}
+		if(yScale != this.yScale || yOffset != this.yOffset) {
+			this.yScale = yScale;
+			this.yOffset = yOffset;
+			transformedYValid = false;
+			changed = true;
+		}
+		if(changed) {
+			/*
+			 * The series are uncompressed until the next compression.
+			 */
+			compressed = false;
+			outputCache.clear();
+			compressedXSeries = getTransformedXSeries();
+			compressedYSeries = getTransformedYSeries();
+			int size = xSeries != null ? xSeries.length : 0;
+			compressedIndexes = new int[size];
+			for(int i = 0; i < size; i++) {
+				compressedIndexes[i] = i;
+			}
+		}
+	}
+
+	/**
+	 * Gets the X series with the transform applied. The transformed series
+	 * is computed once per transform, not on each compression, and its
+	 * array is reused, so that changing the transform doesn't allocate.
+	 *
+	 * @return the transformed X series
+	 */
+	private double[] getTransformedXSeries() {
+
+		if(xScale == 1 && xOffset == 0) {
+			return xSeries;
+		}
+		if(!transformedXValid) {
+			transformedXSeries = transform(xSeries, xScale, xOffset, transformedXSeries);
+			transformedXValid = true;
+		}
+		return transformedXSeries;
+	}
+
+	/**
+	 * Gets the Y series with the transform applied.
+	 *
+	 * @return the transformed Y series
+	 */
+	private double[] getTransformedYSeries() {
+
+		if(yScale == 1 && yOffset == 0) {
+			return ySeries;
+		}
+		if(!transformedYValid) {
+			transformedYSeries = transform(ySeries, yScale, yOffset, transformedYSeries);
+			transformedYValid = true;
+		}
+		return transformedYSeries;
+	}
+
+	@Override
+	public void setOutputCacheSize(int size) {
+
+		outputCacheSize = Math.max(0, size);
+		while(outputCache.size() > outputCacheSize) {
+			outputCache.removeLast();
+		}
+	}
+
+	@Override
+	public int getOutputCacheSize() {
+
+		return outputCacheSize;
+	}
+
+	/**
+	 * Gets the number of compressions computed so far. The compressed
+	 * outputs restored from the cache aren't counted.
+	 *
+	 * @return the number of computed compressions
+	 */
+	public int getCompressionCount() {
+
+		return compressionCount;
+	}
+
+	/**
+	 * Clears the previous compressed outputs, e.g. if a setting of the
+	 * compressor changed which affects the compressed output.
+	 */
+	protected void clearOutputCache() {
+
+		outputCache.clear();
+	}
+
+	/**
+	 * Keeps the current compressed output to restore it if the series are
+	 * compressed with the same configuration again.
+	 */
+	private void cacheOutput() {
+
+		if(outputCacheSize == 0 || !compressed || prevConfig == null) {
+			return;
+		}
+		outputCache.addFirst(new CompressedOutput(prevConfig, compressedXSeries, compressedYSeries, compressedIndexes));
+		while(outputCache.size() > outputCacheSize) {
+			outputCache.removeLast();
+		}
+	}
+
+	/**
+	 * Restores the compressed output of the given configuration if cached.
+	 *
+	 * @param compressConfig
+	 *            the configuration for compression
+	 * @return true if the compressed output has been restored
+	 */
+	private boolean restoreOutput(CompressConfig compressConfig) {
+
+		Iterator<CompressedOutput> iterator = outputCache.iterator();
+		while(iterator.hasNext()) {
+			CompressedOutput output = iterator.next();
+			if(output.config.equals(compressConfig)) {
+				iterator.remove();
+				cacheOutput();
+				prevConfig = output.config;
+				compressedXSeries = output.xSeries;
+				compressedYSeries = output.ySeries;
+				compressedIndexes = output.indexes;
+				compressed = true;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static double[] transform(double[] series, double scale, double offset, double[] transformedSeries) {
+
+		if(series == null) {
+			return null;
+		}
+		if(transformedSeries == null || transformedSeries.length != series.length) {
+			transformedSeries = new double[series.length];
+		}
+		for(int i = 0; i < series.length; i++) {
+			transformedSeries[i] = series[i] * scale + offset;
+		}
+		return transformedSeries;
+	}
+
 	@Override
 	public double[] getCompressedXSeries() {
 
@@ -129,6 +315,10 @@ public abstract class Compress implements ICompress {
 		if((compressConfig.equals(prevConfig) && compressed) || xSeries == null || ySeries == null) {
 			return false;
 		}
+		if(restoreOutput(compressConfig)) {
+			return true;
+		}
+		cacheOutput();
 		// store the previous configuration
 		prevConfig = new CompressConfig(compressConfig);
 		this.config = compressConfig;
@@ -146,20 +336,53 @@ public abstract class Compress implements ICompress {
 		ArrayList<Double> xList = new ArrayList<Double>();
 		ArrayList<Double> yList = new ArrayList<Double>();
 		ArrayList<Integer> indexList = new ArrayList<Integer>();
-		// add necessary plots to the array
-		addNecessaryPlots(xList, yList, indexList);
+		// compress the transformed series, subsampled with the stride
+		int stride = config.getStride();
+		double[] sourceXSeries = xSeries;
+		double[] sourceYSeries = ySeries;
+		xSeries = subsample(getTransformedXSeries(), stride);
+		ySeries = subsample(getTransformedYSeries(), stride);
+		try {
+			// add necessary plots to the array
+			addNecessaryPlots(xList, yList, indexList);
+		} finally {
+			xSeries = sourceXSeries;
+			ySeries = sourceYSeries;
+		}
 		compressedXSeries = new double[xList.size()];
 		compressedYSeries = new double[yList.size()];
 		compressedIndexes = new int[indexList.size()];
 		for(int i = 0; i < xList.size(); i++) {
 			compressedXSeries[i] = xList.get(i);
 			compressedYSeries[i] = yList.get(i);
-			compressedIndexes[i] = indexList.get(i);
+			compressedIndexes[i] = indexList.get(i) * stride;
 		}
 		compressed = true;
+		compressionCount++;
 		return true;
 	}
 
+	/**
+	 * Gets every n-th value of the given series.
+	 *
+	 * @param series
+	 *            the series
+	 * @param stride
+	 *            the distance between the values to keep
+	 * @return the subsampled series, or the given series if the stride is 1
+	 */
+	private static double[] subsample(double[] series, int stride) {
+
+		if(stride <= 1) {
+			return series;
+		}
+		double[] subsampledSeries = new double[(series.length + stride - 1) / stride];
+		for(int i = 0; i < subsampledSeries.length; i++) {
+			subsampledSeries[i] = series[i * stride];
+		}
+		return subsampledSeries;
+	}
+
 	/**
 	 * Adds the necessary plots.
 	 * 
@@ -231,4 +454,28 @@ public abstract class Compress implements ICompress {
 		previousYGridIndex = yGridIndex;
 		return isInSameGridAsPrevious;
 	}
+
+	/**
+	 * A compressed output with the configuration it has been compressed
+	 * with.
+	 */
+	private static class CompressedOutput {
+
+		/** the configuration for compression */
+		private final CompressConfig config;
+		/** the compressed X series */
+		private final double[] xSeries;
+		/** the compressed Y series */
+		private final double[] ySeries;
+		/** the compressed series indexes */
+		private final int[] indexes;
+
+		private CompressedOutput(CompressConfig config, double[] xSeries, double[] ySeries, int[] indexes) {
+
+			this.config = config;
+			this.xSeries = xSeries;
+			this.ySeries = ySeries;
+			this.indexes = indexes;
+		}
+	}
 }
\ No newline at end of file
@@ -34,6 +34,8 @@ public class CompressConfig {
 	private boolean xLogScale;
 	/** the state indicating whether the Y axis is log scale */
 	private boolean yLogScale;
+	/** the distance between the source indexes to compress */
+	private int stride;
 
 	/**
 	 * Constructor.
@@ -43,6 +45,7 @@ public class CompressConfig {
 		heightInPixels = 512;
 		xLogScale = false;
 		yLogScale = false;
+		stride = 1;
 	}
 
 	/**
@@ -60,6 +63,7 @@ public class CompressConfig {
 		yUpperValue = config.getYUpperValue();
 		xLogScale = config.isXLogScale();
 		yLogScale = config.isYLogScale();
+		stride = config.getStride();
 	}
 
 	@Override
@@ -94,6 +98,9 @@ public class CompressConfig {
 		if(config.isYLogScale() != yLogScale) {
 			return false;
 		}
+		if(config.getStride() != stride) {
+			return false;
+		}
 		return true;
 	}
 
@@ -247,9 +254,32 @@ public class CompressConfig {
 		this.yLogScale = value;
 	}
 
+	/**
+	 * Gets the distance between the source indexes to compress.
+	 * 
+	 * @return the stride, 1 to compress all data points
+	 */
+	public int getStride() {
+
+		return stride;
+	}
+
+	/**
+	 * Sets the distance between the source indexes to compress. With a
+	 * stride greater than 1, only every n-th data point is visited, so that
+	 * a coarse compression costs a fraction of the full compression.
+	 * 
+	 * @param stride
+	 *            the stride, 1 to compress all data points
+	 */
+	public void setStride(int stride) {
+
+		this.stride = Math.max(1, stride);
+	}
+
 	@Override
 	public String toString() {
 
-		return "pixelWidth = " + widthInPixels + ", " + "pixelHeight = " + heightInPixels + ", " + "xLowerValue = " + xLowerValue + ", " + "xUpperValue = " + xUpperValue + ", " + "yLowerValue = " + yLowerValue + ", " + "yUpperValue = " + yUpperValue + ", " + yLogScale; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$ //$NON-NLS-11$ //$NON-NLS-12$
+		return "pixelWidth = " + widthInPixels + ", " + "pixelHeight = " + heightInPixels + ", " + "xLowerValue = " + xLowerValue + ", " + "xUpperValue = " + xUpperValue + ", " + "yLowerValue = " + yLowerValue + ", " + "yUpperValue = " + yUpperValue + ", " + yLogScale + ", " + "stride = " + stride; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$ //$NON-NLS-11$ //$NON-NLS-12$ //$NON-NLS-13$ //$NON-NLS-14$
 	}
 }
@@ -91,6 +91,9 @@ public class CompressScatterSeries extends Compress {
 	 */
 	public void setLineVisible(boolean visible) {
 
-		isLineVisible = visible;
+		if(isLineVisible != visible) {
+			isLineVisible = visible;
+			clearOutputCache();
+		}
 	}
 }
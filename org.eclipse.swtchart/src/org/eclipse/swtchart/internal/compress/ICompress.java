@@ -54,6 +54,42 @@ public interface ICompress {
 	 */
 	public abstract void setYSeries(double[] ySeries);
 
+	/**
+	 * Sets the affine transform applied to the source series when
+	 * compressing, i.e. the compressed series contain the values
+	 * <tt>x * xScale + xOffset</tt> and <tt>y * yScale + yOffset</tt>.
+	 * The X scale must be positive to keep the order of the X series.
+	 * 
+	 * @param xScale
+	 *            the scale of the X series
+	 * @param xOffset
+	 *            the offset of the X series
+	 * @param yScale
+	 *            the scale of the Y series
+	 * @param yOffset
+	 *            the offset of the Y series
+	 */
+	public abstract void setTransform(double xScale, double xOffset, double yScale, double yOffset);
+
+	/**
+	 * Sets the maximum number of previous compressed outputs to keep. If the
+	 * series are compressed again with the configuration of a kept output,
+	 * e.g. when going back to a previous viewport, the output is restored
+	 * instead of compressing the series. Changing the series or the
+	 * transform discards the kept outputs. The default size is 0.
+	 * 
+	 * @param size
+	 *            the maximum number of outputs to keep
+	 */
+	public abstract void setOutputCacheSize(int size);
+
+	/**
+	 * Gets the maximum number of previous compressed outputs to keep.
+	 * 
+	 * @return the maximum number of outputs to keep
+	 */
+	public abstract int getOutputCacheSize();
+
 	/**
 	 * Ignores the points which are in the same grid as the previous point.
 	 * 
@@ -15,10 +15,14 @@
  *******************************************************************************/
 package org.eclipse.swtchart.internal.series;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.graphics.RGB;
 import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swtchart.Chart;
@@ -49,6 +53,20 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 	private boolean barOverlay;
 	/** the bar width style */
 	private BarWidthStyle barWidthStyle;
+	/** the cached riser geometry {x, y, width, height} per compressed data point */
+	private int[] riserBounds = new int[0];
+	/** the series indexes of the cached risers */
+	private int[] riserIndexes = new int[0];
+	/** the number of cached risers */
+	private int riserCount = 0;
+	/** the state indicating if the cached riser geometry is valid */
+	private boolean risersValid = false;
+	/** the layout the cached riser geometry was computed for */
+	private List<Object> riserLayout = null;
+	/** the cached frame color */
+	private Color frameColor = null;
+	/** the bar color the cached frame color was computed for */
+	private RGB frameColorSource = null;
 	/** the initial bar width in pixels */
 	public static final int INITIAL_BAR_WIDTH = 20;
 	/** the initial bar padding in percentage */
@@ -90,6 +108,7 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 	public void setBarWidthStyle(BarWidthStyle style) {
 
 		this.barWidthStyle = style;
+		risersValid = false;
 	}
 
 	@Override
@@ -105,6 +124,7 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
 		}
 		this.barWidth = width;
+		risersValid = false;
 	}
 
 	@Override
@@ -120,6 +140,7 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
 		}
 		this.padding = padding;
+		risersValid = false;
 	}
 
 	@Override
@@ -132,6 +153,7 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 	public void setBarOverlay(boolean barOverlay) {
 
 		this.barOverlay = barOverlay;
+		risersValid = false;
 	}
 
 	@Override
@@ -178,6 +200,26 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 		return rs;
 	}
 
+	@Override
+	public int getBarIndex(int x, int y) {
+
+		updateRisers();
+		for(int i = riserCount - 1; i >= 0; i--) {
+			int offset = i * 4;
+			int width = riserBounds[offset + 2];
+			int height = riserBounds[offset + 3];
+			if(width == 0 || height == 0) {
+				continue;
+			}
+			int left = riserBounds[offset];
+			int top = riserBounds[offset + 1];
+			if(left <= x && x < left + width && top <= y && y < top + height) {
+				return riserIndexes[i];
+			}
+		}
+		return -1;
+	}
+
 	/**
 	 * Gets the array of bar rectangles for compressed series.
 	 *
@@ -185,8 +227,46 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 	 */
 	public Rectangle[] getBoundsForCompressedSeries() {
 
+		updateRisers();
+		Rectangle[] rectangles = new Rectangle[riserCount];
+		for(int i = 0; i < riserCount; i++) {
+			int offset = i * 4;
+			rectangles[i] = new Rectangle(riserBounds[offset], riserBounds[offset + 1], riserBounds[offset + 2], riserBounds[offset + 3]);
+		}
+		return rectangles;
+	}
+
+	@Override
+	protected void setStackSeries(double[] stackSeries) {
+
+		super.setStackSeries(stackSeries);
+		risersValid = false;
+	}
+
+	@Override
+	protected void compressorChanged() {
+
+		super.compressorChanged();
+		risersValid = false;
+	}
+
+	/**
+	 * Updates the cached riser geometry if the compressed series, the bar
+	 * style or the layout changed.
+	 */
+	private void updateRisers() {
+
 		Axis xAxis = (Axis)chart.getAxisSet().getXAxis(xAxisId);
 		Axis yAxis = (Axis)chart.getAxisSet().getYAxis(yAxisId);
+		Range xRange = xAxis.getRange();
+		Range yRange = yAxis.getRange();
+		Point size = chart.getPlotArea().getSize();
+		List<Object> layout = Arrays.asList(xRange.lower, xRange.upper, yRange.lower, yRange.upper, size.x, size.y, //
+				xAxis.isHorizontalAxis(), xAxis.isValidCategoryAxis(), xAxis.isLogScaleEnabled(), xAxis.isReversed(), //
+				yAxis.isLogScaleEnabled(), yAxis.isReversed(), xAxis.getNumRisers(), riserIndex, isValidStackSeries());
+		if(risersValid && layout.equals(riserLayout)) {
+			return;
+		}
 		// get x and y series
 		double[] xseries = compressor.getCompressedXSeries();
 		double[] yseries = compressor.getCompressedYSeries();
@@ -196,15 +276,30 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 				xseries[i] = indexes[i];
 			}
 		}
-		Rectangle[] rectangles = new Rectangle[xseries.length];
-		Range xRange = xAxis.getRange();
-		Range yRange = yAxis.getRange();
+		riserCount = xseries.length;
+		if(riserBounds.length < riserCount * 4) {
+			riserBounds = new int[riserCount * 4];
+		}
+		riserIndexes = indexes;
+		// get the pixel coordinates
+		int[] xPixels = xAxis.getPixelCoordinates(xseries, 0, xseries.length, null);
+		int[] yPixels = yAxis.getPixelCoordinates(yseries, 0, xseries.length, null);
+		int[] topPixels = yPixels;
+		if(isValidStackSeries()) {
+			double[] stackedSeries = new double[xseries.length];
+			for(int i = 0; i < xseries.length; i++) {
+				stackedSeries[i] = stackSeries[indexes[i]];
+			}
+			topPixels = yAxis.getPixelCoordinates(stackedSeries, 0, stackedSeries.length, null);
+		}
+		double baseYCoordinate = yRange.lower > 0 ? yRange.lower : 0;
+		int basePixel = yAxis.getPixelCoordinate(yAxis.isLogScaleEnabled() ? yRange.lower : baseYCoordinate);
+		int zeroPixel = yAxis.getPixelCoordinate(0);
 		for(int i = 0; i < xseries.length; i++) {
-			int x = xAxis.getPixelCoordinate(xseries[i]);
-			int y = yAxis.getPixelCoordinate(isValidStackSeries() ? stackSeries[indexes[i]] : yseries[i]);
-			double baseYCoordinate = yAxis.getRange().lower > 0 ? yAxis.getRange().lower : 0;
+			int x = xPixels[i];
+			int y = topPixels[i];
 			double riserwidth = getRiserWidth(xseries, i, xAxis, xRange.lower, xRange.upper);
-			double riserHeight = Math.abs(yAxis.getPixelCoordinate(yseries[i], yRange.lower, yRange.upper) - yAxis.getPixelCoordinate(yAxis.isLogScaleEnabled() ? yRange.lower : baseYCoordinate, yRange.lower, yRange.upper));
+			double riserHeight = Math.abs(yPixels[i] - basePixel);
 			// adjust riser x coordinate and riser width for multiple series
 			int riserCnt = xAxis.getNumRisers();
 			if(riserCnt > 1 && !barOverlay) {
@@ -217,28 +312,34 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 			}
 			if(xAxis.isHorizontalAxis()) {
 				// adjust coordinate for negative series
-				if(y > yAxis.getPixelCoordinate(0)) {
-					y = yAxis.getPixelCoordinate(0);
+				if(y > zeroPixel) {
+					y = zeroPixel;
 				}
 				int width = (int)Math.ceil(riserwidth);
 				width = (width == 0) ? 1 : width;
-				rectangles[i] = getVisibleRectangle((int)Math.floor(x - riserwidth / 2d), y, width, (int)riserHeight);
+				setVisibleRectangle(i * 4, size, (int)Math.floor(x - riserwidth / 2d), y, width, (int)riserHeight);
 			} else {
 				// adjust coordinate for negative series
-				if(y < yAxis.getPixelCoordinate(0)) {
-					y = yAxis.getPixelCoordinate(0);
+				if(y < zeroPixel) {
+					y = zeroPixel;
 				}
 				int height = (int)Math.ceil(riserwidth);
 				height = (height == 0) ? 1 : height;
-				rectangles[i] = getVisibleRectangle((int)(y - riserHeight), (int)Math.floor(x - riserwidth / 2d), (int)riserHeight, height);
+				setVisibleRectangle(i * 4, size, (int)(y - riserHeight), (int)Math.floor(x - riserwidth / 2d), (int)riserHeight, height);
 			}
 		}
-		return rectangles;
+		riserLayout = layout;
+		risersValid = true;
 	}
 
 	/**
-	 * Gets the rectangle that is visible part of given rectangle.
+	 * Stores the rectangle that is visible part of given rectangle into the
+	 * riser bounds.
 	 *
+	 * @param index
+	 *            the index of the first value in the riser bounds
+	 * @param size
+	 *            the size of the plot area
 	 * @param x
 	 *            The x coordinate
 	 * @param y
@@ -247,9 +348,8 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 	 *            the width
 	 * @param height
 	 *            The height
-	 * @return The visible rectangle
 	 */
-	private Rectangle getVisibleRectangle(int x, int y, int width, int height) {
+	private void setVisibleRectangle(int index, Point size, int x, int y, int width, int height) {
 
 		final int offset = 5;
 		int newX = x;
@@ -264,7 +364,6 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 			newY = -offset;
 			newHeight += y + offset;
 		}
-		Point size = chart.getPlotArea().getSize();
 		if(x + width > size.x) {
 			newWidth -= x + width - size.x + offset;
 			if(newWidth < 0) {
@@ -277,7 +376,10 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 				newHeight = 0;
 			}
 		}
-		return new Rectangle(newX, newY, newWidth, newHeight);
+		riserBounds[index] = newX;
+		riserBounds[index + 1] = newY;
+		riserBounds[index + 2] = newWidth;
+		riserBounds[index + 3] = newHeight;
 	}
 
 	/**
@@ -291,6 +393,13 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 		this.riserIndex = riserIndex;
 	}
 
+	@Override
+	public void setDataModel(CartesianSeriesModel<T> model) {
+
+		super.setDataModel(model);
+		risersValid = false;
+	}
+
 	@Override
 	protected void setCompressor() {
 
@@ -382,6 +491,23 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 		throw new IllegalStateException(Messages.getString(Messages.UNKNOWN_BAR_WIDTH_STYLE));
 	}
 
+	/**
+	 * Gets the color for riser frame of the current bar color, computed once
+	 * per bar color.
+	 *
+	 * @return the riser frame color
+	 */
+	private Color getFrameColor() {
+
+		Color color = getBarColor();
+		RGB rgb = color.getRGB();
+		if(frameColor == null || frameColor.isDisposed() || !rgb.equals(frameColorSource)) {
+			frameColor = getFrameColor(color);
+			frameColorSource = rgb;
+		}
+		return frameColor;
+	}
+
 	/**
 	 * Gets the color for riser frame. The color will be darker or lighter than
 	 * the given color.
@@ -404,69 +530,118 @@ public class BarSeries<T> extends Series<T> implements IBarSeries<T> {
 	@Override
 	protected void draw(GC gc, int width, int height, Axis xAxis, Axis yAxis) {
 
-		// draw riser
-		Rectangle[] rs = getBoundsForCompressedSeries();
-		for(int i = 0; i < rs.length; i++) {
-			drawRiser(gc, rs[i].x, rs[i].y, rs[i].width, rs[i].height);
+		updateRisers();
+		drawRisers(gc, width, height);
+		// draw label and error bars, unless in draft mode
+		if(chart.getPlotArea().isDraftMode()) {
+			return;
 		}
-		// draw label and error bars
 		if(seriesLabel.isVisible() || xErrorBar.isVisible() || yErrorBar.isVisible()) {
-			double[] xSeries = getXSeries();
-			double[] ySeries = getYSeries();
 			double[] yseries = compressor.getCompressedYSeries();
-			int[] indexes = compressor.getCompressedIndexes();
-			for(int i = 0; i < rs.length; i++) {
-				seriesLabel.draw(gc, rs[i].x + rs[i].width / 2, rs[i].y + rs[i].height / 2, yseries[i], indexes[i], SWT.CENTER);
-				int h, v;
+			int[] indexes = riserIndexes;
+			if(seriesLabel.isVisible()) {
+				int[] hs = new int[riserCount];
+				int[] vs = new int[riserCount];
+				for(int i = 0; i < riserCount; i++) {
+					hs[i] = riserBounds[i * 4] + riserBounds[i * 4 + 2] / 2;
+					vs[i] = riserBounds[i * 4 + 1] + riserBounds[i * 4 + 3] / 2;
+				}
+				seriesLabel.draw(gc, hs, vs, yseries, indexes, SWT.CENTER);
+			}
+			if(xErrorBar.isVisible() || yErrorBar.isVisible()) {
+				drawErrorBars(gc, width, height, xAxis, yAxis, indexes);
+			}
+		}
+	}
+
+	/**
+	 * Draws the error bars in one batch per direction.
+	 *
+	 * @param gc
+	 *            the graphics context
+	 * @param width
+	 *            the width to draw series
+	 * @param height
+	 *            the height to draw series
+	 * @param xAxis
+	 *            the x axis
+	 * @param yAxis
+	 *            the y axis
+	 * @param indexes
+	 *            the series indexes of the risers
+	 */
+	private void drawErrorBars(GC gc, int width, int height, Axis xAxis, Axis yAxis, int[] indexes) {
+
+		double[] xSeries = getXSeries();
+		double[] ySeries = getYSeries();
+		double[] xCoordinates = new double[riserCount];
+		double[] yCoordinates = new double[riserCount];
+		boolean category = xAxis.isValidCategoryAxis();
+		for(int i = 0; i < riserCount; i++) {
+			xCoordinates[i] = category ? indexes[i] : xSeries[indexes[i]];
+			yCoordinates[i] = ySeries[indexes[i]];
+		}
+		int[] xPixels = xAxis.getPixelCoordinates(xCoordinates, 0, riserCount, null);
+		int[] yPixels = yAxis.getPixelCoordinates(yCoordinates, 0, riserCount, null);
+		if(xAxis.isCategoryEnabled()) {
+			// the error bars are centered on the risers
+			for(int i = 0; i < riserCount; i++) {
+				int offset = i * 4;
 				if(xAxis.isHorizontalAxis()) {
-					if(xAxis.isCategoryEnabled()) {
-						h = rs[i].x + rs[i].width / 2;
-					} else {
-						h = xAxis.getPixelCoordinate(xSeries[indexes[i]]);
-					}
-					v = yAxis.getPixelCoordinate(ySeries[indexes[i]]);
+					xPixels[i] = riserBounds[offset] + riserBounds[offset + 2] / 2;
 				} else {
-					if(xAxis.isCategoryEnabled()) {
-						v = rs[i].y + rs[i].height / 2;
-					} else {
-						v = xAxis.getPixelCoordinate(xSeries[indexes[i]]);
-					}
-					h = yAxis.getPixelCoordinate(ySeries[indexes[i]]);
+					xPixels[i] = riserBounds[offset + 1] + riserBounds[offset + 3] / 2;
 				}
-				xErrorBar.draw(gc, h, v, xAxis, indexes[i]);
-				yErrorBar.draw(gc, h, v, yAxis, indexes[i]);
 			}
 		}
+		int[] hs = xAxis.isHorizontalAxis() ? xPixels : yPixels;
+		int[] vs = xAxis.isHorizontalAxis() ? yPixels : xPixels;
+		xErrorBar.draw(gc, hs, vs, xCoordinates, indexes, xAxis, width, height);
+		yErrorBar.draw(gc, hs, vs, yCoordinates, indexes, yAxis, width, height);
 	}
 
 	/**
-	 * Draws riser.
+	 * Draws the cached risers in two passes, first all fills and then all
+	 * frames, so that the graphics context state is set only once. Risers
+	 * outside of the plot area are skipped.
 	 *
 	 * @param gc
 	 *            the graphics context
-	 * @param h
-	 *            the horizontal coordinate
-	 * @param v
-	 *            the vertical coordinate
 	 * @param width
-	 *            the riser width
+	 *            the width to draw series
 	 * @param height
-	 *            the riser height
+	 *            the height to draw series
 	 */
-	private void drawRiser(GC gc, int h, int v, int width, int height) {
+	private void drawRisers(GC gc, int width, int height) {
 
 		int alpha = gc.getAlpha();
-		gc.setAlpha(ALPHA);
 		Color oldBackground = gc.getBackground();
+		Color oldForeground = gc.getForeground();
+		gc.setAlpha(ALPHA);
 		gc.setBackground(getBarColor());
-		gc.fillRectangle(h, v, width, height);
+		for(int i = 0; i < riserCount; i++) {
+			int offset = i * 4;
+			if(isRiserVisible(offset, width, height)) {
+				gc.fillRectangle(riserBounds[offset], riserBounds[offset + 1], riserBounds[offset + 2], riserBounds[offset + 3]);
+			}
+		}
 		gc.setLineStyle(SWT.LINE_SOLID);
-		Color frameColor = getFrameColor(getBarColor());
-		Color oldForeground = gc.getForeground();
-		gc.setForeground(frameColor);
-		gc.drawRectangle(h, v, width, height);
+		gc.setForeground(getFrameColor());
+		for(int i = 0; i < riserCount; i++) {
+			int offset = i * 4;
+			if(isRiserVisible(offset, width, height)) {
+				gc.drawRectangle(riserBounds[offset], riserBounds[offset + 1], riserBounds[offset + 2], riserBounds[offset + 3]);
+			}
+		}
 		gc.setAlpha(alpha);
 		gc.setBackground(oldBackground);
 		gc.setForeground(oldForeground);
 	}
+
+	private boolean isRiserVisible(int offset, int width, int height) {
+
+		int x = riserBounds[offset];
+		int y = riserBounds[offset + 1];
+		return x <= width && y <= height && x + riserBounds[offset + 2] >= 0 && y + riserBounds[offset + 3] >= 0;
+	}
 }
\ No newline at end of file
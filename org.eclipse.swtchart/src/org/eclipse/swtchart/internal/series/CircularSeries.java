@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.swtchart.internal.series;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.swt.SWT;
@@ -47,6 +49,21 @@ public abstract class CircularSeries extends Series implements ICircularSeries {
 	private Node rootPointer;
 	private int maxTreeDepth = 1;
 	private Node highlightedNode;
+	/*
+	 * Consecutive slices narrower than this angle in degrees are merged
+	 * into one "other" wedge when drawing.
+	 */
+	private static final double MIN_SLICE_ANGLE = 1.0d;
+	private Color otherSliceColor = Display.getDefault().getSystemColor(SWT.COLOR_GRAY);
+	/*
+	 * The arcs and the slice index are cached for the nodes array of the
+	 * data model, which is recreated on each update.
+	 */
+	private List<Node>[] cachedNodes;
+	private List<Arc> arcs = new ArrayList<>();
+	private List<Object> arcLayout;
+	private Node[][] levelNodes = new Node[0][];
+	private double[][] levelEnds = new double[0][];
 
 	@SuppressWarnings("unchecked")
 	public CircularSeries(Chart chart, String id) {
@@ -322,9 +339,9 @@ public abstract class CircularSeries extends Series implements ICircularSeries {
 		gc.setLineWidth(borderWidth);
 		//
 		/*
-		 * A DFS function which draws the node after drawing it's children.
+		 * The arcs are drawn in DFS order, children before their parent.
 		 */
-		drawNode(getRootPointer(), gc, xAxis, yAxis);
+		drawArcs(gc, width, height, xAxis, yAxis);
 		/*
 		 * highlight just the required node.
 		 */
@@ -334,7 +351,7 @@ public abstract class CircularSeries extends Series implements ICircularSeries {
 			gc.setLineStyle(borderStyleHighlight);
 			gc.setLineWidth(borderWidthHighlight);
 			// sets the level of the highlighted node.
-			int level = highlightedNode.getLevel() - getRootPointer().getLevel() + (this instanceof PieSeries ? 0 : 1);
+			int level = highlightedNode.getLevel() - getRootPointer().getLevel() + getLevelOffset();
 			// the top-left most coordinates of the square where the highlighted node is drawn.
 			int xStart = xAxis.getPixelCoordinate(-level);
 			int yStart = yAxis.getPixelCoordinate(level);
@@ -383,7 +400,198 @@ public abstract class CircularSeries extends Series implements ICircularSeries {
 
 	protected abstract void setBothAxisRange(int width, int height, Axis xAxis, Axis yAxis);
 
-	protected abstract void drawNode(Node rootNode, GC gc, Axis xAxis, Axis yAxis);
+	/**
+	 * Returns the ring level the root pointer is drawn at, i.e. 0 for pie
+	 * and 1 for doughnut charts.
+	 * 
+	 * @return the level offset
+	 */
+	protected abstract int getLevelOffset();
+
+	/**
+	 * Returns the color of the wedge which merges slices narrower than one
+	 * degree.
+	 * 
+	 * @return the color
+	 */
+	public Color getOtherSliceColor() {
+
+		return otherSliceColor;
+	}
+
+	/**
+	 * Sets the color of the wedge which merges slices narrower than one
+	 * degree.
+	 * 
+	 * @param otherSliceColor
+	 *            the color
+	 */
+	public void setOtherSliceColor(Color otherSliceColor) {
+
+		this.otherSliceColor = otherSliceColor;
+	}
+
+	/**
+	 * Returns the node of the given level which covers the given angle, using
+	 * a binary search on the angle bounds of the level.
+	 * 
+	 * @param level
+	 *            the level relative to the root pointer
+	 * @param angle
+	 *            the angle in radians, between 0 and 2 * PI
+	 * @return the node or null if no node covers the angle
+	 */
+	protected Node getNodeAtAngle(int level, double angle) {
+
+		updateCache();
+		if(level < 0 || level >= levelNodes.length) {
+			return null;
+		}
+		/*
+		 * The ends are the running maximum of the upper bounds, hence the
+		 * search finds the first node which may cover the angle.
+		 */
+		double[] ends = levelEnds[level];
+		Node[] nodes = levelNodes[level];
+		int low = 0;
+		int high = ends.length;
+		while(low < high) {
+			int middle = (low + high) >>> 1;
+			if(ends[middle] < angle) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		for(int i = low; i < nodes.length; i++) {
+			double lowerBound = (nodes[i].getAngleBounds().x * Math.PI) / 180.0d;
+			if(lowerBound > angle) {
+				break;
+			}
+			double upperBound = ((nodes[i].getAngleBounds().x + nodes[i].getAngleBounds().y) * Math.PI) / 180.0d;
+			if(upperBound >= angle) {
+				return nodes[i];
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Draws the cached arcs. The arcs are rebuilt only if the data model has
+	 * been updated and their boundary lines only if the layout has changed.
+	 */
+	private void drawArcs(GC gc, int width, int height, Axis xAxis, Axis yAxis) {
+
+		updateCache();
+		List<Object> layout = Arrays.asList(xAxis.getRange().lower, xAxis.getRange().upper, yAxis.getRange().lower, yAxis.getRange().upper, width, height);
+		if(!layout.equals(arcLayout)) {
+			for(Arc arc : arcs) {
+				arc.layout(xAxis, yAxis);
+			}
+			arcLayout = layout;
+		}
+		//
+		int xZero = xAxis.getPixelCoordinate(0);
+		int yZero = yAxis.getPixelCoordinate(0);
+		Node pointer = getRootPointer();
+		for(Arc arc : arcs) {
+			if(!arc.isVisible()) {
+				continue;
+			}
+			gc.setBackground(arc.merged != null ? otherSliceColor : arc.node.getSliceColor());
+			gc.fillArc(arc.bounds[0], arc.bounds[1], arc.bounds[2], arc.bounds[3], arc.angleStart, arc.angleWidth);
+			gc.drawArc(arc.bounds[0], arc.bounds[1], arc.bounds[2], arc.bounds[3], arc.angleStart, arc.angleWidth);
+			if(arc.node != pointer || getLevelOffset() == 0) {
+				gc.drawLine(xZero, yZero, arc.lines[0], arc.lines[1]);
+				gc.drawLine(xZero, yZero, arc.lines[2], arc.lines[3]);
+			}
+		}
+	}
+
+	/**
+	 * Rebuilds the arcs and the slice index if the data model has been updated
+	 * since the last call.
+	 */
+	private void updateCache() {
+
+		List<Node>[] nodes = nodeDataModel.getNodes();
+		if(nodes == cachedNodes && nodes != null) {
+			return;
+		}
+		//
+		Node pointer = getRootPointer();
+		List<Arc> arcList = new ArrayList<>();
+		collectArcs(pointer, 360.0d, arcList);
+		arcList.add(new Arc(pointer, null, pointer.getAngleBounds().x, pointer.getAngleBounds().y, getLevelOffset()));
+		arcs = arcList;
+		arcLayout = null;
+		//
+		int levels = nodes == null ? 0 : nodes.length;
+		levelNodes = new Node[levels][];
+		levelEnds = new double[levels][];
+		for(int level = 0; level < levels; level++) {
+			Node[] levelArray = nodes[level].toArray(new Node[nodes[level].size()]);
+			double[] ends = new double[levelArray.length];
+			double end = Double.NEGATIVE_INFINITY;
+			for(int i = 0; i < levelArray.length; i++) {
+				end = Math.max(end, ((levelArray[i].getAngleBounds().x + levelArray[i].getAngleBounds().y) * Math.PI) / 180.0d);
+				ends[i] = end;
+			}
+			levelNodes[level] = levelArray;
+			levelEnds[level] = ends;
+		}
+		cachedNodes = nodes;
+	}
+
+	/**
+	 * Collects the arcs of the descendants of the given node, children before
+	 * their parent as the parent overrides it's section of drawing. Runs of
+	 * siblings whose exact angle is less than one degree are merged into one
+	 * "other" arc, their descendants are skipped.
+	 * 
+	 * @param node
+	 *            the parent node
+	 * @param angle
+	 *            the exact angle of the parent node in degrees
+	 * @param arcList
+	 *            the list to add the arcs to
+	 */
+	private void collectArcs(Node node, double angle, List<Arc> arcList) {
+
+		List<Node> children = node.getChildren();
+		int size = children.size();
+		int level = node.getLevel() - getRootPointer().getLevel() + getLevelOffset() + 1;
+		int i = 0;
+		while(i < size) {
+			int end = i;
+			while(end < size && isNarrowSlice(children.get(end), node, angle)) {
+				end++;
+			}
+			if(end - i > 1) {
+				Node first = children.get(i);
+				Node last = children.get(end - 1);
+				int angleStart = first.getAngleBounds().x;
+				int angleWidth = last.getAngleBounds().x + last.getAngleBounds().y - angleStart;
+				arcList.add(new Arc(first, children.subList(i, end), angleStart, angleWidth, level));
+				i = end;
+			} else {
+				Node child = children.get(i);
+				collectArcs(child, getSliceAngle(child, node, angle), arcList);
+				arcList.add(new Arc(child, null, child.getAngleBounds().x, child.getAngleBounds().y, level));
+				i++;
+			}
+		}
+	}
+
+	private boolean isNarrowSlice(Node child, Node parent, double angle) {
+
+		return getSliceAngle(child, parent, angle) < MIN_SLICE_ANGLE;
+	}
+
+	private double getSliceAngle(Node child, Node parent, double angle) {
+
+		return parent.getValue() == 0 ? 0.0d : angle * child.getValue() / parent.getValue();
+	}
 
 	@Override
 	protected void setCompressor() {
@@ -461,4 +669,60 @@ public abstract class CircularSeries extends Series implements ICircularSeries {
 		double primaryY = chart.getAxisSet().getYAxis(0).getDataCoordinate(y);
 		return getPieSliceFromPosition(primaryX, primaryY);
 	}
+
+	/**
+	 * The geometry of a drawn arc. The pixel bounds and boundary lines
+	 * depend on the layout and are updated when it changes.
+	 */
+	private static final class Arc {
+
+		private final Node node;
+		/** the merged siblings of an "other" arc, null otherwise */
+		private final List<Node> merged;
+		private final int angleStart;
+		private final int angleWidth;
+		private final int level;
+		/** the bounds {x, y, width, height} of the ellipse */
+		private final int[] bounds = new int[4];
+		/** the end points {x1, y1, x2, y2} of the boundary lines */
+		private final int[] lines = new int[4];
+
+		private Arc(Node node, List<Node> merged, int angleStart, int angleWidth, int level) {
+
+			this.node = node;
+			this.merged = merged;
+			this.angleStart = angleStart;
+			this.angleWidth = angleWidth;
+			this.level = level;
+		}
+
+		private boolean isVisible() {
+
+			if(merged == null) {
+				return node.isVisible();
+			}
+			for(Node sibling : merged) {
+				if(sibling.isVisible()) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private void layout(Axis xAxis, Axis yAxis) {
+
+			/*
+			 * the center of the chart is (0,0). The x and y axis are set such that
+			 * a node at level = i, will be drawn starting from (-level,level), till (level,-level).
+			 */
+			bounds[0] = xAxis.getPixelCoordinate(-level);
+			bounds[1] = yAxis.getPixelCoordinate(level);
+			bounds[2] = xAxis.getPixelCoordinate(level) - bounds[0];
+			bounds[3] = yAxis.getPixelCoordinate(-level) - bounds[1];
+			lines[0] = xAxis.getPixelCoordinate(level * Math.cos(Math.toRadians(angleStart)));
+			lines[1] = yAxis.getPixelCoordinate(level * Math.sin(Math.toRadians(angleStart)));
+			lines[2] = xAxis.getPixelCoordinate(level * Math.cos(Math.toRadians(angleStart + angleWidth)));
+			lines[3] = yAxis.getPixelCoordinate(level * Math.sin(Math.toRadians(angleStart + angleWidth)));
+		}
+	}
 }
\ No newline at end of file
@@ -47,6 +47,18 @@ public class ErrorBar implements IErrorBar {
 	private ErrorBarType type;
 	/** the visibility state */
 	private boolean isVisible;
+	/** the buffer of data coordinates at the plus error ends */
+	private double[] plusCoordinates = new double[0];
+	/** the buffer of data coordinates at the minus error ends */
+	private double[] minusCoordinates = new double[0];
+	/** the buffer of pixel coordinates at the plus error ends */
+	private int[] plusPixels = new int[0];
+	/** the buffer of pixel coordinates at the minus error ends */
+	private int[] minusPixels = new int[0];
+	/** the buffer of line segments as {h1, v1, h2, v2} quadruples */
+	private int[] segments = new int[0];
+	/** the number of values stored in the segment buffer */
+	private int segmentCount;
 
 	/**
 	 * The constructor.
@@ -181,92 +193,163 @@ public class ErrorBar implements IErrorBar {
 	}
 
 	/**
-	 * Draws error bar.
+	 * Draws the error bars of all given data points in one batch.
+	 * <p>
+	 * The error ends of all points are transformed to pixels at once, bars
+	 * which are completely outside of the plot area are skipped, overlapping
+	 * bars in the same pixel column are merged into a single line, and all
+	 * lines are drawn with the graphics context state set only once.
 	 *
 	 * @param gc
 	 *            the graphics context
-	 * @param h
-	 *            the horizontal coordinate to draw error bar
-	 * @param v
-	 *            the vertical coordinate to draw error bar
+	 * @param hs
+	 *            the horizontal coordinates of the data points
+	 * @param vs
+	 *            the vertical coordinates of the data points
+	 * @param dataCoordinates
+	 *            the data coordinates of the data points on the given axis
+	 * @param indexes
+	 *            the series indexes of the data points
 	 * @param axis
-	 *            the x axis
-	 * @param seriesIndex
-	 *            the series index
+	 *            the axis
+	 * @param width
+	 *            the width of plot area
+	 * @param height
+	 *            the height of plot area
 	 */
-	protected void draw(GC gc, int h, int v, Axis axis, int seriesIndex) {
+	protected void draw(GC gc, int[] hs, int[] vs, double[] dataCoordinates, int[] indexes, Axis axis, int width, int height) {
 
-		if(!isVisible) {
+		if(!isVisible || hs.length == 0) {
 			return;
 		}
+		int size = hs.length;
+		if(plusCoordinates.length < size) {
+			plusCoordinates = new double[size];
+			minusCoordinates = new double[size];
+		}
+		for(int i = 0; i < size; i++) {
+			int seriesIndex = indexes[i];
+			double plusError = plusErrors.length > seriesIndex ? plusErrors[seriesIndex] : error;
+			double minusError = minusErrors.length > seriesIndex ? minusErrors[seriesIndex] : error;
+			plusCoordinates[i] = dataCoordinates[i] + plusError;
+			minusCoordinates[i] = dataCoordinates[i] - minusError;
+		}
+		plusPixels = axis.getPixelCoordinates(plusCoordinates, 0, size, plusPixels);
+		minusPixels = axis.getPixelCoordinates(minusCoordinates, 0, size, minusPixels);
+		if(axis.isLogScaleEnabled()) {
+			int lowerPixel = axis.getPixelCoordinate(axis.getRange().lower);
+			for(int i = 0; i < size; i++) {
+				if(minusCoordinates[i] <= 0) {
+					minusPixels[i] = lowerPixel;
+				}
+			}
+		}
+		// collect the line segments
+		boolean isHorizontal = axis.isHorizontalAxis();
+		int[] alongs = isHorizontal ? hs : vs;
+		int[] crosses = isHorizontal ? vs : hs;
+		int alongLength = isHorizontal ? width : height;
+		int crossLength = isHorizontal ? height : width;
+		int capSize = 1 + lineWidth;
+		boolean hasPlus = type != ErrorBarType.MINUS;
+		boolean hasMinus = type != ErrorBarType.PLUS;
+		segmentCount = 0;
+		boolean hasStem = false;
+		int stemCross = 0;
+		int stemLower = 0;
+		int stemUpper = 0;
+		int lastPlusCap = Integer.MIN_VALUE;
+		int lastMinusCap = Integer.MIN_VALUE;
+		int lastCapCross = Integer.MIN_VALUE;
+		for(int i = 0; i < size; i++) {
+			int along = alongs[i];
+			int cross = crosses[i];
+			int plusEnd = hasPlus ? plusPixels[i] : along;
+			int minusEnd = hasMinus ? minusPixels[i] : along;
+			int lower = Math.min(along, Math.min(plusEnd, minusEnd));
+			int upper = Math.max(along, Math.max(plusEnd, minusEnd));
+			// skip the bars outside of plot area
+			if(cross < -capSize || cross > crossLength + capSize || upper < 0 || lower > alongLength) {
+				continue;
+			}
+			// merge the stems in the same pixel column
+			if(hasStem && cross == stemCross && lower <= stemUpper + 1 && upper >= stemLower - 1) {
+				stemLower = Math.min(stemLower, lower);
+				stemUpper = Math.max(stemUpper, upper);
+			} else {
+				if(hasStem) {
+					addSegment(stemLower, stemCross, stemUpper, stemCross, isHorizontal);
+				}
+				hasStem = true;
+				stemCross = cross;
+				stemLower = lower;
+				stemUpper = upper;
+			}
+			// add the caps, unless already drawn at the same position
+			if(cross != lastCapCross) {
+				lastCapCross = cross;
+				lastPlusCap = Integer.MIN_VALUE;
+				lastMinusCap = Integer.MIN_VALUE;
+			}
+			if(hasPlus && plusEnd != lastPlusCap) {
+				addSegment(plusEnd, cross + capSize, plusEnd, cross - capSize, isHorizontal);
+				lastPlusCap = plusEnd;
+			}
+			if(hasMinus && minusEnd != lastMinusCap) {
+				addSegment(minusEnd, cross + capSize, minusEnd, cross - capSize, isHorizontal);
+				lastMinusCap = minusEnd;
+			}
+		}
+		if(hasStem) {
+			addSegment(stemLower, stemCross, stemUpper, stemCross, isHorizontal);
+		}
+		if(segmentCount == 0) {
+			return;
+		}
+		// draw all segments
 		int oldLineWidth = gc.getLineWidth();
+		Color oldForeground = gc.getForeground();
 		gc.setLineWidth(lineWidth);
 		gc.setLineStyle(SWT.LINE_SOLID);
-		Color oldForeground = gc.getForeground();
 		gc.setForeground(getColor());
-		// get plus/minus error
-		double plusError = error;
-		double minusError = error;
-		if(plusErrors.length > seriesIndex) {
-			plusError = plusErrors[seriesIndex];
-		}
-		if(minusErrors.length > seriesIndex) {
-			minusError = minusErrors[seriesIndex];
+		for(int i = 0; i < segmentCount; i += 4) {
+			gc.drawLine(segments[i], segments[i + 1], segments[i + 2], segments[i + 3]);
 		}
-		// draw error bar
-		draw(gc, h, v, axis, plusError, minusError);
 		gc.setLineWidth(oldLineWidth);
 		gc.setForeground(oldForeground);
 	}
 
 	/**
-	 * Draws the error bar.
+	 * Adds a line segment to the segment buffer.
 	 *
-	 * @param gc
-	 *            the graphics context
-	 * @param h
-	 *            the horizontal coordinate to draw error bar
-	 * @param v
-	 *            the vertical coordinate to draw error bar
-	 * @param axis
-	 *            the axis
-	 * @param plusError
-	 *            the plus error
-	 * @param minusError
-	 *            the minus error
+	 * @param along1
+	 *            the start coordinate along the axis
+	 * @param cross1
+	 *            the start coordinate across the axis
+	 * @param along2
+	 *            the end coordinate along the axis
+	 * @param cross2
+	 *            the end coordinate across the axis
+	 * @param isHorizontal
+	 *            true if the axis is horizontal
 	 */
-	private void draw(GC gc, int h, int v, Axis axis, double plusError, double minusError) {
-
-		if(axis.isHorizontalAxis()) {
-			double dataCoordinate = axis.getDataCoordinate(h);
-			int plusErrorInPixels = axis.getPixelCoordinate(dataCoordinate + plusError) - h;
-			int miusErrorInPixels = h - axis.getPixelCoordinate(dataCoordinate - minusError);
-			if(axis.isLogScaleEnabled() && dataCoordinate - plusError < 0) {
-				miusErrorInPixels = h - axis.getPixelCoordinate(axis.getRange().lower);
-			}
-			if(type != ErrorBarType.MINUS) {
-				gc.drawLine(h, v, h + plusErrorInPixels, v);
-				gc.drawLine(h + plusErrorInPixels, v + 1 + lineWidth, h + plusErrorInPixels, v - 1 - lineWidth);
-			}
-			if(type != ErrorBarType.PLUS) {
-				gc.drawLine(h - miusErrorInPixels, v, h, v);
-				gc.drawLine(h - miusErrorInPixels, v + 1 + lineWidth, h - miusErrorInPixels, v - 1 - lineWidth);
-			}
+	private void addSegment(int along1, int cross1, int along2, int cross2, boolean isHorizontal) {
+
+		if(segmentCount + 4 > segments.length) {
+			int[] newSegments = new int[Math.max(64, segments.length * 2)];
+			System.arraycopy(segments, 0, newSegments, 0, segmentCount);
+			segments = newSegments;
+		}
+		if(isHorizontal) {
+			segments[segmentCount++] = along1;
+			segments[segmentCount++] = cross1;
+			segments[segmentCount++] = along2;
+			segments[segmentCount++] = cross2;
 		} else {
-			double dataCoordinate = axis.getDataCoordinate(v);
-			int plusErrorInPixels = v - axis.getPixelCoordinate(dataCoordinate + plusError);
-			int miusErrorInPixels = axis.getPixelCoordinate(dataCoordinate - minusError) - v;
-			if(axis.isLogScaleEnabled() && dataCoordinate - plusError < 0) {
-				miusErrorInPixels = axis.getPixelCoordinate(axis.getRange().lower) - v;
-			}
-			if(type != ErrorBarType.MINUS) {
-				gc.drawLine(h, v - plusErrorInPixels, h, v);
-				gc.drawLine(h + 1 + lineWidth, v - plusErrorInPixels, h - 1 - lineWidth, v - plusErrorInPixels);
-			}
-			if(type != ErrorBarType.PLUS) {
-				gc.drawLine(h, v, h, v + miusErrorInPixels);
-				gc.drawLine(h + 1 + lineWidth, v + miusErrorInPixels, h - 1 - lineWidth, v + miusErrorInPixels);
-			}
+			segments[segmentCount++] = cross1;
+			segments[segmentCount++] = along1;
+			segments[segmentCount++] = cross2;
+			segments[segmentCount++] = along2;
 		}
 	}
 }
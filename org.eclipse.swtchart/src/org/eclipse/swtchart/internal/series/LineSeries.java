@@ -16,7 +16,9 @@
 package org.eclipse.swtchart.internal.series;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Color;
@@ -79,6 +81,8 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 	private static final int DEFAULT_ANTIALIAS = SWT.DEFAULT;
 	/** the margin in pixels attached at the minimum/maximum plot */
 	private static final int MARGIN_AT_MIN_MAX_PLOT = 6;
+	/** the pre-rendered symbols */
+	private final SymbolSpriteCache symbolSpriteCache = new SymbolSpriteCache();
 
 	/**
 	 * Constructor.
@@ -308,43 +312,42 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 	/**
 	 * Gets the line points to draw line and area.
 	 *
-	 * @param xseries
-	 *            the horizontal series
-	 * @param yseries
-	 *            the vertical series
-	 * @param indexes
-	 *            the series indexes
+	 * @param xPixels
+	 *            the pixel coordinates of the x series
+	 * @param yPixels
+	 *            the pixel coordinates of the y series
+	 * @param stackPixels
+	 *            the pixel coordinates of the stack series, or <tt>null</tt>
+	 *            if the series is not drawn stacked
+	 * @param basePixel
+	 *            the pixel coordinate of the area base line
+	 * @param zeroPixel
+	 *            the pixel coordinate of the y value zero
 	 * @param index
 	 *            the index of series
-	 * @param xAxis
-	 *            the X axis
-	 * @param yAxis
-	 *            the Y axis
+	 * @param isHorizontal
+	 *            true if orientation is horizontal
 	 * @return the line points
 	 */
-	private int[] getLinePoints(double[] xseries, double[] yseries, int[] indexes, int index, Axis xAxis, Axis yAxis) {
+	private static int[] getLinePoints(int[] xPixels, int[] yPixels, int[] stackPixels, int basePixel, int zeroPixel, int index, boolean isHorizontal) {
 
-		int x1 = xAxis.getPixelCoordinate(xseries[index]);
-		int x2 = xAxis.getPixelCoordinate(xseries[index + 1]);
+		int x1 = xPixels[index];
+		int x2 = xPixels[index + 1];
 		int x3 = x2;
 		int x4 = x1;
-		int y1 = yAxis.getPixelCoordinate(yseries[index]);
-		int y2 = yAxis.getPixelCoordinate(yseries[index + 1]);
-		int y3, y4;
-		double baseYCoordinate = yAxis.getRange().lower > 0 ? yAxis.getRange().lower : 0;
-		if(yAxis.isLogScaleEnabled()) {
-			y3 = yAxis.getPixelCoordinate(yAxis.getRange().lower);
-			y4 = y3;
-		} else if(isValidStackSeries()) {
-			y1 = yAxis.getPixelCoordinate(stackSeries[indexes[index]]);
-			y2 = yAxis.getPixelCoordinate(stackSeries[indexes[index + 1]]);
-			y3 = yAxis.getPixelCoordinate(stackSeries[indexes[index + 1]]) + Math.abs(yAxis.getPixelCoordinate(yseries[index + 1]) - yAxis.getPixelCoordinate(0)) * (xAxis.isHorizontalAxis() ? 1 : -1);
-			y4 = yAxis.getPixelCoordinate(stackSeries[indexes[index]]) + Math.abs(yAxis.getPixelCoordinate(yseries[index]) - yAxis.getPixelCoordinate(0)) * (xAxis.isHorizontalAxis() ? 1 : -1);
+		int y1, y2, y3, y4;
+		if(stackPixels != null) {
+			y1 = stackPixels[index];
+			y2 = stackPixels[index + 1];
+			y3 = y2 + Math.abs(yPixels[index + 1] - zeroPixel) * (isHorizontal ? 1 : -1);
+			y4 = y1 + Math.abs(yPixels[index] - zeroPixel) * (isHorizontal ? 1 : -1);
 		} else {
-			y3 = yAxis.getPixelCoordinate(baseYCoordinate);
-			y4 = y3;
+			y1 = yPixels[index];
+			y2 = yPixels[index + 1];
+			y3 = basePixel;
+			y4 = basePixel;
 		}
-		if(xAxis.isHorizontalAxis()) {
+		if(isHorizontal) {
 			return new int[]{x1, y1, x2, y2, x3, y3, x4, y4};
 		}
 		return new int[]{y1, x1, y2, x2, y3, x3, y4, x4};
@@ -355,18 +358,96 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 
 		int oldAntialias = gc.getAntialias();
 		int oldLineWidth = gc.getLineWidth();
-		gc.setAntialias(antialias);
+		boolean draft = chart.getPlotArea().isDraftMode();
+		gc.setAntialias(draft ? SWT.OFF : antialias);
 		gc.setLineWidth(lineWidth);
 		if(lineStyle != LineStyle.NONE) {
 			drawLineAndArea(gc, width, height, xAxis, yAxis);
 		}
-		if(symbolType != PlotSymbolType.NONE || getLabel().isVisible() || getXErrorBar().isVisible() || getYErrorBar().isVisible()) {
-			drawSymbolAndLabel(gc, width, height, xAxis, yAxis);
+		if(draft) {
+			// keep a series drawn with symbols only recognizable
+			if(lineStyle == LineStyle.NONE && symbolType != PlotSymbolType.NONE) {
+				drawSymbolAndLabel(gc, width, height, xAxis, yAxis, false);
+			}
+		} else if(symbolType != PlotSymbolType.NONE || getLabel().isVisible() || getXErrorBar().isVisible() || getYErrorBar().isVisible()) {
+			drawSymbolAndLabel(gc, width, height, xAxis, yAxis, true);
 		}
 		gc.setAntialias(oldAntialias);
 		gc.setLineWidth(oldLineWidth);
 	}
 
+	/**
+	 * Creates the layer to rasterize this series off the UI thread with the
+	 * {@link SeriesRasterizer}. The pixel coordinates are computed here, hence
+	 * this method must be called on the UI thread.
+	 *
+	 * @param width
+	 *            the width to draw series
+	 * @param height
+	 *            the height to draw series
+	 * @return the layer, or null if the series has to be drawn with the
+	 *         graphics context, e.g. because it uses area, step, stack, a
+	 *         dashed line, anti-aliasing, a symbol other than circle and
+	 *         square, labels or error bars
+	 */
+	public SeriesRasterizer.Layer createRasterLayer(int width, int height) {
+
+		if(!visible || width < 0 || height < 0) {
+			return null;
+		}
+		// labels, error bars and anti-aliasing are omitted in draft mode
+		boolean draft = chart.getPlotArea().isDraftMode();
+		if(areaEnabled || stepEnabled || stackEnabled || (antialias == SWT.ON && !draft)) {
+			return null;
+		}
+		if(lineStyle != LineStyle.NONE && lineStyle != LineStyle.SOLID) {
+			return null;
+		}
+		// symbols are omitted in draft mode unless there is no line
+		boolean symbols = symbolType != PlotSymbolType.NONE && (!draft || lineStyle == LineStyle.NONE);
+		if(symbols && symbolType != PlotSymbolType.CIRCLE && symbolType != PlotSymbolType.SQUARE) {
+			return null;
+		}
+		if(!draft && (getLabel().isVisible() || getXErrorBar().isVisible() || getYErrorBar().isVisible())) {
+			return null;
+		}
+		Axis xAxis = (Axis)chart.getAxisSet().getXAxis(getXAxisId());
+		Axis yAxis = (Axis)chart.getAxisSet().getYAxis(getYAxisId());
+		if(xAxis == null || yAxis == null) {
+			return null;
+		}
+		double[] xseries = compressor.getCompressedXSeries();
+		double[] yseries = compressor.getCompressedYSeries();
+		int[] indexes = compressor.getCompressedIndexes();
+		if(xAxis.isValidCategoryAxis()) {
+			for(int i = 0; i < xseries.length; i++) {
+				xseries[i] = indexes[i];
+			}
+		}
+		int[] xPixels = xAxis.getPixelCoordinates(xseries, 0, xseries.length, null);
+		int[] yPixels = yAxis.getPixelCoordinates(yseries, 0, xseries.length, null);
+		int[] hs = xAxis.isHorizontalAxis() ? xPixels : yPixels;
+		int[] vs = xAxis.isHorizontalAxis() ? yPixels : xPixels;
+		int lineRGB = lineStyle == LineStyle.NONE ? -1 : toPixel(getLineColor());
+		int[] symbolPixels = null;
+		if(symbols) {
+			if(symbolColors.length == 0) {
+				symbolPixels = new int[]{toPixel(getSymbolColor())};
+			} else {
+				symbolPixels = new int[indexes.length];
+				for(int i = 0; i < indexes.length; i++) {
+					symbolPixels[i] = toPixel(getSymbolColor(indexes[i]));
+				}
+			}
+		}
+		return new SeriesRasterizer.Layer(hs, vs, lineRGB, lineWidth, symbolPixels, symbolSize, symbolType == PlotSymbolType.SQUARE);
+	}
+
+	private static int toPixel(Color color) {
+
+		return (color.getRed() << 16) | (color.getGreen() << 8) | color.getBlue();
+	}
+
 	/**
 	 * Draws the line and area.
 	 *
@@ -400,8 +481,26 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 		gc.setForeground(getLineColor());
 		boolean isHorizontal = xAxis.isHorizontalAxis();
 		if(stepEnabled || areaEnabled || stackEnabled) {
+			int[] xPixels = xAxis.getPixelCoordinates(xseries, 0, xseries.length, null);
+			int[] yPixels = yAxis.getPixelCoordinates(yseries, 0, yseries.length, null);
+			int[] stackPixels = null;
+			int basePixel = 0;
+			int zeroPixel = 0;
+			Range yRange = yAxis.getRange();
+			if(yAxis.isLogScaleEnabled()) {
+				basePixel = yAxis.getPixelCoordinate(yRange.lower);
+			} else if(isValidStackSeries()) {
+				double[] stackedSeries = new double[indexes.length];
+				for(int i = 0; i < indexes.length; i++) {
+					stackedSeries[i] = stackSeries[indexes[i]];
+				}
+				stackPixels = yAxis.getPixelCoordinates(stackedSeries, 0, stackedSeries.length, null);
+				zeroPixel = yAxis.getPixelCoordinate(0);
+			} else {
+				basePixel = yAxis.getPixelCoordinate(yRange.lower > 0 ? yRange.lower : 0);
+			}
 			for(int i = 0; i < xseries.length - 1; i++) {
-				int[] p = getLinePoints(xseries, yseries, indexes, i, xAxis, yAxis);
+				int[] p = getLinePoints(xPixels, yPixels, stackPixels, basePixel, zeroPixel, i, isHorizontal);
 				// draw line
 				if(lineStyle != LineStyle.NONE) {
 					if(stepEnabled) {
@@ -441,18 +540,16 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 	 */
 	private static void drawLine(GC gc, Axis xAxis, Axis yAxis, double[] xseries, double[] yseries, boolean isHorizontal) {
 
-		double xLower = xAxis.getRange().lower;
-		double xUpper = xAxis.getRange().upper;
-		double yLower = yAxis.getRange().lower;
-		double yUpper = yAxis.getRange().upper;
-		int prevX = xAxis.getPixelCoordinate(xseries[0], xLower, xUpper);
-		int prevY = yAxis.getPixelCoordinate(yseries[0], yLower, yUpper);
+		int[] xPixels = xAxis.getPixelCoordinates(xseries, 0, xseries.length, null);
+		int[] yPixels = yAxis.getPixelCoordinates(yseries, 0, xseries.length, null);
+		int prevX = xPixels[0];
+		int prevY = yPixels[0];
 		boolean drawVerticalLine = false;
 		int verticalLineYLower = 0;
 		int verticalLineYUpper = 0;
 		for(int i = 0; i < xseries.length - 1; i++) {
-			int x = xAxis.getPixelCoordinate(xseries[i + 1], xLower, xUpper);
-			int y = yAxis.getPixelCoordinate(yseries[i + 1], yLower, yUpper);
+			int x = xPixels[i + 1];
+			int y = yPixels[i + 1];
 			if(x == prevX && i < xseries.length - 2) {
 				if(drawVerticalLine) {
 					// extend vertical line
@@ -512,21 +609,19 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 	 */
 	private static void drawLineWithStyle(GC gc, Axis xAxis, Axis yAxis, double[] xseries, double[] yseries, boolean isHorizontal) {
 
-		double xLower = xAxis.getRange().lower;
-		double xUpper = xAxis.getRange().upper;
-		double yLower = yAxis.getRange().lower;
-		double yUpper = yAxis.getRange().upper;
+		int[] xPixels = xAxis.getPixelCoordinates(xseries, 0, xseries.length, null);
+		int[] yPixels = yAxis.getPixelCoordinates(yseries, 0, xseries.length, null);
 		List<Integer> pointList = new ArrayList<Integer>();
-		int prevX = xAxis.getPixelCoordinate(xseries[0], xLower, xUpper);
-		int prevY = yAxis.getPixelCoordinate(yseries[0], yLower, yUpper);
+		int prevX = xPixels[0];
+		int prevY = yPixels[0];
 		// add initial point
 		addPoint(pointList, prevX, prevY, isHorizontal);
 		boolean drawVerticalLine = false;
 		int verticalLineYLower = 0;
 		int verticalLineYUpper = 0;
 		for(int i = 0; i < xseries.length - 1; i++) {
-			int x = xAxis.getPixelCoordinate(xseries[i + 1], xLower, xUpper);
-			int y = yAxis.getPixelCoordinate(yseries[i + 1], yLower, yUpper);
+			int x = xPixels[i + 1];
+			int y = yPixels[i + 1];
 			if(x == prevX && i < xseries.length - 2) {
 				if(drawVerticalLine) {
 					// extend vertical line
@@ -617,8 +712,10 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 	 *            the x axis
 	 * @param yAxis
 	 *            the y axis
+	 * @param decorations
+	 *            false to draw the symbols only
 	 */
-	private void drawSymbolAndLabel(GC gc, int width, int height, Axis xAxis, Axis yAxis) {
+	private void drawSymbolAndLabel(GC gc, int width, int height, Axis xAxis, Axis yAxis, boolean decorations) {
 
 		// get x and y series
 		double[] xseries = compressor.getCompressedXSeries();
@@ -633,31 +730,111 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 				}
 			}
 		}
-		// draw symbol and label
-		for(int i = 0; i < xseries.length; i++) {
-			Color color;
-			if(symbolColors.length > indexes[i]) {
-				color = symbolColors[indexes[i]];
+		// get the pixel coordinates
+		int[] xPixels = xAxis.getPixelCoordinates(xseries, 0, xseries.length, null);
+		int[] yPixels = yAxis.getPixelCoordinates(yseries, 0, xseries.length, null);
+		int[] hs = xAxis.isHorizontalAxis() ? xPixels : yPixels;
+		int[] vs = xAxis.isHorizontalAxis() ? yPixels : xPixels;
+		// draw symbol
+		if(getSymbolType() != PlotSymbolType.NONE) {
+			if(gc.getDevice() instanceof Display) {
+				drawSymbolSprites(gc, hs, vs, indexes);
 			} else {
-				color = getSymbolColor();
+				// keep vector output e.g. for printers
+				for(int i = 0; i < xseries.length; i++) {
+					drawSeriesSymbol(gc, hs[i], vs[i], getSymbolColor(indexes[i]));
+				}
 			}
-			int h, v;
-			if(xAxis.isHorizontalAxis()) {
-				h = xAxis.getPixelCoordinate(xseries[i]);
-				v = yAxis.getPixelCoordinate(yseries[i]);
-			} else {
-				v = xAxis.getPixelCoordinate(xseries[i]);
-				h = yAxis.getPixelCoordinate(yseries[i]);
+		}
+		if(!decorations) {
+			return;
+		}
+		// draw error bars
+		xErrorBar.draw(gc, hs, vs, xseries, indexes, xAxis, width, height);
+		yErrorBar.draw(gc, hs, vs, yseries, indexes, yAxis, width, height);
+		// draw label
+		seriesLabel.draw(gc, hs, vs, yseries, indexes, SWT.BOTTOM);
+	}
+
+	/**
+	 * Draws the series symbols by stamping pre-rendered sprites. The points
+	 * are grouped by color, so that each sprite is looked up only once.
+	 *
+	 * @param gc
+	 *            the graphics context
+	 * @param hs
+	 *            the horizontal coordinates
+	 * @param vs
+	 *            the vertical coordinates
+	 * @param indexes
+	 *            the series indexes
+	 */
+	private void drawSymbolSprites(GC gc, int[] hs, int[] vs, int[] indexes) {
+
+		if(symbolColors.length == 0) {
+			SymbolSpriteCache.Sprite sprite = getSymbolSprite(gc, getSymbolColor());
+			for(int i = 0; i < hs.length; i++) {
+				sprite.draw(gc, hs[i], vs[i]);
+			}
+			return;
+		}
+		/*
+		 * Group the points by color with a counting sort on primitive
+		 * arrays, so that each sprite is looked up once per color.
+		 */
+		List<Color> colors = new ArrayList<>();
+		Map<Color, Integer> colorSlots = new HashMap<>();
+		int[] slots = new int[hs.length];
+		for(int i = 0; i < hs.length; i++) {
+			Color color = getSymbolColor(indexes[i]);
+			Integer slot = colorSlots.get(color);
+			if(slot == null) {
+				slot = Integer.valueOf(colors.size());
+				colorSlots.put(color, slot);
+				colors.add(color);
 			}
-			if(getSymbolType() != PlotSymbolType.NONE) {
-				drawSeriesSymbol(gc, h, v, color);
+			slots[i] = slot.intValue();
+		}
+		int[] starts = new int[colors.size() + 1];
+		for(int slot : slots) {
+			starts[slot + 1]++;
+		}
+		for(int c = 0; c < colors.size(); c++) {
+			starts[c + 1] += starts[c];
+		}
+		int[] order = new int[hs.length];
+		int[] next = starts.clone();
+		for(int i = 0; i < hs.length; i++) {
+			order[next[slots[i]]++] = i;
+		}
+		for(int c = 0; c < colors.size(); c++) {
+			SymbolSpriteCache.Sprite sprite = getSymbolSprite(gc, colors.get(c));
+			for(int k = starts[c]; k < starts[c + 1]; k++) {
+				sprite.draw(gc, hs[order[k]], vs[order[k]]);
 			}
-			seriesLabel.draw(gc, h, v, yseries[i], indexes[i], SWT.BOTTOM);
-			xErrorBar.draw(gc, h, v, xAxis, indexes[i]);
-			yErrorBar.draw(gc, h, v, yAxis, indexes[i]);
 		}
 	}
 
+	private SymbolSpriteCache.Sprite getSymbolSprite(GC gc, Color color) {
+
+		return symbolSpriteCache.getSprite(gc, symbolType, symbolSize, color, SWT.ON, getExtendedPlotSymbolType(), (spriteGC, h, v) -> drawSeriesSymbol(spriteGC, h, v, color));
+	}
+
+	/**
+	 * Gets the symbol color for the given series index.
+	 *
+	 * @param index
+	 *            the series index
+	 * @return the symbol color
+	 */
+	private Color getSymbolColor(int index) {
+
+		if(symbolColors.length > index) {
+			return symbolColors[index];
+		}
+		return getSymbolColor();
+	}
+
 	/**
 	 * Draws series symbol.
 	 *
@@ -720,4 +897,11 @@ public class LineSeries<T> extends Series<T> implements ILineSeries<T> {
 		gc.setBackground(oldBackground);
 		gc.setForeground(oldForeground);
 	}
+
+	@Override
+	protected void dispose() {
+
+		super.dispose();
+		symbolSpriteCache.dispose();
+	}
 }
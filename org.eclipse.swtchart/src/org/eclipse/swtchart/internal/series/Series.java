@@ -15,6 +15,7 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.stream.StreamSupport;
@@ -78,6 +79,22 @@ abstract public class Series<T> implements ISeries<T> {
 	/** the list of dispose listeners */
 	private List<IDisposeListener> listeners;
 	private CartesianSeriesModel<T> model;
+	/** the spatial index of the compressed data points for hit-testing */
+	private SeriesHitIndex hitIndex;
+	/** the chart orientation the spatial index has been built for */
+	private int hitIndexOrientation;
+	/** the scale of the affine transform of the x values of the data model */
+	private double transformScaleX = 1;
+	/** the offset of the affine transform of the x values of the data model */
+	private double transformOffsetX = 0;
+	/** the scale of the affine transform of the y values of the data model */
+	private double transformScaleY = 1;
+	/** the offset of the affine transform of the y values of the data model */
+	private double transformOffsetY = 0;
+	/** the number of changes of the data or its transform */
+	private long dataVersion = 0;
+	/** the number of updates of the stack series */
+	private long stackVersion = 0;
 
 	/**
 	 * Constructor.
@@ -119,7 +136,21 @@ abstract public class Series<T> implements ISeries<T> {
 			return;
 		}
 		this.visible = visible;
-		((SeriesSet)chart.getSeriesSet()).updateStackAndRiserData();
+		if(isStackOrRiserRelevant()) {
+			((SeriesSet)chart.getSeriesSet()).updateStackAndRiserData();
+		}
+	}
+
+	/**
+	 * Gets the state indicating if this series contributes to the stack or
+	 * riser data, i.e. if changes of its visibility or axes require
+	 * {@link SeriesSet#updateStackAndRiserData()}.
+	 *
+	 * @return true if the series is stacked or a bar series
+	 */
+	private boolean isStackOrRiserRelevant() {
+
+		return stackEnabled || getType() == SeriesType.BAR;
 	}
 
 	@Override
@@ -162,9 +193,27 @@ abstract public class Series<T> implements ISeries<T> {
 	public void setDataModel(CartesianSeriesModel<T> model) {
 
 		this.model = model;
+		hitIndex = null;
+		transformScaleX = 1;
+		transformOffsetX = 0;
+		transformScaleY = 1;
+		transformOffsetY = 0;
 		setCompressor();
-		compressor.setXSeries(getXSeries());
-		compressor.setYSeries(getYSeries());
+		if(chart.getSeriesSet() instanceof SeriesSet) {
+			compressor.setOutputCacheSize(((SeriesSet)chart.getSeriesSet()).getCompressionCacheSize());
+		}
+		compressor.setXSeries(getModelXSeries());
+		compressor.setYSeries(getModelYSeries());
+		dataChanged();
+	}
+
+	/**
+	 * Updates the axes and the stack data after the data or its transform
+	 * changed.
+	 */
+	private void dataChanged() {
+
+		dataVersion++;
 		Range xRange = getXRange();
 		if(xRange.lower <= 0) {
 			IAxis axis = chart.getAxisSet().getXAxis(xAxisId);
@@ -180,13 +229,144 @@ abstract public class Series<T> implements ISeries<T> {
 			}
 			stackEnabled = false;
 		}
+		if(stackEnabled) {
+			// the stacked values of this and the following series changed
+			((SeriesSet)chart.getSeriesSet()).updateStackAndRiserData();
+		}
+	}
+
+	/**
+	 * Gets the version of the data, which is incremented whenever the data
+	 * or its transform changes. The version can be compared to detect
+	 * changed data without comparing the data itself.
+	 *
+	 * @return the data version
+	 */
+	public long getDataVersion() {
+
+		return dataVersion;
+	}
+
+	/**
+	 * Applies an affine transform to the data, i.e. the x values are
+	 * multiplied by the X scale and the X offset is added; the same applies
+	 * to the y values. The transform is composed with the current transform.
+	 * <p>
+	 * The data model isn't changed. The transform is applied when the series
+	 * are compressed and when the x or y series are requested, hence the
+	 * data can be shifted and scaled without copying the data model. Setting
+	 * the data resets the transform.
+	 *
+	 * @param scaleX
+	 *            the X scale, not 0
+	 * @param offsetX
+	 *            the X offset
+	 * @param scaleY
+	 *            the Y scale, not 0
+	 * @param offsetY
+	 *            the Y offset
+	 * @throws IllegalArgumentException
+	 *             if a scale is 0, or a scale or an offset is not finite
+	 */
+	public void transformData(double scaleX, double offsetX, double scaleY, double offsetY) {
+
+		if(scaleX == 0 || scaleY == 0 || !Double.isFinite(scaleX) || !Double.isFinite(scaleY) || !Double.isFinite(offsetX) || !Double.isFinite(offsetY)) {
+			throw new IllegalArgumentException("The transform is invalid."); //$NON-NLS-1$
+		}
+		if(scaleX == 1 && offsetX == 0 && scaleY == 1 && offsetY == 0) {
+			return;
+		}
+		transformScaleX *= scaleX;
+		transformOffsetX = transformOffsetX * scaleX + offsetX;
+		transformScaleY *= scaleY;
+		transformOffsetY = transformOffsetY * scaleY + offsetY;
+		if(transformScaleX < 0) {
+			// the compressors require the order of the x values to be kept
+			materializeDataTransform();
+			return;
+		}
+		hitIndex = null;
+		updateCompressorTransform();
+		dataChanged();
+	}
+
+	/**
+	 * Gets the affine transform applied to the data.
+	 *
+	 * @return the X scale, X offset, Y scale and Y offset
+	 */
+	public double[] getDataTransform() {
+
+		return new double[]{transformScaleX, transformOffsetX, transformScaleY, transformOffsetY};
+	}
+
+	/**
+	 * Gets the state indicating if an affine transform is applied to the
+	 * data.
+	 *
+	 * @return true if the data is transformed
+	 */
+	public boolean isDataTransformed() {
+
+		return transformScaleX != 1 || transformOffsetX != 0 || transformScaleY != 1 || transformOffsetY != 0;
+	}
+
+	/**
+	 * Applies the affine transform to the data model, i.e. replaces the data
+	 * model by the transformed x and y series and resets the transform.
+	 */
+	@SuppressWarnings("unchecked")
+	public void materializeDataTransform() {
+
+		if(isDataTransformed()) {
+			setDataModel((CartesianSeriesModel<T>)new DoubleArraySeriesModel(getXSeries(), getYSeries()));
+		}
+	}
+
+	/**
+	 * Applies the affine transform to the compressor. The x values of a
+	 * category axis are the category indexes, hence only the Y transform is
+	 * applied in that case.
+	 */
+	void updateCompressorTransform() {
+
+		Axis xAxis = (Axis)chart.getAxisSet().getXAxis(xAxisId);
+		if(xAxis != null && xAxis.isValidCategoryAxis()) {
+			compressor.setTransform(1, 0, transformScaleY, transformOffsetY);
+		} else {
+			compressor.setTransform(transformScaleX, transformOffsetX, transformScaleY, transformOffsetY);
+		}
+	}
+
+	/**
+	 * Applies the affine transform to an x value of the data model.
+	 *
+	 * @param x
+	 *            the x value of the data model
+	 * @return the transformed x value
+	 */
+	public double transformX(double x) {
+
+		return x * transformScaleX + transformOffsetX;
+	}
+
+	/**
+	 * Applies the affine transform to a y value of the data model.
+	 *
+	 * @param y
+	 *            the y value of the data model
+	 * @return the transformed y value
+	 */
+	public double transformY(double y) {
+
+		return y * transformScaleY + transformOffsetY;
 	}
 
 	@Override
 	public void enableStack(boolean enabled) {
 
 		Number minY = getDataModel().getMinY();
-		if(enabled && (minY != null && minY.doubleValue() < 0)) {
+		if(enabled && (minY != null && getYRange().lower < 0)) {
 			throw new IllegalStateException(Messages.getString(Messages.STACKED_SERIES_CANT_CONTAIN_NEGATIVE_VALUES));
 		}
 		if(stackEnabled == enabled) {
@@ -262,6 +442,22 @@ abstract public class Series<T> implements ISeries<T> {
 	@Override
 	public double[] getXSeries() {
 
+		double[] xSeries = getModelXSeries();
+		if(transformScaleX != 1 || transformOffsetX != 0) {
+			for(int i = 0; i < xSeries.length; i++) {
+				xSeries[i] = transformX(xSeries[i]);
+			}
+		}
+		return xSeries;
+	}
+
+	/**
+	 * Gets the x values of the data model without the transform.
+	 *
+	 * @return the x series
+	 */
+	double[] getModelXSeries() {
+
 		CartesianSeriesModel<T> dataModel = getDataModel();
 		if(dataModel == null) {
 			return new double[0];
@@ -294,6 +490,22 @@ abstract public class Series<T> implements ISeries<T> {
 	@Override
 	public double[] getYSeries() {
 
+		double[] ySeries = getModelYSeries();
+		if(transformScaleY != 1 || transformOffsetY != 0) {
+			for(int i = 0; i < ySeries.length; i++) {
+				ySeries[i] = transformY(ySeries[i]);
+			}
+		}
+		return ySeries;
+	}
+
+	/**
+	 * Gets the y values of the data model without the transform.
+	 *
+	 * @return the y series
+	 */
+	double[] getModelYSeries() {
+
 		CartesianSeriesModel<T> dataModel = getDataModel();
 		if(dataModel == null) {
 			return new double[0];
@@ -325,9 +537,9 @@ abstract public class Series<T> implements ISeries<T> {
 		CartesianSeriesModel<T> dataModel = getDataModel();
 		if(dataModel != null) {
 			Number number = dataModel.getMinX();
-			minX = number == null ? 0 : number.doubleValue();
+			minX = number == null ? 0 : transformX(number.doubleValue());
 			number = dataModel.getMaxX();
-			maxX = number == null ? 0 : number.doubleValue();
+			maxX = number == null ? 0 : transformX(number.doubleValue());
 		}
 		return new Range(minX, maxX);
 	}
@@ -356,9 +568,15 @@ abstract public class Series<T> implements ISeries<T> {
 		CartesianSeriesModel<T> dataModel = getDataModel();
 		if(dataModel != null) {
 			Number number = dataModel.getMinY();
-			min = number == null ? 0 : number.doubleValue();
+			min = number == null ? 0 : transformY(number.doubleValue());
 			number = dataModel.getMaxY();
-			max = number == null ? 0 : number.doubleValue();
+			max = number == null ? 0 : transformY(number.doubleValue());
+			if(transformScaleY < 0) {
+				// a negative scale swaps the bounds
+				double swap = min;
+				min = max;
+				max = swap;
+			}
 		}
 		Axis xAxis = (Axis)chart.getAxisSet().getXAxis(xAxisId);
 		if(isValidStackSeries() && xAxis.isValidCategoryAxis()) {
@@ -376,11 +594,30 @@ abstract public class Series<T> implements ISeries<T> {
 	 *
 	 * @return the compressor
 	 */
-	protected ICompress getCompressor() {
+	public ICompress getCompressor() {
 
 		return compressor;
 	}
 
+	/**
+	 * Notifies that the compressor produced new compressed series, e.g.
+	 * because the data or the axis ranges changed. Subclasses may drop data
+	 * derived from the compressed series.
+	 */
+	protected void compressorChanged() {
+
+		hitIndex = null;
+	}
+
+	/**
+	 * Drops the spatial index for hit-testing, e.g. because the axis ranges
+	 * or the plot area size changed.
+	 */
+	public void invalidateHitIndex() {
+
+		hitIndex = null;
+	}
+
 	/**
 	 * Sets the compressor.
 	 */
@@ -403,7 +640,9 @@ abstract public class Series<T> implements ISeries<T> {
 			chart.getAxisSet().getXAxis(xAxisId).enableLogScale(false);
 		}
 		xAxisId = id;
-		((SeriesSet)chart.getSeriesSet()).updateStackAndRiserData();
+		if(isStackOrRiserRelevant()) {
+			((SeriesSet)chart.getSeriesSet()).updateStackAndRiserData();
+		}
 	}
 
 	@Override
@@ -445,6 +684,81 @@ abstract public class Series<T> implements ISeries<T> {
 	protected void setStackSeries(double[] stackSeries) {
 
 		this.stackSeries = stackSeries;
+		stackVersion++;
+		hitIndex = null;
+	}
+
+	/**
+	 * Gets the version of the stack series, which is incremented whenever
+	 * the stacked values are updated, e.g. because the data of a series
+	 * stacked below changed.
+	 *
+	 * @return the stack version
+	 */
+	public long getStackVersion() {
+
+		return stackVersion;
+	}
+
+	/**
+	 * Gets the y values as drawn, i.e. the stacked values if this is a valid
+	 * stack series and the y values with the transform applied otherwise.
+	 *
+	 * @return the y series
+	 */
+	public double[] getDrawnYSeries() {
+
+		if(isValidStackSeries()) {
+			return Arrays.copyOf(stackSeries, stackSeries.length);
+		}
+		return getYSeries();
+	}
+
+	@Override
+	public int getIndexAt(int x, int y, int delta) {
+
+		if(hitIndex == null || hitIndexOrientation != chart.getOrientation()) {
+			hitIndexOrientation = chart.getOrientation();
+			hitIndex = createHitIndex();
+			if(hitIndex == null) {
+				return -1;
+			}
+		}
+		return hitIndex.getIndexAt(x, y, delta);
+	}
+
+	/**
+	 * Creates the spatial index over the pixel coordinates of the compressed
+	 * series. Only the compressed data points are drawn, hence the others
+	 * can't be hit.
+	 *
+	 * @return the index, or null if the axes are not available
+	 */
+	private SeriesHitIndex createHitIndex() {
+
+		Axis xAxis = (Axis)chart.getAxisSet().getXAxis(xAxisId);
+		Axis yAxis = (Axis)chart.getAxisSet().getYAxis(yAxisId);
+		if(xAxis == null || yAxis == null || compressor == null) {
+			return null;
+		}
+		double[] xseries = compressor.getCompressedXSeries();
+		double[] yseries = compressor.getCompressedYSeries();
+		int[] indexes = compressor.getCompressedIndexes();
+		int size = Math.min(indexes.length, Math.min(xseries.length, yseries.length));
+		boolean category = xAxis.isValidCategoryAxis();
+		boolean stack = isValidStackSeries();
+		for(int i = 0; i < size; i++) {
+			if(category) {
+				xseries[i] = indexes[i];
+			}
+			if(stack && indexes[i] < stackSeries.length) {
+				yseries[i] = stackSeries[indexes[i]];
+			}
+		}
+		int[] xPixels = xAxis.getPixelCoordinates(xseries, 0, size, null);
+		int[] yPixels = yAxis.getPixelCoordinates(yseries, 0, size, null);
+		boolean isHorizontal = chart.getOrientation() == SWT.HORIZONTAL;
+		return new SeriesHitIndex(isHorizontal ? xPixels : yPixels, isHorizontal ? yPixels : xPixels, indexes);
 	}
 
 	@Override
@@ -466,6 +780,36 @@ abstract public class Series<T> implements ISeries<T> {
 		return new Point(getPixelCoordinate(hAxis, index), getPixelCoordinate(vAxis, index));
 	}
 
+	@Override
+	public int[] getPixelCoordinates() {
+
+		CartesianSeriesModel<T> dataModel = getDataModel();
+		if(!(dataModel instanceof IndexedSeriesModel<?>)) {
+			throw new IllegalStateException(Messages.getString(Messages.REQUIRES_INDEXED_SERIES_MODEL));
+		}
+		IAxis xAxis = chart.getAxisSet().getXAxis(xAxisId);
+		IAxis yAxis = chart.getAxisSet().getYAxis(yAxisId);
+		// get the data coordinates
+		double[] xSeries = getXSeries();
+		if(xAxis.isCategoryEnabled()) {
+			for(int i = 0; i < xSeries.length; i++) {
+				xSeries[i] = i;
+			}
+		}
+		double[] ySeries = isValidStackSeries() ? stackSeries : getYSeries();
+		int size = Math.min(xSeries.length, ySeries.length);
+		// get the pixel coordinates
+		int[] xPixels = xAxis.getPixelCoordinates(xSeries, 0, size, null);
+		int[] yPixels = yAxis.getPixelCoordinates(ySeries, 0, size, null);
+		boolean isHorizontal = chart.getOrientation() == SWT.HORIZONTAL;
+		int[] pixelCoordinates = new int[size * 2];
+		for(int i = 0; i < size; i++) {
+			pixelCoordinates[i * 2] = isHorizontal ? xPixels[i] : yPixels[i];
+			pixelCoordinates[i * 2 + 1] = isHorizontal ? yPixels[i] : xPixels[i];
+		}
+		return pixelCoordinates;
+	}
+
 	/**
 	 * Gets the pixel coordinates with given axis and series index.
 	 *
@@ -490,7 +834,7 @@ abstract public class Series<T> implements ISeries<T> {
 					if(index < 0 || indexedModel.size() <= index) {
 						throw new IllegalArgumentException("Series index is out of range."); //$NON-NLS-1$
 					}
-					dataCoordinate = dataModel.getX(indexedModel.itemAt(index)).doubleValue();
+					dataCoordinate = transformX(dataModel.getX(indexedModel.itemAt(index)).doubleValue());
 				}
 			} else if(axis.getDirection() == Direction.Y) {
 				if(isValidStackSeries()) {
@@ -502,7 +846,7 @@ abstract public class Series<T> implements ISeries<T> {
 					if(index < 0 || indexedModel.size() <= index) {
 						throw new IllegalArgumentException("Series index is out of range."); //$NON-NLS-1$
 					}
-					dataCoordinate = dataModel.getY(indexedModel.itemAt(index)).doubleValue();
+					dataCoordinate = transformY(dataModel.getY(indexedModel.itemAt(index)).doubleValue());
 				}
 			} else {
 				throw new IllegalStateException("unknown axis direction"); //$NON-NLS-1$
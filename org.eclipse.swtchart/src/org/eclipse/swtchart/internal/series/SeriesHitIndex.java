@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.internal.series;
+
+import org.eclipse.swt.SWT;
+
+/**
+ * A uniform grid over the pixel coordinates of the data points of a series.
+ * <p>
+ * The points are sorted by grid cell once when the index is built, so that
+ * a hit-test only visits the cells within the given distance instead of all
+ * data points. Queries don't allocate, hence the index can be used on every
+ * mouse move.
+ */
+public class SeriesHitIndex {
+
+	/** the minimum cell size in pixels */
+	private static final int MIN_CELL_SIZE = 16;
+	/** the maximum number of cells per data point, to bound the memory */
+	private static final int MAX_CELLS_PER_POINT = 4;
+	/** the horizontal coordinate of the grid origin */
+	private final int originH;
+	/** the vertical coordinate of the grid origin */
+	private final int originV;
+	/** the cell size in pixels */
+	private final int cellSize;
+	/** the number of columns */
+	private final int columns;
+	/** the number of rows */
+	private final int rows;
+	/** the offset of the first point of each cell, followed by the total count */
+	private final int[] cellStarts;
+	/** the horizontal coordinates sorted by cell */
+	private final int[] hs;
+	/** the vertical coordinates sorted by cell */
+	private final int[] vs;
+	/** the series indexes sorted by cell */
+	private final int[] indexes;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param hs
+	 *            the horizontal pixel coordinates
+	 * @param vs
+	 *            the vertical pixel coordinates
+	 * @param indexes
+	 *            the series indexes of the points
+	 */
+	public SeriesHitIndex(int[] hs, int[] vs, int[] indexes) {
+
+		if(hs == null || vs == null || indexes == null) {
+			SWT.error(SWT.ERROR_NULL_ARGUMENT);
+		}
+		int size = Math.min(indexes.length, Math.min(hs.length, vs.length));
+		int minH = Integer.MAX_VALUE;
+		int minV = Integer.MAX_VALUE;
+		int maxH = Integer.MIN_VALUE;
+		int maxV = Integer.MIN_VALUE;
+		for(int i = 0; i < size; i++) {
+			minH = Math.min(minH, hs[i]);
+			minV = Math.min(minV, vs[i]);
+			maxH = Math.max(maxH, hs[i]);
+			maxV = Math.max(maxV, vs[i]);
+		}
+		if(size == 0) {
+			minH = minV = maxH = maxV = 0;
+		}
+		originH = minH;
+		originV = minV;
+		/*
+		 * Enlarge the cells if the points are spread widely, e.g. far
+		 * outside of the plot area.
+		 */
+		long width = (long)maxH - minH + 1;
+		long height = (long)maxV - minV + 1;
+		long maxCells = Math.max(1, (long)size * MAX_CELLS_PER_POINT);
+		cellSize = (int)Math.max(MIN_CELL_SIZE, Math.ceil(Math.sqrt((double)width * height / maxCells)));
+		columns = (int)((width + cellSize - 1) / cellSize);
+		rows = (int)((height + cellSize - 1) / cellSize);
+		// counting sort of the points by cell
+		cellStarts = new int[columns * rows + 1];
+		int[] cells = new int[size];
+		for(int i = 0; i < size; i++) {
+			cells[i] = getCell(hs[i], vs[i]);
+			cellStarts[cells[i] + 1]++;
+		}
+		for(int i = 1; i < cellStarts.length; i++) {
+			cellStarts[i] += cellStarts[i - 1];
+		}
+		this.hs = new int[size];
+		this.vs = new int[size];
+		this.indexes = new int[size];
+		int[] offsets = new int[columns * rows];
+		for(int i = 0; i < size; i++) {
+			int position = cellStarts[cells[i]] + offsets[cells[i]]++;
+			this.hs[position] = hs[i];
+			this.vs[position] = vs[i];
+			this.indexes[position] = indexes[i];
+		}
+	}
+
+	/**
+	 * Gets the number of indexed points.
+	 *
+	 * @return the number of points
+	 */
+	public int size() {
+
+		return indexes.length;
+	}
+
+	/**
+	 * Gets the series index of the point closest to the given pixel
+	 * coordinates within the given distance, measured separately in both
+	 * directions.
+	 *
+	 * @param h
+	 *            the horizontal pixel coordinate
+	 * @param v
+	 *            the vertical pixel coordinate
+	 * @param delta
+	 *            the maximum distance in pixels
+	 * @return the series index, or -1 if there is no point within the
+	 *         distance
+	 */
+	public int getIndexAt(int h, int v, int delta) {
+
+		if(indexes.length == 0 || delta < 0) {
+			return -1;
+		}
+		int firstColumn = Math.max(0, Math.floorDiv(h - delta - originH, cellSize));
+		int lastColumn = Math.min(columns - 1, Math.floorDiv(h + delta - originH, cellSize));
+		int firstRow = Math.max(0, Math.floorDiv(v - delta - originV, cellSize));
+		int lastRow = Math.min(rows - 1, Math.floorDiv(v + delta - originV, cellSize));
+		int closest = -1;
+		long closestDistance = Long.MAX_VALUE;
+		for(int row = firstRow; row <= lastRow; row++) {
+			for(int column = firstColumn; column <= lastColumn; column++) {
+				int cell = row * columns + column;
+				for(int i = cellStarts[cell]; i < cellStarts[cell + 1]; i++) {
+					long dh = (long)hs[i] - h;
+					long dv = (long)vs[i] - v;
+					if(Math.abs(dh) > delta || Math.abs(dv) > delta) {
+						continue;
+					}
+					long distance = dh * dh + dv * dv;
+					// prefer the lower series index at equal distance
+					if(distance < closestDistance || (distance == closestDistance && indexes[i] < closest)) {
+						closest = indexes[i];
+						closestDistance = distance;
+					}
+				}
+			}
+		}
+		return closest;
+	}
+
+	private int getCell(int h, int v) {
+
+		int column = (int)(((long)h - originH) / cellSize);
+		int row = (int)(((long)v - originV) / cellSize);
+		return row * columns + column;
+	}
+}
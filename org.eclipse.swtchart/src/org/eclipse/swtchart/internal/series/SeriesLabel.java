@@ -14,15 +14,18 @@
 package org.eclipse.swtchart.internal.series;
 
 import java.text.DecimalFormat;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.graphics.Rectangle;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swtchart.ISeriesLabel;
-import org.eclipse.swtchart.internal.Util;
 
 /**
  * A series label.
@@ -45,6 +48,20 @@ public class SeriesLabel implements ISeriesLabel {
 	private static final Font DEFAULT_FONT = Display.getDefault().getSystemFont();
 	/** the default label format */
 	private static final String DEFAULT_FORMAT = "#.###########"; //$NON-NLS-1$
+	/** the maximum number of cached labels */
+	private static final int MAX_CACHED_LABELS = 65536;
+	/** the cell size in pixels of the occupancy grid used to cull labels */
+	private static final int GRID_CELL_SIZE = 8;
+	/** the cached labels per series index */
+	private final Map<Integer, CachedLabel> cachedLabels = new HashMap<>();
+	/** the decimal formats per format string */
+	private final Map<String, DecimalFormat> decimalFormats = new HashMap<>();
+	/** the font of the cached labels */
+	private Font cachedFont;
+	/** the occupancy grid of the placed labels */
+	private boolean[] occupancy = new boolean[0];
+	/** the number of labels drawn by the last batched draw */
+	private int drawnLabelCount;
 
 	/**
 	 * Constructor.
@@ -71,6 +88,7 @@ public class SeriesLabel implements ISeriesLabel {
 		} else {
 			this.format = format;
 		}
+		cachedLabels.clear();
 	}
 
 	@Override
@@ -84,6 +102,7 @@ public class SeriesLabel implements ISeriesLabel {
 	@Override
 	public void setFormats(String[] formats) {
 
+		cachedLabels.clear();
 		if(formats == null) {
 			this.formats = new String[0];
 			return;
@@ -169,29 +188,185 @@ public class SeriesLabel implements ISeriesLabel {
 		Color oldForeground = gc.getForeground();
 		gc.setForeground(color);
 		gc.setFont(getFont());
+		CachedLabel label = getCachedLabel(gc, ySeriesValue, seriesIndex);
+		if(label == null) {
+			return;
+		}
+		// draw label
+		if(alignment == SWT.CENTER) {
+			gc.drawString(label.text, (int)(h - label.extent.x / 2d), (int)(v - label.extent.y / 2d), true);
+		} else if(alignment == SWT.BOTTOM) {
+			gc.drawString(label.text, h, v, true);
+		}
+		gc.setForeground(oldForeground);
+	}
+
+	/**
+	 * Draws the series labels of all given data points.
+	 * <p>
+	 * The formatted texts and their extents are cached per series index and
+	 * are only recomputed when the value, the format or the font changes.
+	 * Labels overlapping previously placed ones are culled using a coarse
+	 * occupancy grid, so that dense series don't paint unreadable label
+	 * clutter.
+	 *
+	 * @param gc
+	 *            the GC object
+	 * @param hs
+	 *            the horizontal coordinates to draw labels
+	 * @param vs
+	 *            the vertical coordinates to draw labels
+	 * @param ySeries
+	 *            the Y series values
+	 * @param indexes
+	 *            the series indexes
+	 * @param alignment
+	 *            the alignment of label position (SWT.CENTER or SWT.BOTTOM)
+	 */
+	protected void draw(GC gc, int[] hs, int[] vs, double[] ySeries, int[] indexes, int alignment) {
+
+		drawnLabelCount = 0;
+		if(!isVisible) {
+			return;
+		}
+		Color oldForeground = gc.getForeground();
+		gc.setForeground(color);
+		gc.setFont(getFont());
+		// prepare the occupancy grid
+		Rectangle clipping = gc.getClipping();
+		int columns = clipping.width / GRID_CELL_SIZE + 1;
+		int rows = clipping.height / GRID_CELL_SIZE + 1;
+		if(occupancy.length < columns * rows) {
+			occupancy = new boolean[columns * rows];
+		} else {
+			Arrays.fill(occupancy, 0, columns * rows, false);
+		}
+		for(int i = 0; i < hs.length; i++) {
+			CachedLabel label = getCachedLabel(gc, ySeries[i], indexes[i]);
+			if(label == null) {
+				continue;
+			}
+			int x = hs[i];
+			int y = vs[i];
+			if(alignment == SWT.CENTER) {
+				x = (int)(x - label.extent.x / 2d);
+				y = (int)(y - label.extent.y / 2d);
+			} else if(alignment != SWT.BOTTOM) {
+				continue;
+			}
+			// cull labels outside of the clipping or overlapping placed ones
+			int x1 = x - clipping.x;
+			int y1 = y - clipping.y;
+			int x2 = x1 + label.extent.x;
+			int y2 = y1 + label.extent.y;
+			if(x2 < 0 || y2 < 0 || x1 > clipping.width || y1 > clipping.height) {
+				continue;
+			}
+			int column1 = Math.max(0, x1 / GRID_CELL_SIZE);
+			int row1 = Math.max(0, y1 / GRID_CELL_SIZE);
+			int column2 = Math.min(columns - 1, x2 / GRID_CELL_SIZE);
+			int row2 = Math.min(rows - 1, y2 / GRID_CELL_SIZE);
+			if(isOccupied(column1, row1, column2, row2, columns)) {
+				continue;
+			}
+			for(int row = row1; row <= row2; row++) {
+				Arrays.fill(occupancy, row * columns + column1, row * columns + column2 + 1, true);
+			}
+			gc.drawString(label.text, x, y, true);
+			drawnLabelCount++;
+		}
+		gc.setForeground(oldForeground);
+	}
+
+	/**
+	 * Gets the number of labels drawn by the last paint, i.e. without the
+	 * culled ones.
+	 *
+	 * @return the number of drawn labels
+	 */
+	public int getDrawnLabelCount() {
+
+		return drawnLabelCount;
+	}
+
+	/**
+	 * Gets the state indicating if any of the given grid cells is occupied.
+	 *
+	 * @param column1
+	 *            the first column
+	 * @param row1
+	 *            the first row
+	 * @param column2
+	 *            the last column
+	 * @param row2
+	 *            the last row
+	 * @param columns
+	 *            the number of columns of the grid
+	 * @return true if any cell is occupied
+	 */
+	private boolean isOccupied(int column1, int row1, int column2, int row2, int columns) {
+
+		for(int row = row1; row <= row2; row++) {
+			for(int column = column1; column <= column2; column++) {
+				if(occupancy[row * columns + column]) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Gets the cached label for the given value, formatting it if the cache is
+	 * stale. The font of the given GC must be the label font.
+	 *
+	 * @param gc
+	 *            the GC object
+	 * @param ySeriesValue
+	 *            the Y series value
+	 * @param seriesIndex
+	 *            the series index
+	 * @return the label, or <tt>null</tt> if the label is empty
+	 */
+	private CachedLabel getCachedLabel(GC gc, double ySeriesValue, int seriesIndex) {
+
+		Font labelFont = getFont();
+		if(labelFont != cachedFont) {
+			cachedLabels.clear();
+			cachedFont = labelFont;
+		}
 		// get format
 		String format1 = format;
 		if(formats.length > seriesIndex) {
 			format1 = formats[seriesIndex];
 		}
 		if(format1 == null || format1.equals("")) { //$NON-NLS-1$
-			return;
+			return null;
+		}
+		Integer key = Integer.valueOf(seriesIndex);
+		CachedLabel label = cachedLabels.get(key);
+		if(label != null && Double.compare(label.value, ySeriesValue) == 0 && label.format.equals(format1)) {
+			return label;
 		}
 		// get text
 		String text;
 		if(isDecimalFormat(format1)) {
-			text = new DecimalFormat(format1).format(ySeriesValue);
+			text = decimalFormats.computeIfAbsent(format1, DecimalFormat::new).format(ySeriesValue);
 		} else {
 			text = format1.replaceAll("'", ""); //$NON-NLS-1$ //$NON-NLS-2$
 		}
-		// draw label
-		if(alignment == SWT.CENTER) {
-			Point p = Util.getExtentInGC(font, text);
-			gc.drawString(text, (int)(h - p.x / 2d), (int)(v - p.y / 2d), true);
-		} else if(alignment == SWT.BOTTOM) {
-			gc.drawString(text, h, v, true);
+		Point extent;
+		if("".equals(text.trim())) { //$NON-NLS-1$
+			extent = new Point(0, gc.getFontMetrics().getHeight());
+		} else {
+			extent = gc.textExtent(text);
 		}
-		gc.setForeground(oldForeground);
+		if(cachedLabels.size() >= MAX_CACHED_LABELS) {
+			cachedLabels.clear();
+		}
+		label = new CachedLabel(ySeriesValue, format1, text, extent);
+		cachedLabels.put(key, label);
+		return label;
 	}
 
 	/**
@@ -215,4 +390,27 @@ public class SeriesLabel implements ISeriesLabel {
 		}
 		return true;
 	}
+
+	/**
+	 * A formatted label with its extent.
+	 */
+	private static class CachedLabel {
+
+		/** the value */
+		private final double value;
+		/** the format */
+		private final String format;
+		/** the text */
+		private final String text;
+		/** the text extent */
+		private final Point extent;
+
+		private CachedLabel(double value, String format, String text, Point extent) {
+
+			this.value = value;
+			this.format = format;
+			this.text = text;
+			this.extent = extent;
+		}
+	}
 }
@@ -0,0 +1,483 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.internal.series;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Device;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+
+/**
+ * A pure-Java rasterizer for line series.
+ * <p>
+ * <tt>GC</tt> is bound to the UI thread, hence all series are usually drawn
+ * on one core. The rasterizer instead splits the plot area into horizontal
+ * tiles and rasterizes the lines and symbols of all layers into an
+ * <tt>ImageData</tt> on worker threads, one tile per task. The segments are
+ * clipped to the plot area and rounded once before, so that adjacent tiles
+ * rasterize the same pixels along their borders, and bucketed by the tiles
+ * they touch, so that a tile only walks its own segments and symbols. Every
+ * tile is painted in layer order, so the overlap of series is the same as
+ * with <tt>GC</tt>. The result is composited onto the plot area with a
+ * single <tt>drawImage</tt> on the UI thread.
+ * <p>
+ * The output is aliased and only solid lines as well as circle and square
+ * symbols are supported, see {@link LineSeries#createRasterLayer(int, int)}.
+ */
+public class SeriesRasterizer {
+
+	/** the minimum number of rows of a tile */
+	private static final int MIN_TILE_HEIGHT = 16;
+	/** the number of tiles per available processor, for load balancing */
+	private static final int TILES_PER_PROCESSOR = 2;
+
+	private SeriesRasterizer() {
+
+		// prevent instantiation
+	}
+
+	/**
+	 * Rasterizes the given layers and draws the result in one operation.
+	 *
+	 * @param gc
+	 *            the graphics context
+	 * @param layers
+	 *            the layers in painting order
+	 * @param width
+	 *            the width of the plot area
+	 * @param height
+	 *            the height of the plot area
+	 */
+	public static void draw(GC gc, List<Layer> layers, int width, int height) {
+
+		if(layers.isEmpty() || width <= 0 || height <= 0) {
+			return;
+		}
+		Device device = gc.getDevice();
+		Image image = new Image(device, rasterize(layers, width, height));
+		try {
+			gc.drawImage(image, 0, 0);
+		} finally {
+			image.dispose();
+		}
+	}
+
+	/**
+	 * Rasterizes the given layers into an image data with alpha channel. The
+	 * tiles are processed in parallel; this method doesn't access any SWT
+	 * resource and returns after all tiles are done.
+	 *
+	 * @param layers
+	 *            the layers in painting order
+	 * @param width
+	 *            the image width
+	 * @param height
+	 *            the image height
+	 * @return the image data
+	 */
+	public static ImageData rasterize(List<Layer> layers, int width, int height) {
+
+		if(layers == null) {
+			SWT.error(SWT.ERROR_NULL_ARGUMENT);
+			return null; // to suppress warning
+		}
+		if(width <= 0 || height <= 0) {
+			SWT.error(SWT.ERROR_INVALID_ARGUMENT);
+		}
+		ImageData imageData = new ImageData(width, height, 24, new PaletteData(0xFF0000, 0xFF00, 0xFF));
+		imageData.alphaData = new byte[width * height];
+		int tiles = Runtime.getRuntime().availableProcessors() * TILES_PER_PROCESSOR;
+		int tileHeight = Math.max(MIN_TILE_HEIGHT, (height + tiles - 1) / tiles);
+		int tileCount = (height + tileHeight - 1) / tileHeight;
+		Layer[] layerArray = layers.toArray(new Layer[layers.size()]);
+		Geometry[] geometries = new Geometry[layerArray.length];
+		IntStream.range(0, layerArray.length).parallel().forEach(i -> {
+			geometries[i] = new Geometry(layerArray[i], width, height, tileHeight, tileCount);
+		});
+		IntStream.range(0, tileCount).parallel().forEach(tile -> {
+			int top = tile * tileHeight;
+			int bottom = Math.min(height, top + tileHeight);
+			new Tile(width, top, bottom).paint(layerArray, geometries, tile, imageData);
+		});
+		return imageData;
+	}
+
+	/**
+	 * The pixel coordinates and styles of one series, captured on the UI
+	 * thread.
+	 */
+	public static class Layer {
+
+		/** the horizontal pixel coordinates */
+		private final int[] hs;
+		/** the vertical pixel coordinates */
+		private final int[] vs;
+		/** the line color as 0xRRGGBB, or -1 to draw no line */
+		private final int lineColor;
+		/** the line width */
+		private final int lineWidth;
+		/** the symbol colors per point as 0xRRGGBB, or null to draw no symbols */
+		private final int[] symbolColors;
+		/** the symbol size */
+		private final int symbolSize;
+		/** true for square symbols, false for circles */
+		private final boolean squareSymbol;
+
+		/**
+		 * Constructor.
+		 *
+		 * @param hs
+		 *            the horizontal pixel coordinates
+		 * @param vs
+		 *            the vertical pixel coordinates
+		 * @param lineColor
+		 *            the line color as 0xRRGGBB, or -1 to draw no line
+		 * @param lineWidth
+		 *            the line width
+		 * @param symbolColors
+		 *            the symbol colors per point as 0xRRGGBB, or null to draw
+		 *            no symbols
+		 * @param symbolSize
+		 *            the symbol size
+		 * @param squareSymbol
+		 *            true for square symbols, false for circles
+		 */
+		public Layer(int[] hs, int[] vs, int lineColor, int lineWidth, int[] symbolColors, int symbolSize, boolean squareSymbol) {
+
+			this.hs = hs;
+			this.vs = vs;
+			this.lineColor = lineColor;
+			this.lineWidth = Math.max(1, lineWidth);
+			this.symbolColors = symbolColors;
+			this.symbolSize = symbolSize;
+			this.squareSymbol = squareSymbol;
+		}
+	}
+
+	/**
+	 * The segments of one layer in plot coordinates and the segments and
+	 * symbols touching each tile.
+	 */
+	private static class Geometry {
+
+		/** the clipped and rounded segments as x0, y0, x1, y1 */
+		private final int[] segments;
+		/** the indexes of the segments per tile */
+		private final int[][] tileSegments;
+		/** the indexes of the symbols per tile */
+		private final int[][] tileSymbols;
+
+		private Geometry(Layer layer, int width, int height, int tileHeight, int tileCount) {
+
+			int[] hs = layer.hs;
+			int[] vs = layer.vs;
+			int half = layer.lineWidth / 2;
+			/*
+			 * Segments are clipped to the range a stroke in the plot area can
+			 * touch. A single point is a segment of length zero.
+			 */
+			int count = 0;
+			int[] clipped = new int[0];
+			int[] low = new int[0];
+			int[] high = new int[0];
+			if(layer.lineColor != -1 && hs.length > 0) {
+				int size = Math.max(1, hs.length - 1);
+				clipped = new int[size * 4];
+				low = new int[size];
+				high = new int[size];
+				double[] segment = new double[4];
+				for(int i = 0; i < size; i++) {
+					int next = Math.min(i + 1, hs.length - 1);
+					segment[0] = hs[i];
+					segment[1] = vs[i];
+					segment[2] = hs[next];
+					segment[3] = vs[next];
+					if(clip(segment, -half - 1, -half - 1, width + half, height + half)) {
+						for(int j = 0; j < 4; j++) {
+							clipped[count * 4 + j] = (int)Math.round(segment[j]);
+						}
+						low[count] = Math.min(clipped[count * 4 + 1], clipped[count * 4 + 3]) - half;
+						high[count] = Math.max(clipped[count * 4 + 1], clipped[count * 4 + 3]) + half;
+						count++;
+					}
+				}
+			}
+			segments = clipped;
+			tileSegments = bucket(low, high, count, tileHeight, tileCount);
+			//
+			int symbols = 0;
+			if(layer.symbolColors != null) {
+				symbols = hs.length;
+				int size = layer.symbolSize;
+				low = new int[symbols];
+				high = new int[symbols];
+				for(int i = 0; i < symbols; i++) {
+					if(hs[i] + size < 0 || hs[i] - size >= width) {
+						// outside, not added to any tile
+						low[i] = 1;
+						high[i] = 0;
+					} else {
+						low[i] = vs[i] - size;
+						high[i] = vs[i] + size;
+					}
+				}
+			}
+			tileSymbols = bucket(low, high, symbols, tileHeight, tileCount);
+		}
+
+		/**
+		 * Gets the indexes of the items per tile.
+		 *
+		 * @param low
+		 *            the first row of each item
+		 * @param high
+		 *            the last row of each item
+		 * @param count
+		 *            the number of items
+		 * @param tileHeight
+		 *            the height of a tile
+		 * @param tileCount
+		 *            the number of tiles
+		 * @return the item indexes per tile
+		 */
+		private static int[][] bucket(int[] low, int[] high, int count, int tileHeight, int tileCount) {
+
+			int[] sizes = new int[tileCount];
+			for(int i = 0; i < count; i++) {
+				if(low[i] <= high[i]) {
+					int last = Math.min(tileCount - 1, Math.floorDiv(high[i], tileHeight));
+					for(int tile = Math.max(0, Math.floorDiv(low[i], tileHeight)); tile <= last; tile++) {
+						sizes[tile]++;
+					}
+				}
+			}
+			int[][] buckets = new int[tileCount][];
+			for(int tile = 0; tile < tileCount; tile++) {
+				buckets[tile] = new int[sizes[tile]];
+				sizes[tile] = 0;
+			}
+			for(int i = 0; i < count; i++) {
+				if(low[i] <= high[i]) {
+					int last = Math.min(tileCount - 1, Math.floorDiv(high[i], tileHeight));
+					for(int tile = Math.max(0, Math.floorDiv(low[i], tileHeight)); tile <= last; tile++) {
+						buckets[tile][sizes[tile]++] = i;
+					}
+				}
+			}
+			return buckets;
+		}
+	}
+
+	/**
+	 * A horizontal band of the image, painted by one worker thread.
+	 */
+	private static class Tile {
+
+		private final int width;
+		private final int top;
+		private final int bottom;
+		/** the pixels of the band as 0xRRGGBB */
+		private final int[] pixels;
+		/** the coverage of the band */
+		private final boolean[] covered;
+
+		private Tile(int width, int top, int bottom) {
+
+			this.width = width;
+			this.top = top;
+			this.bottom = bottom;
+			pixels = new int[width * (bottom - top)];
+			covered = new boolean[pixels.length];
+		}
+
+		private void paint(Layer[] layers, Geometry[] geometries, int tile, ImageData imageData) {
+
+			for(int i = 0; i < layers.length; i++) {
+				if(layers[i].lineColor != -1) {
+					paintLine(layers[i], geometries[i].segments, geometries[i].tileSegments[tile]);
+				}
+				if(layers[i].symbolColors != null) {
+					paintSymbols(layers[i], geometries[i].tileSymbols[tile]);
+				}
+			}
+			// the rows of the tiles are disjoint, hence can be written concurrently
+			for(int y = top; y < bottom; y++) {
+				int offset = (y - top) * width;
+				imageData.setPixels(0, y, width, pixels, offset);
+				for(int x = 0; x < width; x++) {
+					if(covered[offset + x]) {
+						imageData.alphaData[y * width + x] = (byte)0xFF;
+					}
+				}
+			}
+		}
+
+		private void paintLine(Layer layer, int[] segments, int[] indexes) {
+
+			for(int index : indexes) {
+				int offset = index * 4;
+				drawSegment(segments[offset], segments[offset + 1], segments[offset + 2], segments[offset + 3], layer.lineWidth, layer.lineColor);
+			}
+		}
+
+		private void paintSymbols(Layer layer, int[] indexes) {
+
+			int size = layer.symbolSize;
+			for(int i : indexes) {
+				int h = layer.hs[i];
+				int v = layer.vs[i];
+				int color = layer.symbolColors[Math.min(i, layer.symbolColors.length - 1)];
+				if(layer.squareSymbol) {
+					fillRect(h - size, v - size, size * 2, size * 2, color);
+				} else {
+					fillCircle(h, v, size, color);
+				}
+			}
+		}
+
+		/**
+		 * Draws a segment, stamping a square brush of the line width at each
+		 * step along the major axis. The segment is clipped parametrically to
+		 * the steps whose brush touches the band, and the minor coordinate of
+		 * each step is computed from the integer end points, so that all tiles
+		 * rasterize the same pixels and the strokes are continuous across the
+		 * tile borders.
+		 */
+		private void drawSegment(int x0, int y0, int x1, int y1, int lineWidth, int color) {
+
+			int dx = Math.abs(x1 - x0);
+			int dy = Math.abs(y1 - y0);
+			int sx = x0 < x1 ? 1 : -1;
+			int sy = y0 < y1 ? 1 : -1;
+			int half = lineWidth / 2;
+			// the range of the y steps whose brush touches the band
+			int yLow = top + half - lineWidth + 1;
+			int yHigh = bottom - 1 + half;
+			int low = Math.max(0, sy > 0 ? yLow - y0 : y0 - yHigh);
+			int high = Math.min(dy, sy > 0 ? yHigh - y0 : y0 - yLow);
+			if(low > high) {
+				return;
+			}
+			if(dx > dy) {
+				// one step per column, the y step k is round(k * dy / dx)
+				int first = low == 0 ? 0 : ceilDiv((2L * low - 1) * dx, 2L * dy);
+				int last = high == dy ? dx : ceilDiv((2L * high + 1) * dx, 2L * dy) - 1;
+				for(int k = first; k <= last; k++) {
+					stamp(x0 + sx * k, y0 + sy * (int)((2L * k * dy + dx) / (2L * dx)), lineWidth, half, color);
+				}
+			} else {
+				// one step per row, the x step k is round(k * dx / dy)
+				for(int k = low; k <= high; k++) {
+					int step = dy == 0 ? 0 : (int)((2L * k * dx + dy) / (2L * dy));
+					stamp(x0 + sx * step, y0 + sy * k, lineWidth, half, color);
+				}
+			}
+		}
+
+		private void stamp(int x, int y, int lineWidth, int half, int color) {
+
+			if(lineWidth == 1) {
+				setPixel(x, y, color);
+			} else {
+				fillRect(x - half, y - half, lineWidth, lineWidth, color);
+			}
+		}
+
+		private static int ceilDiv(long dividend, long divisor) {
+
+			return (int)((dividend + divisor - 1) / divisor);
+		}
+
+		private void fillRect(int x, int y, int w, int h, int color) {
+
+			int x0 = Math.max(0, x);
+			int x1 = Math.min(width, x + w);
+			int y0 = Math.max(top, y);
+			int y1 = Math.min(bottom, y + h);
+			for(int row = y0; row < y1; row++) {
+				int offset = (row - top) * width;
+				for(int column = x0; column < x1; column++) {
+					pixels[offset + column] = color;
+					covered[offset + column] = true;
+				}
+			}
+		}
+
+		private void fillCircle(int h, int v, int radius, int color) {
+
+			int y0 = Math.max(top, v - radius);
+			int y1 = Math.min(bottom, v + radius);
+			double radiusSquare = (double)radius * radius;
+			for(int row = y0; row < y1; row++) {
+				// sample at the pixel center, like an oval in a box of 2 * radius
+				double dy = row + 0.5 - v;
+				int dx = (int)Math.round(Math.sqrt(Math.max(0, radiusSquare - dy * dy)));
+				fillRect(h - dx, row, dx * 2, 1, color);
+			}
+		}
+
+		private void setPixel(int x, int y, int color) {
+
+			if(x >= 0 && x < width && y >= top && y < bottom) {
+				int index = (y - top) * width + x;
+				pixels[index] = color;
+				covered[index] = true;
+			}
+		}
+	}
+
+	/**
+	 * Clips the segment {x0, y0, x1, y1} in place with the Liang-Barsky
+	 * algorithm, so that Bresenham doesn't walk far outside the plot area.
+	 *
+	 * @return false if the segment is completely outside
+	 */
+	private static boolean clip(double[] segment, double minX, double minY, double maxX, double maxY) {
+
+		double x0 = segment[0];
+		double y0 = segment[1];
+		double dx = segment[2] - x0;
+		double dy = segment[3] - y0;
+		double[] p = {-dx, dx, -dy, dy};
+		double[] q = {x0 - minX, maxX - x0, y0 - minY, maxY - y0};
+		double t0 = 0;
+		double t1 = 1;
+		for(int i = 0; i < 4; i++) {
+			if(p[i] == 0) {
+				if(q[i] < 0) {
+					return false;
+				}
+			} else {
+				double t = q[i] / p[i];
+				if(p[i] < 0) {
+					t0 = Math.max(t0, t);
+				} else {
+					t1 = Math.min(t1, t);
+				}
+				if(t0 > t1) {
+					return false;
+				}
+			}
+		}
+		segment[0] = x0 + t0 * dx;
+		segment[1] = y0 + t0 * dy;
+		segment[2] = x0 + t1 * dx;
+		segment[3] = y0 + t1 * dy;
+		return true;
+	}
+}
@@ -15,8 +15,12 @@
  *******************************************************************************/
 package org.eclipse.swtchart.internal.series;
 
-import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
@@ -27,10 +31,12 @@ import org.eclipse.swt.graphics.Point;
 import org.eclipse.swtchart.Chart;
 import org.eclipse.swtchart.IAxis;
 import org.eclipse.swtchart.IAxis.Direction;
+import org.eclipse.swtchart.IPlotArea;
 import org.eclipse.swtchart.ISeries;
 import org.eclipse.swtchart.ISeries.SeriesType;
 import org.eclipse.swtchart.ISeriesSet;
 import org.eclipse.swtchart.Range;
+import org.eclipse.swtchart.internal.PlotArea;
 import org.eclipse.swtchart.internal.axis.Axis;
 import org.eclipse.swtchart.internal.compress.CompressConfig;
 import org.eclipse.swtchart.internal.compress.ICompress;
@@ -40,10 +46,20 @@ import org.eclipse.swtchart.internal.compress.ICompress;
  */
 public class SeriesSet implements ISeriesSet {
 
+	/** the compressed size in pixels relative to the plot area size */
+	private static final int PRECISION = 2;
+	/** the compressed size in pixels relative to the plot area size in draft mode */
+	private static final int DRAFT_PRECISION = 1;
 	/** the chart */
 	private final Chart chart;
 	/** the series */
 	private LinkedHashMap<String, Series<?>> seriesMap;
+	/** the reusable accumulator for stacked bar series */
+	private final StackAccumulator barStack = new StackAccumulator();
+	/** the reusable accumulator for stacked line series */
+	private final StackAccumulator lineStack = new StackAccumulator();
+	/** the number of previous compressed outputs kept per series */
+	private int compressionCacheSize = 0;
 
 	/**
 	 * Constructor.
@@ -248,16 +264,34 @@ public class SeriesSet implements ISeriesSet {
 	 */
 	public void compressAllSeries() {
 
+		// the pixel coordinates change with the axis ranges and the plot area size
+		for(Series<?> series : seriesMap.values()) {
+			series.invalidateHitIndex();
+		}
 		if(!chart.isCompressEnabled()) {
 			return;
 		}
 		//
 		try {
 			CompressConfig config = new CompressConfig();
-			final int PRECISION = 2;
-			Point p = chart.getPlotArea().getSize();
-			int width = p.x * PRECISION;
-			int height = p.y * PRECISION;
+			IPlotArea plotArea = chart.getPlotArea();
+			if(plotArea.isViewportTransitionActive()) {
+				// the plot area scales the previous image until the transition ends
+				return;
+			}
+			double precision = plotArea.isDraftMode() ? DRAFT_PRECISION : PRECISION;
+			if(plotArea instanceof PlotArea) {
+				/*
+				 * The coarse levels of detail visit only every n-th data point,
+				 * so that their cost is bounded by the level of detail.
+				 */
+				double detailLevel = ((PlotArea)plotArea).getDetailLevel();
+				precision = Math.min(precision, PRECISION * detailLevel);
+				config.setStride((int)Math.round(1 / detailLevel));
+			}
+			Point p = plotArea.getSize();
+			int width = Math.max(1, (int)Math.ceil(p.x * precision));
+			int height = Math.max(1, (int)Math.ceil(p.y * precision));
 			config.setSizeInPixel(width, height);
 			for(ISeries<?> series : getSeries()) {
 				int xAxisId = series.getXAxisId();
@@ -291,13 +325,41 @@ public class SeriesSet implements ISeriesSet {
 				}
 				config.setYRange(lower, upper);
 				ICompress compressor = ((Series<?>)series).getCompressor();
-				compressor.compress(config);
+				if(compressor.compress(config)) {
+					((Series<?>)series).compressorChanged();
+				}
 			}
 		} catch(Exception e) {
 			e.printStackTrace();
 		}
 	}
 
+	/**
+	 * Sets the number of previous compressed outputs kept per series, e.g.
+	 * to go back to previous viewports without compressing the series
+	 * again. The default size is 0.
+	 * 
+	 * @param size
+	 *            the number of compressed outputs
+	 */
+	public void setCompressionCacheSize(int size) {
+
+		compressionCacheSize = Math.max(0, size);
+		for(Series<?> series : seriesMap.values()) {
+			series.getCompressor().setOutputCacheSize(compressionCacheSize);
+		}
+	}
+
+	/**
+	 * Gets the number of previous compressed outputs kept per series.
+	 * 
+	 * @return the number of compressed outputs
+	 */
+	public int getCompressionCacheSize() {
+
+		return compressionCacheSize;
+	}
+
 	/**
 	 * Updates the compressor associated with the given axis.
 	 * <p>
@@ -326,9 +388,10 @@ public class SeriesSet implements ISeriesSet {
 					xSeries[i] = i;
 				}
 				compressor.setXSeries(xSeries);
-			} else if(((Series<?>)series).getXSeries() != null) {
-				compressor.setXSeries(((Series<?>)series).getXSeries());
+			} else if(((Series<?>)series).getModelXSeries() != null) {
+				compressor.setXSeries(((Series<?>)series).getModelXSeries());
 			}
+			((Series<?>)series).updateCompressorTransform();
 		}
 		compressAllSeries();
 	}
@@ -341,14 +404,32 @@ public class SeriesSet implements ISeriesSet {
 		if(chart.isUpdateSuspended()) {
 			return;
 		}
+		/*
+		 * group the visible series by axis pair once instead of iterating
+		 * all series for every pair of axes
+		 */
+		Map<Long, List<Series<?>>> seriesByAxes = new HashMap<>();
+		for(Series<?> series : seriesMap.values()) {
+			if(series.isVisible()) {
+				seriesByAxes.computeIfAbsent(getAxesKey(series.getXAxisId(), series.getYAxisId()), k -> new ArrayList<>()).add(series);
+			}
+		}
 		for(IAxis xAxis : chart.getAxisSet().getXAxes()) {
 			((Axis)xAxis).setNumRisers(0);
 			for(IAxis yAxis : chart.getAxisSet().getYAxes()) {
-				updateStackAndRiserData(xAxis, yAxis);
+				List<Series<?>> seriesList = seriesByAxes.get(getAxesKey(xAxis.getId(), yAxis.getId()));
+				if(seriesList != null) {
+					updateStackAndRiserData(xAxis, yAxis, seriesList);
+				}
 			}
 		}
 	}
 
+	private static Long getAxesKey(int xAxisId, int yAxisId) {
+
+		return Long.valueOf(((long)xAxisId << 32) | (yAxisId & 0xFFFFFFFFL));
+	}
+
 	/**
 	 * Updates the stack and riser data for given axes.
 	 * 
@@ -356,35 +437,38 @@ public class SeriesSet implements ISeriesSet {
 	 *            the X axis
 	 * @param yAxis
 	 *            the Y axis
+	 * @param seriesList
+	 *            the visible series of the given axes
 	 */
-	private void updateStackAndRiserData(IAxis xAxis, IAxis yAxis) {
+	private void updateStackAndRiserData(IAxis xAxis, IAxis yAxis, List<Series<?>> seriesList) {
 
 		int riserCnt = 0;
 		int stackRiserPosition = -1;
-		double[] stackBarSeries = null;
-		double[] stackLineSeries = null;
-		if(((Axis)xAxis).isValidCategoryAxis()) {
+		boolean stackable = !yAxis.isLogScaleEnabled() && ((Axis)xAxis).isValidCategoryAxis();
+		boolean validStack = false;
+		if(stackable) {
 			String[] categorySeries = xAxis.getCategorySeries();
 			if(categorySeries != null) {
-				int size = categorySeries.length;
-				stackBarSeries = new double[size];
-				stackLineSeries = new double[size];
+				barStack.reset(categorySeries.length);
+				lineStack.reset(categorySeries.length);
+				validStack = true;
 			}
 		}
-		for(ISeries<?> series : getSeries()) {
-			if(series.getXAxisId() != xAxis.getId() || series.getYAxisId() != yAxis.getId() || !series.isVisible()) {
-				continue;
-			}
-			if(series.isStackEnabled() && !chart.getAxisSet().getYAxis(series.getYAxisId()).isLogScaleEnabled() && ((Axis)xAxis).isValidCategoryAxis()) {
+		for(Series<?> series : seriesList) {
+			if(series.isStackEnabled() && stackable) {
 				if(series.getType() == SeriesType.BAR) {
 					if(stackRiserPosition == -1) {
 						stackRiserPosition = riserCnt;
 						riserCnt++;
 					}
 					((BarSeries<?>)series).setRiserIndex(((Axis)xAxis).getNumRisers() + stackRiserPosition);
-					setStackSeries(stackBarSeries, series);
+					if(validStack) {
+						barStack.add(series);
+					}
 				} else if(series.getType() == SeriesType.LINE) {
-					setStackSeries(stackLineSeries, series);
+					if(validStack) {
+						lineStack.add(series);
+					}
 				}
 			} else {
 				if(series.getType() == SeriesType.BAR) {
@@ -396,27 +480,72 @@ public class SeriesSet implements ISeriesSet {
 	}
 
 	/**
-	 * Sets the stack series.
-	 * 
-	 * @param stackSeries
-	 *            the stack series
-	 * @param series
-	 *            the series
+	 * Accumulates the stacked values with compensated (Kahan-Babuska)
+	 * summation, which is about as accurate as summing up with
+	 * <tt>BigDecimal</tt> but doesn't allocate per value. The buffers are
+	 * reused for all axis pairs.
 	 */
-	private static void setStackSeries(double[] stackSeries, ISeries<?> series) {
-
-		double[] ySeries = series.getYSeries();
-		if(ySeries == null || stackSeries == null) {
-			return;
+	private static class StackAccumulator {
+
+		/** the running sums */
+		private double[] sums = new double[0];
+		/** the running compensations of the lost low-order bits */
+		private double[] compensations = new double[0];
+		/** the number of categories */
+		private int size;
+
+		/**
+		 * Resets the accumulator.
+		 * 
+		 * @param size
+		 *            the number of categories
+		 */
+		private void reset(int size) {
+
+			if(sums.length < size) {
+				sums = new double[size];
+				compensations = new double[size];
+			} else {
+				Arrays.fill(sums, 0, size, 0);
+				Arrays.fill(compensations, 0, size, 0);
+			}
+			this.size = size;
 		}
-		for(int i = 0; i < stackSeries.length; i++) {
-			if(i >= ySeries.length) {
-				break;
+
+		/**
+		 * Adds the Y series of the given series and sets the accumulated
+		 * values as its stack series.
+		 * 
+		 * @param series
+		 *            the series
+		 */
+		private void add(Series<?> series) {
+
+			double[] ySeries = series.getYSeries();
+			if(ySeries == null) {
+				return;
+			}
+			int length = Math.min(size, ySeries.length);
+			for(int i = 0; i < length; i++) {
+				double sum = sums[i];
+				double value = ySeries[i];
+				double total = sum + value;
+				if(Math.abs(sum) >= Math.abs(value)) {
+					compensations[i] += (sum - total) + value;
+				} else {
+					compensations[i] += (value - total) + sum;
+				}
+				sums[i] = total;
+			}
+			// reuse the previous stack series of the series if possible
+			double[] stackSeries = series.stackSeries;
+			if(stackSeries == null || stackSeries.length != size) {
+				stackSeries = new double[size];
+			}
+			for(int i = 0; i < size; i++) {
+				stackSeries[i] = sums[i] + compensations[i];
 			}
-			stackSeries[i] = BigDecimal.valueOf(stackSeries[i]).add(BigDecimal.valueOf(ySeries[i])).doubleValue();
+			series.setStackSeries(stackSeries);
 		}
-		double[] copiedStackSeries = new double[stackSeries.length];
-		System.arraycopy(stackSeries, 0, copiedStackSeries, 0, stackSeries.length);
-		((Series<?>)series).setStackSeries(copiedStackSeries);
 	}
 }
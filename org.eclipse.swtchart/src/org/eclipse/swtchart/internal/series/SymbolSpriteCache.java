@@ -0,0 +1,294 @@
+/*******************************************************************************
+ * Copyright (c) 2026 SWTChart project.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ * SWTChart project - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.swtchart.internal.series;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Device;
+import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.PaletteData;
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.graphics.RGB;
+import org.eclipse.swtchart.ILineSeries.PlotSymbolType;
+
+/**
+ * A cache of pre-rendered plot symbols.
+ * <p>
+ * Each symbol is rendered once into an image with alpha channel and is then
+ * stamped with <tt>GC.drawImage</tt> for every data point, which is much
+ * cheaper than issuing the vector drawing calls per point.
+ * <p>
+ * The alpha channel is extracted by rendering the symbol twice, on a black
+ * and on a white background. This works for anti-aliased shapes as well as
+ * for colored glyphs like emojis.
+ */
+public class SymbolSpriteCache {
+
+	/** the maximum number of cached sprites */
+	private static final int MAX_SPRITES = 64;
+	/** the padding in pixels around the symbol */
+	private static final int PADDING = 1;
+	/** the sprites */
+	private final Map<SpriteKey, Sprite> sprites;
+
+	/**
+	 * Paints a single symbol centered at the given coordinates.
+	 */
+	@FunctionalInterface
+	public interface ISymbolPainter {
+
+		/**
+		 * Paints the symbol.
+		 *
+		 * @param gc
+		 *            the graphics context
+		 * @param h
+		 *            the horizontal coordinate of the symbol center
+		 * @param v
+		 *            the vertical coordinate of the symbol center
+		 */
+		void paint(GC gc, int h, int v);
+	}
+
+	/**
+	 * Constructor.
+	 */
+	public SymbolSpriteCache() {
+
+		sprites = new LinkedHashMap<SpriteKey, Sprite>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Entry<SpriteKey, Sprite> eldest) {
+
+				if(size() > MAX_SPRITES) {
+					eldest.getValue().dispose();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Gets the sprite for the given symbol, rendering it if it is not yet
+	 * cached.
+	 *
+	 * @param gc
+	 *            the graphics context the sprite will be stamped on
+	 * @param type
+	 *            the symbol type
+	 * @param size
+	 *            the symbol size
+	 * @param color
+	 *            the symbol color
+	 * @param antialias
+	 *            the anti-aliasing value
+	 * @param extendedSymbol
+	 *            the text used for {@link PlotSymbolType#EMOJI}, ignored otherwise
+	 * @param painter
+	 *            the painter used to render the symbol
+	 * @return the sprite
+	 */
+	public Sprite getSprite(GC gc, PlotSymbolType type, int size, Color color, int antialias, String extendedSymbol, ISymbolPainter painter) {
+
+		boolean textual = type == PlotSymbolType.EMOJI;
+		SpriteKey key = new SpriteKey(type, size, color.getRGB(), antialias, gc.getLineWidth(), textual ? gc.getFont() : null, textual ? extendedSymbol : null);
+		Sprite sprite = sprites.get(key);
+		if(sprite == null || sprite.image.isDisposed()) {
+			sprite = createSprite(gc, key, painter);
+			sprites.put(key, sprite);
+		}
+		return sprite;
+	}
+
+	/**
+	 * Disposes all cached sprites.
+	 */
+	public void dispose() {
+
+		Iterator<Sprite> iterator = sprites.values().iterator();
+		while(iterator.hasNext()) {
+			iterator.next().dispose();
+			iterator.remove();
+		}
+	}
+
+	private static Sprite createSprite(GC gc, SpriteKey key, ISymbolPainter painter) {
+
+		Device device = gc.getDevice();
+		int border = PADDING + key.lineWidth;
+		int width;
+		int height;
+		if(key.font != null) {
+			Point extent = gc.textExtent(key.text);
+			width = extent.x + border * 2;
+			height = extent.y + border * 2;
+		} else {
+			width = key.size * 2 + border * 2 + 1;
+			height = width;
+		}
+		width = Math.max(width, 1);
+		height = Math.max(height, 1);
+		int h = width / 2;
+		int v = height / 2;
+		ImageData onBlack = renderOnBackground(device, key, painter, width, height, h, v, new RGB(0, 0, 0));
+		ImageData onWhite = renderOnBackground(device, key, painter, width, height, h, v, new RGB(255, 255, 255));
+		/*
+		 * alpha = 1 - (white - black), color = black / alpha
+		 */
+		PaletteData palette = new PaletteData(0xFF0000, 0xFF00, 0xFF);
+		ImageData spriteData = new ImageData(width, height, 24, palette);
+		for(int y = 0; y < height; y++) {
+			for(int x = 0; x < width; x++) {
+				RGB black = onBlack.palette.getRGB(onBlack.getPixel(x, y));
+				RGB white = onWhite.palette.getRGB(onWhite.getPixel(x, y));
+				int delta = ((white.red - black.red) + (white.green - black.green) + (white.blue - black.blue)) / 3;
+				int alpha = Math.max(0, Math.min(255, 255 - delta));
+				RGB rgb;
+				if(alpha == 0) {
+					rgb = key.rgb;
+				} else {
+					rgb = new RGB(unpremultiply(black.red, alpha), unpremultiply(black.green, alpha), unpremultiply(black.blue, alpha));
+				}
+				spriteData.setPixel(x, y, palette.getPixel(rgb));
+				spriteData.setAlpha(x, y, alpha);
+			}
+		}
+		return new Sprite(new Image(device, spriteData), h, v);
+	}
+
+	private static ImageData renderOnBackground(Device device, SpriteKey key, ISymbolPainter painter, int width, int height, int h, int v, RGB background) {
+
+		Image image = new Image(device, width, height);
+		GC gc = new GC(image);
+		Color backgroundColor = new Color(device, background);
+		try {
+			gc.setBackground(backgroundColor);
+			gc.fillRectangle(0, 0, width, height);
+			gc.setAntialias(key.antialias);
+			gc.setLineWidth(key.lineWidth);
+			if(key.font != null) {
+				gc.setFont(key.font);
+			}
+			painter.paint(gc, h, v);
+		} finally {
+			gc.dispose();
+			backgroundColor.dispose();
+		}
+		ImageData imageData = image.getImageData();
+		image.dispose();
+		return imageData;
+	}
+
+	private static int unpremultiply(int value, int alpha) {
+
+		return Math.min(255, value * 255 / alpha);
+	}
+
+	/**
+	 * A pre-rendered symbol.
+	 */
+	public static class Sprite {
+
+		/** the image with alpha channel */
+		private final Image image;
+		/** the horizontal offset of the symbol center */
+		private final int offsetX;
+		/** the vertical offset of the symbol center */
+		private final int offsetY;
+
+		private Sprite(Image image, int offsetX, int offsetY) {
+
+			this.image = image;
+			this.offsetX = offsetX;
+			this.offsetY = offsetY;
+		}
+
+		/**
+		 * Stamps the sprite centered at the given coordinates.
+		 *
+		 * @param gc
+		 *            the graphics context
+		 * @param h
+		 *            the horizontal coordinate
+		 * @param v
+		 *            the vertical coordinate
+		 */
+		public void draw(GC gc, int h, int v) {
+
+			gc.drawImage(image, h - offsetX, v - offsetY);
+		}
+
+		private void dispose() {
+
+			if(!image.isDisposed()) {
+				image.dispose();
+			}
+		}
+	}
+
+	/**
+	 * The key identifying a sprite.
+	 */
+	private static class SpriteKey {
+
+		private final PlotSymbolType type;
+		private final int size;
+		private final RGB rgb;
+		private final int antialias;
+		private final int lineWidth;
+		private final Font font;
+		private final String text;
+
+		private SpriteKey(PlotSymbolType type, int size, RGB rgb, int antialias, int lineWidth, Font font, String text) {
+
+			this.type = type;
+			this.size = size;
+			this.rgb = rgb;
+			this.antialias = antialias;
+			this.lineWidth = lineWidth;
+			this.font = font;
+			this.text = text;
+		}
+
+		@Override
+		public int hashCode() {
+
+			return Objects.hash(type, size, rgb, antialias, lineWidth, font, text);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if(this == obj) {
+				return true;
+			}
+			if(!(obj instanceof SpriteKey)) {
+				return false;
+			}
+			SpriteKey other = (SpriteKey)obj;
+			return type == other.type && size == other.size && antialias == other.antialias && lineWidth == other.lineWidth //
+					&& Objects.equals(rgb, other.rgb) && Objects.equals(font, other.font) && Objects.equals(text, other.text);
+		}
+	}
+}
@@ -87,7 +87,8 @@ public class CircularLegend extends Composite implements ILegend, PaintListener
 		visible = true;
 		position = DEFAULT_POSITION;
 		cellBounds = new HashMap<String, Rectangle>();
-		defaultFont = Resources.getFont("Tahoma", DEFAULT_FONT_SIZE, SWT.NORMAL); //$NON-NLS-1$
+		defaultFont = Resources.acquireFont("Tahoma", DEFAULT_FONT_SIZE, SWT.NORMAL); //$NON-NLS-1$
+		addDisposeListener(e -> Resources.releaseFont(defaultFont));
 		setFont(defaultFont);
 		setForeground(DEFAULT_FOREGROUND);
 		setBackground(DEFAULT_BACKGROUND);